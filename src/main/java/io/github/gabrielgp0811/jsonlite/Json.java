@@ -3,8 +3,11 @@
  */
 package io.github.gabrielgp0811.jsonlite;
 
+import java.io.Reader;
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -15,19 +18,33 @@ import java.util.Date;
 
 import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
 import io.github.gabrielgp0811.jsonlite.converter.Converter;
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonBindingDeserializerImpl;
 import io.github.gabrielgp0811.jsonlite.converter.impl.JsonDeserializerImpl;
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonParallelDeserializerImpl;
 import io.github.gabrielgp0811.jsonlite.exception.JsonException;
 import io.github.gabrielgp0811.jsonlite.impl.JsonBoolean;
 import io.github.gabrielgp0811.jsonlite.impl.JsonCollection;
 import io.github.gabrielgp0811.jsonlite.impl.JsonDate;
+import io.github.gabrielgp0811.jsonlite.impl.JsonDoubleArray;
 import io.github.gabrielgp0811.jsonlite.impl.JsonEnum;
+import io.github.gabrielgp0811.jsonlite.impl.JsonIntArray;
 import io.github.gabrielgp0811.jsonlite.impl.JsonLocalDate;
 import io.github.gabrielgp0811.jsonlite.impl.JsonLocalDateTime;
 import io.github.gabrielgp0811.jsonlite.impl.JsonLocalTime;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLongArray;
 import io.github.gabrielgp0811.jsonlite.impl.JsonNull;
 import io.github.gabrielgp0811.jsonlite.impl.JsonNumber;
 import io.github.gabrielgp0811.jsonlite.impl.JsonObject;
 import io.github.gabrielgp0811.jsonlite.impl.JsonString;
+import io.github.gabrielgp0811.jsonlite.parser.JsonHandler;
+import io.github.gabrielgp0811.jsonlite.parser.JsonPathFilter;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReaderPool;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSymbolTable;
+import io.github.gabrielgp0811.jsonlite.parser.JsonTape;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+import io.github.gabrielgp0811.jsonlite.parser.ParserLimits;
+import io.github.gabrielgp0811.jsonlite.parser.Utf8JsonReader;
 import io.github.gabrielgp0811.jsonlite.serializer.Serializer;
 import io.github.gabrielgp0811.jsonlite.serializer.impl.JsonSerializerImpl;
 import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
@@ -37,6 +54,14 @@ import io.github.gabrielgp0811.jsonlite.util.Util;
  * Main class responsible for converting Java objects (Array, Boolean, Date,
  * Enum, LocalDate, LocalDateTime, LocalTime, Number, Object, String, etc) into
  * JSON objects.
+ * <p>
+ * JSON strings and bytes are read {@link JsonReader#setLenient(boolean)
+ * leniently}, as they always were: missing, trailing or repeated commas,
+ * unterminated strings, objects and arrays, invalid escape sequences and
+ * unknown values don't make the conversion fail. Strict parsing is available
+ * through {@link JsonDeserializerImpl} and {@link JsonReader}, which are strict
+ * by default.
+ * </p>
  * 
  * @author gabrielgp0811
  */
@@ -47,6 +72,12 @@ public final class Json implements Serializable {
 	 */
 	private static final long serialVersionUID = 7419803458091368828L;
 
+	/**
+	 * The deserializer shared by the conversions of JSON strings and bytes.
+	 */
+	private static final JsonDeserializerImpl DESERIALIZER = new JsonDeserializerImpl(JsonSymbolTable.SHARED, null,
+			true);
+
 	/**
 	 * 
 	 */
@@ -61,7 +92,7 @@ public final class Json implements Serializable {
 	 * @return The JSON object.
 	 */
 	public static JsonEntry<?> fromJson(String json) {
-		Converter<String, JsonEntry<?>> deserializer = new JsonDeserializerImpl();
+		Converter<String, JsonEntry<?>> deserializer = DESERIALIZER;
 
 		try {
 			return deserializer.convert(json);
@@ -71,6 +102,321 @@ public final class Json implements Serializable {
 		return null;
 	}
 
+	/**
+	 * Converts the JSON characters <code>json</code>, such as a
+	 * <code>java.lang.StringBuilder</code> or the characters between the position
+	 * and the limit of a <code>java.nio.CharBuffer</code>, into a JSON object,
+	 * without turning them into a <code>java.lang.String</code> first.
+	 * 
+	 * @param json The JSON characters.
+	 * @return The JSON object.
+	 */
+	public static JsonEntry<?> fromJson(CharSequence json) {
+		try {
+			return DESERIALIZER.convert(json);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON characters in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> characters, into a JSON
+	 * object. The array is parsed in place and is not copied.
+	 * 
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The JSON object.
+	 */
+	public static JsonEntry<?> fromJson(char[] json, int offset, int length) {
+		try {
+			return DESERIALIZER.convert(json, offset, length);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON characters read from <code>in</code> into a JSON object.
+	 * The input is read in chunks and is not closed.
+	 * 
+	 * @param in The input.
+	 * @return The JSON object.
+	 */
+	public static JsonEntry<?> fromJsonReader(Reader in) {
+		try {
+			return DESERIALIZER.convert(in);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON string <code>json</code> into a JSON object holding only
+	 * the values selected by <code>paths</code> and their ancestors, such as
+	 * <code>$.payload.items[*].id</code> or <code>/payload/items/0/id</code>.
+	 * Any other subtree is skipped without being decoded.
+	 * 
+	 * @param json  The JSON string.
+	 * @param paths The JSON Pointers or simple JSONPaths. When empty, the whole
+	 *              document is converted.
+	 * @return The pruned JSON object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the string or a path is
+	 *         malformed.
+	 * @see JsonPathFilter
+	 */
+	public static JsonEntry<?> fromJsonPaths(String json, String... paths) {
+		return fromJsonWithLimits(json, null, paths);
+	}
+
+	/**
+	 * Converts the JSON string <code>json</code> into a JSON object, failing when
+	 * the document exceeds <code>limits</code>. When <code>paths</code> are given,
+	 * the JSON object holds only the values they select and their ancestors, as
+	 * in {@link #fromJsonPaths(String, String...)}.
+	 * 
+	 * @param json   The JSON string.
+	 * @param limits The limits on the document, or <strong><span style=
+	 *               "color:#7f0055">null</span></strong> for
+	 *               {@link ParserLimits#DEFAULT}.
+	 * @param paths  The JSON Pointers or simple JSONPaths. When empty, the whole
+	 *               document is converted.
+	 * @return The JSON object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the string or a path is
+	 *         malformed, or the document is beyond the limits.
+	 * @see JsonPathFilter
+	 */
+	public static JsonEntry<?> fromJsonWithLimits(String json, ParserLimits limits, String... paths) {
+		if (json == null) {
+			return null;
+		}
+
+		JsonDeserializerImpl deserializer = new JsonDeserializerImpl(JsonSymbolTable.SHARED,
+				limits != null ? limits : ParserLimits.DEFAULT, true);
+
+		try {
+			JsonPathFilter filter = paths == null || paths.length == 0 ? null : JsonPathFilter.compile(paths);
+
+			JsonReader reader = JsonReaderPool.SHARED.acquire(json);
+
+			try {
+				return deserializer.convert(reader, filter);
+			} finally {
+				JsonReaderPool.SHARED.release(reader);
+			}
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON string <code>json</code> into a JSON object whose
+	 * children are only decoded when first accessed.
+	 * <p>
+	 * A single pass indexes the structure of the document. Names, values and
+	 * subtrees are then decoded on demand by {@link JsonEntry#getChild(String)},
+	 * {@link JsonEntry#getChild(int)}, {@link JsonEntry#getValue()} and
+	 * <code>toJavaObject</code>, so untouched attributes cost nothing more than
+	 * the index.
+	 * </p>
+	 * 
+	 * @param json The JSON string.
+	 * @return The JSON object.
+	 * @see JsonTape
+	 */
+	public static JsonEntry<?> fromJsonLazy(String json) {
+		if (json == null) {
+			return null;
+		}
+
+		try {
+			return DESERIALIZER.convert(new JsonTape(json.toCharArray(), 0, json.length()));
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the UTF-8 encoded JSON bytes <code>json</code> into a JSON object.
+	 * <p>
+	 * Invoke this method is the same as
+	 * <code>fromJsonBytes(json, 0, json.length)</code>.
+	 * </p>
+	 * 
+	 * @param json The JSON bytes.
+	 * @return The JSON object.
+	 * @see #fromJsonBytes(byte[], int, int)
+	 */
+	public static JsonEntry<?> fromJsonBytes(byte[] json) {
+		if (json == null) {
+			return null;
+		}
+
+		return fromJsonBytes(json, 0, json.length);
+	}
+
+	/**
+	 * Converts the UTF-8 encoded JSON bytes in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> bytes, into a JSON
+	 * object. The bytes are parsed directly, without decoding them into a
+	 * <code>java.lang.String</code> first.
+	 * 
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The JSON object.
+	 */
+	public static JsonEntry<?> fromJsonBytes(byte[] json, int offset, int length) {
+		try {
+			return DESERIALIZER.convert(json, offset, length);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the UTF-8 encoded JSON bytes between the position and the limit of
+	 * <code>json</code> into a JSON object. Heap and direct buffers are supported,
+	 * and the buffer's position is not changed.
+	 * 
+	 * @param json The JSON bytes.
+	 * @return The JSON object.
+	 */
+	public static JsonEntry<?> fromJsonBuffer(ByteBuffer json) {
+		try {
+			return DESERIALIZER.convert(json);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the UTF-8 encoded JSON file at <code>path</code> into a JSON
+	 * object.
+	 * <p>
+	 * The file is mapped into memory, in segments when it is larger than 2 GB, and
+	 * parsed straight over the mapped bytes. Strings and numbers are only decoded
+	 * when their values are first accessed.
+	 * </p>
+	 * 
+	 * @param path The file's path.
+	 * @return The JSON object.
+	 */
+	public static JsonEntry<?> fromJsonFile(Path path) {
+		try {
+			return new JsonDeserializerImpl().convert(path);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON string <code>json</code> into a JSON object, parsing the
+	 * elements of a top-level array in parallel on the common
+	 * <code>java.util.concurrent.ForkJoinPool</code>.
+	 * 
+	 * @param json The JSON string.
+	 * @return The JSON object.
+	 * @see JsonParallelDeserializerImpl
+	 */
+	public static JsonEntry<?> fromJsonParallel(String json) {
+		try {
+			return new JsonParallelDeserializerImpl().convert(json);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the UTF-8 encoded JSON file at <code>path</code> into a JSON
+	 * object, parsing the elements of a top-level array in parallel on the common
+	 * <code>java.util.concurrent.ForkJoinPool</code>.
+	 * 
+	 * @param path The file's path.
+	 * @return The JSON object.
+	 * @see JsonParallelDeserializerImpl
+	 */
+	public static JsonEntry<?> fromJsonFileParallel(Path path) {
+		try {
+			return new JsonParallelDeserializerImpl().convert(path);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Parses the JSON string <code>json</code>, pushing its events to
+	 * <code>handler</code> without building JSON objects.
+	 * 
+	 * @param json    The JSON string.
+	 * @param handler The handler.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if parsed;
+	 *         <strong><span style="color:#7f0055">false</span></strong> if
+	 *         <code>json</code> is <strong><span style=
+	 *         "color:#7f0055">null</span></strong> or malformed.
+	 * @see JsonHandler
+	 */
+	public static boolean parse(String json, JsonHandler handler) {
+		if (json == null) {
+			return false;
+		}
+
+		return parse(new JsonReader(json.toCharArray(), 0, json.length()), handler);
+	}
+
+	/**
+	 * Parses the UTF-8 encoded JSON bytes <code>json</code>, pushing its events to
+	 * <code>handler</code> without building JSON objects.
+	 * 
+	 * @param json    The JSON bytes.
+	 * @param handler The handler.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if parsed;
+	 *         <strong><span style="color:#7f0055">false</span></strong> if
+	 *         <code>json</code> is <strong><span style=
+	 *         "color:#7f0055">null</span></strong> or malformed.
+	 * @see JsonHandler
+	 */
+	public static boolean parse(byte[] json, JsonHandler handler) {
+		if (json == null) {
+			return false;
+		}
+
+		return parse(new Utf8JsonReader(json, 0, json.length), handler);
+	}
+
+	/**
+	 * Parses the next value read by <code>reader</code>, pushing its events to
+	 * <code>handler</code> without building JSON objects.
+	 * 
+	 * @param reader  The reader.
+	 * @param handler The handler.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if parsed;
+	 *         <strong><span style="color:#7f0055">false</span></strong> if the
+	 *         input is malformed.
+	 * @see JsonHandler
+	 */
+	public static boolean parse(JsonReader reader, JsonHandler handler) {
+		try {
+			reader.parse(handler);
+
+			return true;
+		} catch (JsonException e) {
+		}
+
+		return false;
+	}
+
 	/**
 	 * Converts Java object <code>obj</code> into a JSON object.
 	 * <p>
@@ -185,6 +531,15 @@ public final class Json implements Serializable {
 		} else if (Util.isBoolean(obj)) {
 			json = new JsonBoolean(name == null || name.trim().isEmpty() ? JsonStrings.BOOLEAN_NAME : name,
 					(boolean) obj);
+		} else if (obj instanceof int[]) {
+			json = new JsonIntArray(name == null || name.trim().isEmpty() ? JsonStrings.COLLECTION_NAME : name,
+					((int[]) obj).clone());
+		} else if (obj instanceof long[]) {
+			json = new JsonLongArray(name == null || name.trim().isEmpty() ? JsonStrings.COLLECTION_NAME : name,
+					((long[]) obj).clone());
+		} else if (obj instanceof double[]) {
+			json = new JsonDoubleArray(name == null || name.trim().isEmpty() ? JsonStrings.COLLECTION_NAME : name,
+					((double[]) obj).clone());
 		} else if (Util.isArray(obj)) {
 			Object[] array = new Object[Array.getLength(obj)];
 
@@ -412,8 +767,10 @@ public final class Json implements Serializable {
 	 * in <code>clazz</code> using <code>info</code> (<code>pattern</code>,
 	 * <code>locale</code> and <code>timezone</code>).
 	 * <p>
-	 * Invoke this method is the same as
-	 * <code>(T) toJavaObject(fromJson(json), clazz, info)</code>.
+	 * The result is the same as
+	 * <code>(T) toJavaObject(fromJson(json), clazz, info)</code>, but the JSON
+	 * string is bound straight into the Java object by
+	 * {@link JsonBindingDeserializerImpl}, without building JSON objects.
 	 * </p>
 	 * 
 	 * @param <T>   The generic class.
@@ -425,7 +782,157 @@ public final class Json implements Serializable {
 	 * @see #toJavaObject(JsonEntry, Class, JsonPatternInfo)
 	 */
 	public static <T> T toJavaObject(String json, Class<T> clazz, JsonPatternInfo info) {
-		return (T) toJavaObject(fromJson(json), clazz, info);
+		if (json == null || clazz == null) {
+			return null;
+		}
+
+		try {
+			return new JsonBindingDeserializerImpl<>(clazz, info, JsonSymbolTable.SHARED, true).convert(json);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON characters <code>json</code> into a Java object of class
+	 * specified in <code>clazz</code>.
+	 * <p>
+	 * Invoke this method is the same as
+	 * <code>toJavaObject(json, clazz, (JsonPatternInfo) <strong><span style=
+	 * "color:#7f0055">null</span></strong>)</code>.
+	 * </p>
+	 * 
+	 * @param <T>   The generic class.
+	 * @param json  The JSON characters.
+	 * @param clazz The class.
+	 * @return The Java object.
+	 * @see #toJavaObject(CharSequence, Class, JsonPatternInfo)
+	 */
+	public static <T> T toJavaObject(CharSequence json, Class<T> clazz) {
+		return toJavaObject(json, clazz, (JsonPatternInfo) null);
+	}
+
+	/**
+	 * Converts the JSON characters <code>json</code>, such as a
+	 * <code>java.lang.StringBuilder</code> or a <code>java.nio.CharBuffer</code>,
+	 * into a Java object of class specified in <code>clazz</code> using
+	 * <code>info</code>, without turning them into a
+	 * <code>java.lang.String</code> first.
+	 * 
+	 * @param <T>   The generic class.
+	 * @param json  The JSON characters.
+	 * @param clazz The class.
+	 * @param info  The info (pattern, locale and timezone).
+	 * @return The Java object.
+	 * @see #toJavaObject(String, Class, JsonPatternInfo)
+	 */
+	public static <T> T toJavaObject(CharSequence json, Class<T> clazz, JsonPatternInfo info) {
+		if (json == null || clazz == null) {
+			return null;
+		}
+
+		try {
+			return new JsonBindingDeserializerImpl<>(clazz, info, JsonSymbolTable.SHARED, true).convert(json);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON characters in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> characters, into a
+	 * Java object of class specified in <code>clazz</code>.
+	 * <p>
+	 * Invoke this method is the same as
+	 * <code>toJavaObject(json, offset, length, clazz, <strong><span style=
+	 * "color:#7f0055">null</span></strong>)</code>.
+	 * </p>
+	 * 
+	 * @param <T>    The generic class.
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @param clazz  The class.
+	 * @return The Java object.
+	 * @see #toJavaObject(char[], int, int, Class, JsonPatternInfo)
+	 */
+	public static <T> T toJavaObject(char[] json, int offset, int length, Class<T> clazz) {
+		return toJavaObject(json, offset, length, clazz, null);
+	}
+
+	/**
+	 * Converts the JSON characters in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> characters, into a
+	 * Java object of class specified in <code>clazz</code> using
+	 * <code>info</code>. The array is parsed in place and is not copied.
+	 * 
+	 * @param <T>    The generic class.
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @param clazz  The class.
+	 * @param info   The info (pattern, locale and timezone).
+	 * @return The Java object.
+	 * @see #toJavaObject(String, Class, JsonPatternInfo)
+	 */
+	public static <T> T toJavaObject(char[] json, int offset, int length, Class<T> clazz, JsonPatternInfo info) {
+		if (json == null || clazz == null) {
+			return null;
+		}
+
+		try {
+			return new JsonBindingDeserializerImpl<>(clazz, info, JsonSymbolTable.SHARED, true).convert(json, offset,
+					length);
+		} catch (JsonException e) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts the JSON characters read from <code>in</code> into a Java object
+	 * of class specified in <code>clazz</code>.
+	 * <p>
+	 * Invoke this method is the same as
+	 * <code>toJavaObject(in, clazz, (JsonPatternInfo) <strong><span style=
+	 * "color:#7f0055">null</span></strong>)</code>.
+	 * </p>
+	 * 
+	 * @param <T>   The generic class.
+	 * @param in    The input.
+	 * @param clazz The class.
+	 * @return The Java object.
+	 * @see #toJavaObject(Reader, Class, JsonPatternInfo)
+	 */
+	public static <T> T toJavaObject(Reader in, Class<T> clazz) {
+		return toJavaObject(in, clazz, (JsonPatternInfo) null);
+	}
+
+	/**
+	 * Converts the JSON characters read from <code>in</code> into a Java object
+	 * of class specified in <code>clazz</code> using <code>info</code>. The input
+	 * is read in chunks and is not closed.
+	 * 
+	 * @param <T>   The generic class.
+	 * @param in    The input.
+	 * @param clazz The class.
+	 * @param info  The info (pattern, locale and timezone).
+	 * @return The Java object.
+	 * @see #toJavaObject(String, Class, JsonPatternInfo)
+	 */
+	public static <T> T toJavaObject(Reader in, Class<T> clazz, JsonPatternInfo info) {
+		if (in == null || clazz == null) {
+			return null;
+		}
+
+		try {
+			return new JsonBindingDeserializerImpl<>(clazz, info, JsonSymbolTable.SHARED, true).convert(in);
+		} catch (JsonException e) {
+		}
+
+		return null;
 	}
 
 	/**
@@ -518,8 +1025,10 @@ public final class Json implements Serializable {
 	 * <code>obj</code>'s class using <code>info</code> (<code>pattern</code>,
 	 * <code>locale</code> and <code>timezone</code>).
 	 * <p>
-	 * Invoke this method is the same as
-	 * <code>toJavaObject(fromJson(json), obj, info)</code>.
+	 * The result is the same as
+	 * <code>toJavaObject(fromJson(json), obj, info)</code>, but the JSON string is
+	 * bound straight into the Java object by {@link JsonBindingDeserializerImpl},
+	 * without building JSON objects.
 	 * </p>
 	 * 
 	 * @param <T>  The generic class of <code>obj</code>.
@@ -530,8 +1039,28 @@ public final class Json implements Serializable {
 	 * @see #fromJson(String)
 	 * @see #toJavaObject(JsonEntry, Object, JsonPatternInfo)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T toJavaObject(String json, T obj, JsonPatternInfo info) {
-		return toJavaObject(fromJson(json), obj, info);
+		if (json == null || obj == null) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json);
+
+		reader.setLenient(true);
+
+		try {
+			if (reader.peek() == JsonToken.SQUARED_OPEN) {
+				return null;
+			}
+
+			return (T) new JsonBindingDeserializerImpl<>(obj.getClass(), info).convert(reader);
+		} catch (JsonException e) {
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+
+		return null;
 	}
 
 	/**
@@ -3,7 +3,9 @@
  */
 package io.github.gabrielgp0811.jsonlite;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Map.Entry;
 
 import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
@@ -78,6 +80,13 @@ public abstract class JsonEntry<V> implements Entry<String, V>, Cloneable {
 	 */
 	protected String tab = JsonStrings.TAB;
 
+	/**
+	 * Flag responsible for checking if this JSON object, and every JSON object
+	 * under it, can't be changed anymore.
+	 * @see #freeze()
+	 */
+	protected boolean frozen = false;
+
 	/**
 	 * 
 	 */
@@ -160,6 +169,8 @@ public abstract class JsonEntry<V> implements Entry<String, V>, Cloneable {
 
 	@Override
 	public V setValue(V value) {
+		checkNotFrozen();
+
 		this.value = value;
 
 		return this.value;
@@ -176,6 +187,8 @@ public abstract class JsonEntry<V> implements Entry<String, V>, Cloneable {
 	 * @param objectChild The objectChild to set.
 	 */
 	public void setObjectChild(boolean objectChild) {
+		checkNotFrozen();
+
 		this.objectChild = objectChild;
 	}
 
@@ -190,6 +203,8 @@ public abstract class JsonEntry<V> implements Entry<String, V>, Cloneable {
 	 * @param arrayChild The arrayChild to set.
 	 */
 	public void setArrayChild(boolean arrayChild) {
+		checkNotFrozen();
+
 		this.arrayChild = arrayChild;
 	}
 
@@ -204,6 +219,8 @@ public abstract class JsonEntry<V> implements Entry<String, V>, Cloneable {
 	 * @param indentLevel The indentLevel to set.
 	 */
 	public void setIndentLevel(int indentLevel) {
+		checkNotFrozen();
+
 		this.indentLevel = indentLevel;
 	}
 
@@ -533,6 +550,179 @@ public abstract class JsonEntry<V> implements Entry<String, V>, Cloneable {
 		return this.toString();
 	}
 
+	/**
+	 * Appends this JSON object to <code>builder</code> at the position and indent
+	 * level given, instead of the ones it holds. Rendering this way doesn't
+	 * change nor copy any JSON object, so that a frozen tree can be rendered by
+	 * many threads at once.
+	 * <p>
+	 * The main implementations render themselves and their children directly.
+	 * Other subclasses are rendered through a clone of theirs positioned as
+	 * asked.
+	 * </p>
+	 * 
+	 * @param builder     The builder.
+	 * @param objectChild Whether this JSON object is rendered as an attribute of
+	 *                    another one.
+	 * @param arrayChild  Whether this JSON object is rendered as an element of an
+	 *                    array.
+	 * @param indentLevel The indent level.
+	 * @param tab         The string representing tabulation, or
+	 *                    <strong><span style="color:#7f0055">null</span></strong>
+	 *                    to render without line breaks nor indentation.
+	 * @see #toString()
+	 * @see #toPrettyString(String)
+	 */
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		JsonEntry<V> copy = clone();
+
+		copy.objectChild = objectChild;
+		copy.arrayChild = arrayChild;
+		copy.indentLevel = indentLevel;
+
+		builder.append(tab == null ? copy.toString() : copy.toPrettyString(tab));
+	}
+
+	/**
+	 * Renders this JSON object at the position and indent level it holds.
+	 * 
+	 * @param tab The string representing tabulation, or <strong><span style=
+	 *            "color:#7f0055">null</span></strong> to render without line
+	 *            breaks nor indentation.
+	 * @return The JSON string.
+	 * @see #appendTo(StringBuilder, boolean, boolean, int, String)
+	 */
+	protected String render(String tab) {
+		StringBuilder builder = new StringBuilder();
+
+		appendTo(builder, objectChild, arrayChild, indentLevel, tab);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Appends a JSON object holding a single value, such as a string or a number.
+	 * As the root, it's rendered within braces, named; as an attribute, named;
+	 * and as an element of an array, alone.
+	 * 
+	 * @param builder     The builder.
+	 * @param objectChild Whether rendered as an attribute of another JSON object.
+	 * @param arrayChild  Whether rendered as an element of an array.
+	 * @param indentLevel The indent level.
+	 * @param tab         The string representing tabulation, or
+	 *                    <strong><span style="color:#7f0055">null</span></strong>
+	 *                    to render without line breaks nor indentation.
+	 * @param value       The value, already formatted.
+	 * @param quoted      Whether the value goes between double quotes.
+	 */
+	protected void appendScalar(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab, Object value, boolean quoted) {
+		boolean pretty = tab != null;
+		boolean root = !objectChild && !arrayChild;
+
+		if (pretty) {
+			builder.append(Util.getIndentTab(indentLevel, tab));
+		}
+
+		if (root) {
+			builder.append(JsonStrings.START);
+
+			if (pretty) {
+				builder.append(JsonStrings.WHITESPACE);
+			}
+		}
+
+		if (!arrayChild) {
+			builder.append(JsonStrings.QUOTATION);
+			builder.append(getName());
+			builder.append(JsonStrings.QUOTATION);
+			builder.append(JsonStrings.COLON);
+
+			if (pretty) {
+				builder.append(JsonStrings.WHITESPACE);
+			}
+		}
+
+		if (quoted) {
+			builder.append(JsonStrings.QUOTATION);
+			builder.append(value);
+			builder.append(JsonStrings.QUOTATION);
+		} else {
+			builder.append(value);
+		}
+
+		if (root) {
+			if (pretty) {
+				builder.append(JsonStrings.WHITESPACE);
+			}
+
+			builder.append(JsonStrings.END);
+		}
+	}
+
+	/**
+	 * Makes this JSON object, and every JSON object under it, immutable: from
+	 * now on, changing any of them throws an
+	 * <code>UnsupportedOperationException</code>. Whatever is decoded lazily is
+	 * decoded at once, so that, once safely published, a frozen tree can be read
+	 * and rendered by many threads at once without copying it.
+	 * 
+	 * @return This JSON object.
+	 */
+	public JsonEntry<V> freeze() {
+		Deque<JsonEntry<?>> pending = new ArrayDeque<>();
+
+		pending.push(this);
+
+		while (!pending.isEmpty()) {
+			JsonEntry<?> json = pending.pop();
+
+			if (!json.frozen) {
+				Collection<JsonEntry<?>> children = json.prepareFreeze();
+
+				json.frozen = true;
+
+				if (children != null) {
+					children.forEach(pending::push);
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if this
+	 *         JSON object can't be changed anymore;
+	 *         <strong><span style="color:#7f0055">false</span></strong> otherwise.
+	 * @see #freeze()
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Decodes whatever this JSON object decodes lazily, right before it's
+	 * frozen.
+	 * 
+	 * @return The children JSON objects to freeze as well.
+	 */
+	protected Collection<JsonEntry<?>> prepareFreeze() {
+		getValue();
+
+		return getChildren();
+	}
+
+	/**
+	 * @throws UnsupportedOperationException This JSON object is frozen.
+	 */
+	protected void checkNotFrozen() {
+		if (frozen) {
+			throw new UnsupportedOperationException("Frozen JSON object " + name);
+		}
+	}
+
 	/**
 	 * Convert this JSON object in a way for better visualization.
 	 * 
@@ -0,0 +1,557 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonDeserializerImpl;
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * Reader of JSON Lines (also known as NDJSON) documents, which holds one JSON
+ * value per line, parsing the lines in parallel.
+ * <p>
+ * The input is read sequentially and cut into batches of about
+ * {@link #getBatchSize()} bytes or characters, always on a line break. Each
+ * batch is then split into lines and parsed on an executor, the common
+ * <code>java.util.concurrent.ForkJoinPool</code> by default. At most a few
+ * batches per thread are in flight at a time, so memory stays bounded however
+ * large the input is.
+ * </p>
+ * <p>
+ * The values can be streamed in the order of the lines, or unordered, in the
+ * order their batches finish parsing, which never waits for a slow batch.
+ * Blank lines are skipped, and malformed lines are streamed as
+ * <strong><span style="color:#7f0055">null</span></strong>, as
+ * {@link Json#fromJson(String)} returns.
+ * </p>
+ * 
+ * <pre>
+ * try (Stream&lt;Event&gt; events = new JsonLines(path).setOrdered(false).stream(Event.class)) {
+ * 	events.forEach(...);
+ * }
+ * </pre>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonLines {
+
+	/**
+	 * The default size, in bytes or characters, of each batch.
+	 */
+	public static final int BATCH_SIZE = 1 << 20;
+
+	/**
+	 * The input, or <strong><span style="color:#7f0055">null</span></strong> when
+	 * reading from a <code>java.io.Reader</code>.
+	 */
+	private final InputStream in;
+
+	/**
+	 * The input, or <strong><span style="color:#7f0055">null</span></strong> when
+	 * reading from a <code>java.io.InputStream</code>.
+	 */
+	private final Reader reader;
+
+	/**
+	 * The executor parsing the batches.
+	 */
+	private Executor executor = ForkJoinPool.commonPool();
+
+	/**
+	 * The amount of batches in flight at a time.
+	 */
+	private int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+	/**
+	 * Whether the values are streamed in the order of the lines.
+	 */
+	private boolean ordered = true;
+
+	/**
+	 * The size, in bytes or characters, of each batch.
+	 */
+	private int batchSize = BATCH_SIZE;
+
+	/**
+	 * @param in The input, encoded in UTF-8.
+	 */
+	public JsonLines(InputStream in) {
+		if (in == null) {
+			throw new NullPointerException("in is null");
+		}
+
+		this.in = in;
+		this.reader = null;
+	}
+
+	/**
+	 * @param reader The input.
+	 */
+	public JsonLines(Reader reader) {
+		if (reader == null) {
+			throw new NullPointerException("reader is null");
+		}
+
+		this.in = null;
+		this.reader = reader;
+	}
+
+	/**
+	 * @param json The input, encoded in UTF-8.
+	 */
+	public JsonLines(byte[] json) {
+		this(new ByteArrayInputStream(json));
+	}
+
+	/**
+	 * @param path The file's path, encoded in UTF-8.
+	 * @throws JsonException Error opening the file.
+	 */
+	public JsonLines(Path path) throws JsonException {
+		this(open(path));
+	}
+
+	/**
+	 * @return The executor parsing the batches.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the executor parsing the batches, such as a
+	 * <code>java.util.concurrent.ForkJoinPool</code> or a
+	 * <code>java.util.concurrent.ExecutorService</code>.
+	 * 
+	 * @param executor    The executor.
+	 * @param parallelism The amount of threads of the executor. Twice as many
+	 *                    batches are kept in flight.
+	 * @return This object.
+	 */
+	public JsonLines setExecutor(Executor executor, int parallelism) {
+		if (executor == null) {
+			throw new NullPointerException("executor is null");
+		}
+
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+
+		this.executor = executor;
+		this.parallelism = parallelism;
+
+		return this;
+	}
+
+	/**
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         values are streamed in the order of the lines;
+	 *         <strong><span style="color:#7f0055">false</span></strong> if in the
+	 *         order their batches finish parsing.
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	/**
+	 * @param ordered <strong><span style="color:#7f0055">true</span></strong> to
+	 *                stream the values in the order of the lines;
+	 *                <strong><span style="color:#7f0055">false</span></strong> to
+	 *                stream them in the order their batches finish parsing.
+	 * @return This object.
+	 */
+	public JsonLines setOrdered(boolean ordered) {
+		this.ordered = ordered;
+
+		return this;
+	}
+
+	/**
+	 * @return The size, in bytes or characters, of each batch.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Sets the size, in bytes or characters, of each batch. Lines longer than a
+	 * batch make up a batch on their own.
+	 * 
+	 * @param batchSize The size.
+	 * @return This object.
+	 */
+	public JsonLines setBatchSize(int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize must be positive");
+		}
+
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * Streams the value of each line. Closing the stream closes the input.
+	 * 
+	 * @return The stream.
+	 */
+	public Stream<JsonEntry<?>> stream() {
+		return stream(Function.identity());
+	}
+
+	/**
+	 * Streams the value of each line converted into an instance of
+	 * <code>clazz</code>, as {@link Json#toJavaObject(JsonEntry, Class)} does.
+	 * The conversion runs on the executor too. Closing the stream closes the
+	 * input.
+	 * 
+	 * @param <T>   Generic type.
+	 * @param clazz The class.
+	 * @return The stream.
+	 */
+	public <T> Stream<T> stream(Class<T> clazz) {
+		return stream(json -> json == null ? null : Json.toJavaObject(json, clazz));
+	}
+
+	/**
+	 * @param <R>    Generic type.
+	 * @param mapper The conversion of each value.
+	 * @return The stream.
+	 */
+	private <R> Stream<R> stream(Function<JsonEntry<?>, R> mapper) {
+		Batches<R> batches = new Batches<>(mapper);
+
+		int characteristics = ordered ? Spliterator.ORDERED : 0;
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, characteristics), false)
+				.onClose(batches::close).flatMap(List::stream);
+	}
+
+	/**
+	 * Parses the lines of a batch of bytes.
+	 * 
+	 * @param <R>    Generic type.
+	 * @param bytes  The bytes, holding whole lines.
+	 * @param length The amount of bytes.
+	 * @param mapper The conversion of each value.
+	 * @return The values.
+	 */
+	private static <R> List<R> parse(byte[] bytes, int length, Function<JsonEntry<?>, R> mapper) {
+		JsonDeserializerImpl deserializer = new JsonDeserializerImpl();
+		List<R> result = new ArrayList<>();
+
+		for (int start = 0, end = 0; start < length; start = end + 1) {
+			end = start;
+			while (end < length && bytes[end] != '\n') {
+				end++;
+			}
+
+			boolean blank = true;
+			for (int i = start; i < end && blank; i++) {
+				blank = bytes[i] == ' ' || bytes[i] == '\t' || bytes[i] == '\r';
+			}
+
+			if (blank) {
+				continue;
+			}
+
+			JsonEntry<?> json = null;
+
+			try {
+				json = deserializer.convert(bytes, start, end - start);
+			} catch (JsonException e) {
+			}
+
+			result.add(mapper.apply(json));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Parses the lines of a batch of characters.
+	 * 
+	 * @param <R>    Generic type.
+	 * @param chars  The characters, holding whole lines.
+	 * @param length The amount of characters.
+	 * @param mapper The conversion of each value.
+	 * @return The values.
+	 */
+	private static <R> List<R> parse(char[] chars, int length, Function<JsonEntry<?>, R> mapper) {
+		JsonDeserializerImpl deserializer = new JsonDeserializerImpl();
+		List<R> result = new ArrayList<>();
+
+		for (int start = 0, end = 0; start < length; start = end + 1) {
+			end = start;
+			while (end < length && chars[end] != '\n') {
+				end++;
+			}
+
+			boolean blank = true;
+			for (int i = start; i < end && blank; i++) {
+				blank = chars[i] <= ' ';
+			}
+
+			if (blank) {
+				continue;
+			}
+
+			JsonEntry<?> json = null;
+
+			try {
+				json = deserializer.convert(chars, start, end - start);
+			} catch (JsonException e) {
+			}
+
+			result.add(mapper.apply(json));
+		}
+
+		return result;
+	}
+
+	/**
+	 * @param path The file's path.
+	 * @return The input.
+	 * @throws JsonException Error opening the file.
+	 */
+	private static InputStream open(Path path) throws JsonException {
+		try {
+			return Files.newInputStream(path);
+		} catch (IOException e) {
+			throw new JsonException("Error opening file " + path + ".", e);
+		}
+	}
+
+	/**
+	 * Iterator over the values of each batch, reading and submitting the next
+	 * batches as the previous ones are consumed.
+	 * 
+	 * @param <R> Generic type.
+	 */
+	private class Batches<R> implements Iterator<List<R>>, Closeable {
+
+		/**
+		 * The conversion of each value.
+		 */
+		private final Function<JsonEntry<?>, R> mapper;
+
+		/**
+		 * The batches in flight, in the order of the lines.
+		 */
+		private final Queue<Future<List<R>>> pending = new ArrayDeque<>();
+
+		/**
+		 * The batches in flight, in the order they finish parsing, when unordered.
+		 */
+		private final ExecutorCompletionService<List<R>> completion;
+
+		/**
+		 * The bytes read but not submitted yet.
+		 */
+		private byte[] bytes = null;
+
+		/**
+		 * The characters read but not submitted yet.
+		 */
+		private char[] chars = null;
+
+		/**
+		 * The amount of bytes or characters read but not submitted yet.
+		 */
+		private int length = 0;
+
+		/**
+		 * Whether the whole input was read.
+		 */
+		private boolean ended = false;
+
+		/**
+		 * @param mapper The conversion of each value.
+		 */
+		Batches(Function<JsonEntry<?>, R> mapper) {
+			this.mapper = mapper;
+			this.completion = ordered ? null : new ExecutorCompletionService<>(executor);
+
+			if (in != null) {
+				bytes = new byte[batchSize];
+			} else {
+				chars = new char[batchSize];
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				while (!ended && pending.size() < 2 * parallelism) {
+					submitNext();
+				}
+			} catch (IOException e) {
+				close();
+
+				throw new UncheckedIOException(e);
+			}
+
+			return !pending.isEmpty();
+		}
+
+		@Override
+		public List<R> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			try {
+				Future<List<R>> future = ordered ? pending.peek() : completion.take();
+
+				pending.remove(future);
+
+				return future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+
+				close();
+
+				throw new CancellationException("Interrupted while parsing JSON lines.");
+			} catch (ExecutionException e) {
+				close();
+
+				throw new CompletionException(e.getCause());
+			}
+		}
+
+		@Override
+		public void close() {
+			for (Future<List<R>> future : pending) {
+				future.cancel(false);
+			}
+
+			pending.clear();
+			ended = true;
+
+			try {
+				if (in != null) {
+					in.close();
+				} else {
+					reader.close();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		/**
+		 * Reads the next batch, up to its last line break, and submits it.
+		 * 
+		 * @throws IOException Error reading the input.
+		 */
+		private void submitNext() throws IOException {
+			int read = 0;
+			int cut = -1;
+
+			// Read until the batch is full, growing it for lines longer than a batch
+			while (true) {
+				int capacity = bytes != null ? bytes.length : chars.length;
+
+				while (length < capacity && (read = bytes != null ? in.read(bytes, length, capacity - length)
+						: reader.read(chars, length, capacity - length)) != -1) {
+					length += read;
+				}
+
+				if (read == -1) {
+					ended = true;
+					cut = length;
+					break;
+				}
+
+				cut = lastLineBreak() + 1;
+
+				if (cut > 0) {
+					break;
+				}
+
+				if (bytes != null) {
+					bytes = Arrays.copyOf(bytes, capacity * 2);
+				} else {
+					chars = Arrays.copyOf(chars, capacity * 2);
+				}
+			}
+
+			if (cut == 0) {
+				return;
+			}
+
+			Callable<List<R>> task = null;
+
+			if (bytes != null) {
+				byte[] batch = Arrays.copyOf(bytes, cut);
+
+				task = () -> parse(batch, batch.length, mapper);
+
+				System.arraycopy(bytes, cut, bytes, 0, length - cut);
+			} else {
+				char[] batch = Arrays.copyOf(chars, cut);
+
+				task = () -> parse(batch, batch.length, mapper);
+
+				System.arraycopy(chars, cut, chars, 0, length - cut);
+			}
+
+			length -= cut;
+
+			if (ordered) {
+				FutureTask<List<R>> future = new FutureTask<>(task);
+
+				executor.execute(future);
+				pending.add(future);
+			} else {
+				pending.add(completion.submit(task));
+			}
+		}
+
+		/**
+		 * @return The position of the last line break read, or <code>-1</code> if
+		 *         none.
+		 */
+		private int lastLineBreak() {
+			for (int i = length - 1; i >= 0; i--) {
+				if (bytes != null ? bytes[i] == '\n' : chars[i] == '\n') {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,965 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.converter.impl;
+
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.gabrielgp0811.jsonlite.annotation.JsonField;
+import io.github.gabrielgp0811.jsonlite.converter.Converter;
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.impl.JsonNumber;
+import io.github.gabrielgp0811.jsonlite.impl.JsonObject;
+import io.github.gabrielgp0811.jsonlite.impl.JsonString;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReaderPool;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSymbolTable;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+import io.github.gabrielgp0811.jsonlite.util.JsonFieldInfo;
+import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
+import io.github.gabrielgp0811.jsonlite.util.Util;
+
+/**
+ * Implementation for deserializing JSON strings straight into Java objects of
+ * a given class, without building a {@link io.github.gabrielgp0811.jsonlite.JsonEntry}
+ * tree first.
+ * <p>
+ * The tokens are read by a {@link JsonReader} and bound to the fields as they
+ * come, following the same rules as
+ * {@link JsonObject#toJavaObject(Class, JsonPatternInfo)}: attributes are
+ * matched by {@link JsonField} names, <code>customNamesDeserialization</code>
+ * first, values are converted using the field's
+ * {@link io.github.gabrielgp0811.jsonlite.annotation.JsonPattern} and set
+ * through the field's setter. Attributes not bound to any field are skipped
+ * without being decoded.
+ * </p>
+ * <p>
+ * The fields, names and setters of each class are looked up once and cached.
+ * </p>
+ * <p>
+ * Messages of a fixed shape can be bound faster by predicting the order of
+ * their attributes, either {@link #registerKeyOrder(Class, String...)
+ * registered} or {@link #learnKeyOrder(Class, int) learned} from the first
+ * messages. Each name is then first compared in place with the predicted one,
+ * and only looked up when it differs.
+ * </p>
+ * 
+ * @param <T> The class of the Java objects.
+ * @author gabrielgp0811
+ */
+public class JsonBindingDeserializerImpl<T> implements Converter<String, T> {
+
+	/**
+	 * The bindings of each class.
+	 */
+	private static final ClassValue<Binding> BINDINGS = new ClassValue<Binding>() {
+
+		@Override
+		protected Binding computeValue(Class<?> type) {
+			return new Binding(type);
+		}
+
+	};
+
+	/**
+	 * The class of the Java objects.
+	 */
+	private final Class<T> clazz;
+
+	/**
+	 * The info (pattern, locale and timezone) of fields without
+	 * {@link JsonField}.
+	 */
+	private final JsonPatternInfo info;
+
+	/**
+	 * The table of canonical attribute names, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> to create a new
+	 * <code>java.lang.String</code> for every name.
+	 */
+	private final JsonSymbolTable symbols;
+
+	/**
+	 * Whether the readers are made {@link JsonReader#setLenient(boolean)
+	 * lenient}.
+	 */
+	private final boolean lenient;
+
+	/**
+	 * @param clazz The class of the Java objects.
+	 */
+	public JsonBindingDeserializerImpl(Class<T> clazz) {
+		this(clazz, null);
+	}
+
+	/**
+	 * @param clazz The class of the Java objects.
+	 * @param info  The info (pattern, locale and timezone) of fields without
+	 *              {@link JsonField}.
+	 */
+	public JsonBindingDeserializerImpl(Class<T> clazz, JsonPatternInfo info) {
+		this(clazz, info, JsonSymbolTable.SHARED);
+	}
+
+	/**
+	 * @param clazz   The class of the Java objects.
+	 * @param info    The info (pattern, locale and timezone) of fields without
+	 *                {@link JsonField}.
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 */
+	public JsonBindingDeserializerImpl(Class<T> clazz, JsonPatternInfo info, JsonSymbolTable symbols) {
+		this(clazz, info, symbols, false);
+	}
+
+	/**
+	 * @param clazz   The class of the Java objects.
+	 * @param info    The info (pattern, locale and timezone) of fields without
+	 *                {@link JsonField}.
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 * @param lenient Whether malformed JSON is read leniently, as described in
+	 *                {@link JsonReader#setLenient(boolean)}, instead of failing.
+	 */
+	public JsonBindingDeserializerImpl(Class<T> clazz, JsonPatternInfo info, JsonSymbolTable symbols,
+			boolean lenient) {
+		if (clazz == null) {
+			throw new NullPointerException("clazz is null");
+		}
+
+		this.clazz = clazz;
+		this.info = info;
+		this.symbols = symbols;
+		this.lenient = lenient;
+	}
+
+	/**
+	 * Registers the order in which the attributes of objects bound into
+	 * <code>type</code> are expected, including attributes not bound to any
+	 * field. Attributes in another order are still bound, only slower.
+	 * 
+	 * @param type  The class.
+	 * @param names The attribute names, in order, or none to stop predicting.
+	 */
+	public static void registerKeyOrder(Class<?> type, String... names) {
+		Binding binding = BINDINGS.get(type);
+
+		binding.learner = null;
+		binding.order = names == null || names.length == 0 ? null : new KeyOrder(binding, names);
+	}
+
+	/**
+	 * Learns the order in which the attributes of objects bound into
+	 * <code>type</code> are expected from the next <code>messages</code>
+	 * objects bound, predicting the most frequent one from then on.
+	 * 
+	 * @param type     The class.
+	 * @param messages The amount of objects to learn from.
+	 */
+	public static void learnKeyOrder(Class<?> type, int messages) {
+		if (messages < 1) {
+			throw new IllegalArgumentException("messages=" + messages);
+		}
+
+		Binding binding = BINDINGS.get(type);
+
+		binding.order = null;
+		binding.learner = new KeyOrderLearner(messages);
+	}
+
+	/**
+	 * @param type The class.
+	 * @return The attribute names expected in objects bound into
+	 *         <code>type</code>, in order, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if none is registered nor
+	 *         learned yet.
+	 */
+	public static String[] getKeyOrder(Class<?> type) {
+		KeyOrder order = BINDINGS.get(type).order;
+
+		return order == null ? null : order.names.clone();
+	}
+
+	@Override
+	public T convert(String json) throws JsonException {
+		if (json == null) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+	}
+
+	/**
+	 * Converts the JSON characters between the position and the limit of
+	 * <code>json</code>, such as a <code>java.lang.StringBuilder</code> or a
+	 * <code>java.nio.CharBuffer</code>, into a Java object, without turning them into a
+	 * <code>java.lang.String</code> first.
+	 * 
+	 * @param json The JSON characters.
+	 * @return The Java object.
+	 * @throws JsonException Error converting input.
+	 * @see JsonReader#reset(CharSequence)
+	 */
+	public T convert(CharSequence json) throws JsonException {
+		if (json == null) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+	}
+
+	/**
+	 * Converts the JSON characters read from <code>in</code> into a Java object. The
+	 * input is read in chunks and is not closed.
+	 * 
+	 * @param in The input.
+	 * @return The Java object.
+	 * @throws JsonException Error converting input.
+	 */
+	public T convert(Reader in) throws JsonException {
+		if (in == null) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(in);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+	}
+
+	/**
+	 * Converts the JSON characters in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> characters, into a Java
+	 * object. The array is parsed in place and is not copied.
+	 * 
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The Java object.
+	 * @throws JsonException Error converting input.
+	 */
+	public T convert(char[] json, int offset, int length) throws JsonException {
+		if (json == null || offset < 0 || length < 0 || offset + length > json.length) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json, offset, length);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+	}
+
+	/**
+	 * Converts the JSON bytes in <code>json</code>, encoded in UTF-8, starting at
+	 * <code>offset</code> and spanning <code>length</code> bytes, into a Java
+	 * object. The array is parsed in place and is not copied.
+	 * 
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The Java object.
+	 * @throws JsonException Error converting input.
+	 */
+	public T convert(byte[] json, int offset, int length) throws JsonException {
+		if (json == null || offset < 0 || length < 0 || offset + length > json.length) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json, offset, length);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+	}
+
+	/**
+	 * Converts the JSON read by <code>reader</code> into a Java object. The
+	 * reader is made lenient when this deserializer is.
+	 * 
+	 * @param reader The reader.
+	 * @return The Java object.
+	 * @throws JsonException Error converting input.
+	 */
+	@SuppressWarnings("unchecked")
+	public T convert(JsonReader reader) throws JsonException {
+		if (reader == null) {
+			return null;
+		}
+
+		if (lenient) {
+			reader.setLenient(true);
+		}
+
+		if (reader.peek() == JsonToken.NONE) {
+			return null;
+		}
+
+		if (reader.getSymbolTable() == null) {
+			reader.setSymbolTable(symbols);
+		}
+
+		return (T) readValue(reader, clazz, info);
+	}
+
+	/**
+	 * Reads the next value into a Java object of class <code>type</code>, as
+	 * <code>JsonEntry.toJavaObject(type, info)</code> does.
+	 * 
+	 * @param reader The reader.
+	 * @param type   The class.
+	 * @param info   The info (pattern, locale and timezone).
+	 * @return The Java object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the value can't be
+	 *         converted.
+	 * @throws JsonException Error on parse.
+	 */
+	private static Object readValue(JsonReader reader, Class<?> type, JsonPatternInfo info) throws JsonException {
+		JsonToken token = reader.peek();
+
+		switch (token) {
+		case CURLY_OPEN:
+			return readObject(reader, type, info);
+		case SQUARED_OPEN:
+			if (Util.isArray(type)) {
+				return readArray(reader, type.getComponentType(), info);
+			}
+
+			// As a collection converted into a single object, only the first element counts
+			Object first = null;
+
+			reader.beginArray();
+
+			if (reader.hasNext()) {
+				first = readValue(reader, type, info);
+			}
+
+			while (reader.hasNext()) {
+				reader.skipValue();
+			}
+
+			reader.endArray();
+
+			return first;
+		case STRING:
+			return JsonString.convert(reader.nextString(), type, info);
+		case NUMBER:
+			return JsonNumber.convert(reader.nextNumber(), type, info);
+		case TRUE:
+		case FALSE:
+			boolean value = reader.nextBoolean();
+
+			return Util.isString(type) ? String.valueOf(value) : Util.isBoolean(type) ? value : null;
+		case NULL:
+			reader.nextNull();
+			return null;
+		default:
+			throw new JsonException("Unexpected " + token + " at position " + reader.getPosition() + ".");
+		}
+	}
+
+	/**
+	 * Reads the next object into a Java object of class <code>type</code>.
+	 * 
+	 * @param reader The reader.
+	 * @param type   The class.
+	 * @param info   The info (pattern, locale and timezone) of fields without
+	 *               {@link JsonField}.
+	 * @return The Java object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if <code>type</code> can't be
+	 *         instantiated.
+	 * @throws JsonException Error on parse.
+	 */
+	private static Object readObject(JsonReader reader, Class<?> type, JsonPatternInfo info) throws JsonException {
+		Binding binding = type == null ? null : BINDINGS.get(type);
+		Object result = binding == null ? null : binding.newInstance();
+
+		if (result == null) {
+			reader.skipValue();
+
+			return null;
+		}
+
+		FieldBinding[] fields = binding.fields;
+		Object[] values = new Object[fields.length];
+		int[] ranks = new int[fields.length];
+		KeyOrder order = binding.order;
+		KeyOrderLearner learner = binding.learner;
+		List<String> names = learner != null ? new ArrayList<>() : null;
+		int next = 0;
+
+		Arrays.fill(ranks, Integer.MAX_VALUE);
+
+		reader.beginObject();
+
+		while (reader.hasNext()) {
+			Target[] targets;
+
+			if (order != null && next < order.names.length && reader.nextNameEquals(order.names[next])) {
+				targets = order.targets[next++];
+			} else {
+				String name = reader.nextName();
+
+				targets = binding.targets.get(name);
+
+				if (order != null) {
+					// Resumes predicting after the name, if expected elsewhere
+					Integer index = order.indexes.get(name);
+
+					if (index != null) {
+						next = index + 1;
+					}
+				}
+
+				if (names != null) {
+					names.add(name);
+				}
+			}
+
+			FieldBinding field = null;
+
+			if (targets != null) {
+				// Each name has its own rank, so an equal rank is the same name again,
+				// whose last value wins as in the tree
+				for (Target target : targets) {
+					if (target.rank <= ranks[target.field]) {
+						field = fields[target.field];
+						break;
+					}
+				}
+			}
+
+			if (field == null) {
+				reader.skipValue();
+				continue;
+			}
+
+			Object value = readField(reader, field, field.patternInfo != null ? field.patternInfo : info);
+
+			// The value is read once, so it is shared only by fields converting it alike
+			for (Target target : targets) {
+				if (target.rank <= ranks[target.field] && fields[target.field].type == field.type
+						&& fields[target.field].patternInfo == field.patternInfo) {
+					ranks[target.field] = target.rank;
+					values[target.field] = value;
+				}
+			}
+		}
+
+		reader.endObject();
+
+		if (names != null) {
+			learner.record(binding, names);
+		}
+
+		for (int i = 0; i < fields.length; i++) {
+			fields[i].set(result, values[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reads the next value into a Java object for <code>field</code>.
+	 * 
+	 * @param reader The reader.
+	 * @param field  The field.
+	 * @param info   The info (pattern, locale and timezone).
+	 * @return The Java object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the value can't be
+	 *         converted.
+	 * @throws JsonException Error on parse.
+	 */
+	private static Object readField(JsonReader reader, FieldBinding field, JsonPatternInfo info)
+			throws JsonException {
+		Class<?> type = field.type;
+
+		if (Util.isArray(type) || Util.isCollection(type)) {
+			if (reader.peek() != JsonToken.SQUARED_OPEN) {
+				reader.skipValue();
+
+				return null;
+			}
+
+			if (Util.isArray(type)) {
+				return readArray(reader, type.getComponentType(), info);
+			}
+
+			List<Object> elements = new ArrayList<>();
+
+			reader.beginArray();
+
+			while (reader.hasNext()) {
+				elements.add(readRaw(reader));
+			}
+
+			reader.endArray();
+
+			return elements;
+		}
+
+		if (Util.isEnum(type)) {
+			// Only enumerations serialized by this library carry their constant
+			reader.skipValue();
+
+			return null;
+		}
+
+		return readValue(reader, type, info);
+	}
+
+	/**
+	 * Reads the next array into a Java array of <code>componentType</code>, each
+	 * element converted as {@link #readValue(JsonReader, Class, JsonPatternInfo)}
+	 * does, as <code>JsonCollection.toJavaObject(type, info)</code> does.
+	 * 
+	 * @param reader        The reader.
+	 * @param componentType The component type.
+	 * @param info          The info (pattern, locale and timezone).
+	 * @return The Java array.
+	 * @throws JsonException Error on parse.
+	 */
+	private static Object readArray(JsonReader reader, Class<?> componentType, JsonPatternInfo info)
+			throws JsonException {
+		List<Object> elements = new ArrayList<>();
+
+		reader.beginArray();
+
+		while (reader.hasNext()) {
+			elements.add(readValue(reader, componentType, info));
+		}
+
+		reader.endArray();
+
+		Object array = Array.newInstance(componentType, elements.size());
+
+		for (int i = 0; i < elements.size(); i++) {
+			if (elements.get(i) != null) {
+				Array.set(array, i, elements.get(i));
+			}
+		}
+
+		return array;
+	}
+
+	/**
+	 * Reads the next value into the Java object
+	 * <code>JsonEntry.toJavaObject()</code> returns: a
+	 * <code>java.util.Map</code> for objects, a <code>java.util.List</code> for
+	 * arrays, or the value itself.
+	 * 
+	 * @param reader The reader.
+	 * @return The Java object.
+	 * @throws JsonException Error on parse.
+	 */
+	private static Object readRaw(JsonReader reader) throws JsonException {
+		JsonToken token = reader.peek();
+
+		switch (token) {
+		case CURLY_OPEN:
+			Map<String, Object> map = new LinkedHashMap<>();
+
+			reader.beginObject();
+
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+
+				map.put(name, readRaw(reader));
+			}
+
+			reader.endObject();
+
+			return map;
+		case SQUARED_OPEN:
+			List<Object> list = new ArrayList<>();
+
+			reader.beginArray();
+
+			while (reader.hasNext()) {
+				list.add(readRaw(reader));
+			}
+
+			reader.endArray();
+
+			return list;
+		case STRING:
+			return reader.nextString();
+		case NUMBER:
+			return reader.nextNumber();
+		case TRUE:
+		case FALSE:
+			return reader.nextBoolean();
+		case NULL:
+			reader.nextNull();
+			return null;
+		default:
+			throw new JsonException("Unexpected " + token + " at position " + reader.getPosition() + ".");
+		}
+	}
+
+	/**
+	 * The fields of a class and the attribute names bound to them.
+	 */
+	private static final class Binding {
+
+		/**
+		 * The class, or <strong><span style="color:#7f0055">null</span></strong>
+		 * if it isn't bound from JSON objects.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * The fields having a setter.
+		 */
+		private final FieldBinding[] fields;
+
+		/**
+		 * The fields bound to each attribute name.
+		 */
+		private final Map<String, Target[]> targets = new HashMap<>();
+
+		/**
+		 * The order of the attributes expected, or <strong><span style=
+		 * "color:#7f0055">null</span></strong>.
+		 */
+		private volatile KeyOrder order = null;
+
+		/**
+		 * The order of the attributes being learned, or <strong><span style=
+		 * "color:#7f0055">null</span></strong>.
+		 */
+		private volatile KeyOrderLearner learner = null;
+
+		/**
+		 * @param type The class.
+		 */
+		Binding(Class<?> type) {
+			List<FieldBinding> fields = new ArrayList<>();
+			Map<String, List<Target>> targets = new HashMap<>();
+
+			if (isBindable(type)) {
+				for (Field field : type.getDeclaredFields()) {
+					FieldBinding binding = FieldBinding.of(field);
+
+					if (binding == null) {
+						continue;
+					}
+
+					for (int rank = 0; rank < binding.names.length; rank++) {
+						targets.computeIfAbsent(binding.names[rank], name -> new ArrayList<>())
+								.add(new Target(fields.size(), rank));
+					}
+
+					fields.add(binding);
+				}
+			}
+
+			this.type = isBindable(type) ? type : null;
+			this.fields = fields.toArray(new FieldBinding[fields.size()]);
+
+			targets.forEach((name, list) -> {
+				list.sort((a, b) -> Integer.compare(a.rank, b.rank));
+
+				this.targets.put(name, list.toArray(new Target[list.size()]));
+			});
+		}
+
+		/**
+		 * @param type The class.
+		 * @return <strong><span style="color:#7f0055">true</span></strong> if
+		 *         objects of <code>type</code> are bound from JSON objects, as
+		 *         {@link JsonObject#toJavaObject(Class, JsonPatternInfo)} does;
+		 *         <strong><span style="color:#7f0055">false</span></strong>
+		 *         otherwise.
+		 */
+		private static boolean isBindable(Class<?> type) {
+			return !(Util.isArray(type) || Util.isBoolean(type) || Util.isCharacter(type) || Util.isCollection(type)
+					|| Util.isDate(type) || Util.isEnum(type) || Util.isLocalDate(type) || Util.isLocalDateTime(type)
+					|| Util.isLocalTime(type) || Util.isMap(type) || Util.isNumber(type) || Util.isString(type));
+		}
+
+		/**
+		 * @return A new instance of the class, or <strong><span style=
+		 *         "color:#7f0055">null</span></strong> if it can't be
+		 *         instantiated.
+		 */
+		@SuppressWarnings("deprecation")
+		Object newInstance() {
+			if (type == null) {
+				return null;
+			}
+
+			try {
+				return type.newInstance();
+			} catch (InstantiationException | IllegalAccessException e) {
+				return null;
+			}
+		}
+
+	}
+
+	/**
+	 * The order of the attributes expected in the objects bound into a class.
+	 */
+	private static final class KeyOrder {
+
+		/**
+		 * The attribute names, in order.
+		 */
+		private final String[] names;
+
+		/**
+		 * The fields bound to each name, or <strong><span style=
+		 * "color:#7f0055">null</span></strong> for names not bound.
+		 */
+		private final Target[][] targets;
+
+		/**
+		 * The index of each name, the first when repeated.
+		 */
+		private final Map<String, Integer> indexes = new HashMap<>();
+
+		/**
+		 * @param binding The binding of the class.
+		 * @param names   The attribute names, in order.
+		 */
+		KeyOrder(Binding binding, String[] names) {
+			this.names = names.clone();
+			this.targets = new Target[names.length][];
+
+			for (int i = 0; i < names.length; i++) {
+				if (names[i] == null) {
+					throw new NullPointerException("names[" + i + "] is null");
+				}
+
+				targets[i] = binding.targets.get(names[i]);
+				indexes.putIfAbsent(names[i], i);
+			}
+		}
+
+	}
+
+	/**
+	 * Counts the orders of the attributes of the first objects bound into a
+	 * class, to predict the most frequent one.
+	 */
+	private static final class KeyOrderLearner {
+
+		/**
+		 * The amount of objects left to learn from.
+		 */
+		private int remaining;
+
+		/**
+		 * The amount of objects seen with each order.
+		 */
+		private final Map<List<String>, Integer> counts = new LinkedHashMap<>();
+
+		/**
+		 * @param messages The amount of objects to learn from.
+		 */
+		KeyOrderLearner(int messages) {
+			this.remaining = messages;
+		}
+
+		/**
+		 * Records the order of the attributes of an object, and sets the most
+		 * frequent one on <code>binding</code> once enough objects were seen.
+		 * 
+		 * @param binding The binding of the class.
+		 * @param names   The attribute names, in order.
+		 */
+		synchronized void record(Binding binding, List<String> names) {
+			if (remaining == 0) {
+				return;
+			}
+
+			counts.merge(names, 1, Integer::sum);
+
+			if (--remaining > 0) {
+				return;
+			}
+
+			List<String> best = null;
+			int bestCount = 0;
+
+			for (Map.Entry<List<String>, Integer> entry : counts.entrySet()) {
+				if (entry.getValue() > bestCount) {
+					best = entry.getKey();
+					bestCount = entry.getValue();
+				}
+			}
+
+			if (binding.learner == this) {
+				binding.order = best.isEmpty() ? null : new KeyOrder(binding, best.toArray(new String[best.size()]));
+				binding.learner = null;
+			}
+		}
+
+	}
+
+	/**
+	 * A field bound by its setter.
+	 */
+	private static final class FieldBinding {
+
+		/**
+		 * The field's type.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * The attribute names bound to the field, by precedence.
+		 */
+		private final String[] names;
+
+		/**
+		 * The info (pattern, locale and timezone) from {@link JsonField}, or
+		 * <strong><span style="color:#7f0055">null</span></strong> to use the
+		 * caller's.
+		 */
+		private final JsonPatternInfo patternInfo;
+
+		/**
+		 * The field's setter.
+		 */
+		private final Method setter;
+
+		/**
+		 * @param type        The field's type.
+		 * @param names       The attribute names bound to the field, by
+		 *                    precedence.
+		 * @param patternInfo The info (pattern, locale and timezone) from
+		 *                    {@link JsonField}, or <strong><span style=
+		 *                    "color:#7f0055">null</span></strong> to use the
+		 *                    caller's.
+		 * @param setter      The field's setter.
+		 */
+		private FieldBinding(Class<?> type, String[] names, JsonPatternInfo patternInfo, Method setter) {
+			this.type = type;
+			this.names = names;
+			this.patternInfo = patternInfo;
+			this.setter = setter;
+		}
+
+		/**
+		 * @param field The field.
+		 * @return The binding, or <strong><span style=
+		 *         "color:#7f0055">null</span></strong> if the field has no setter.
+		 */
+		static FieldBinding of(Field field) {
+			String fieldName = field.getName();
+			Method setter = null;
+
+			try {
+				setter = field.getDeclaringClass().getDeclaredMethod(
+						"set".concat(fieldName.substring(0, 1).toUpperCase()).concat(fieldName.substring(1)),
+						field.getType());
+			} catch (NoSuchMethodException | SecurityException e) {
+				return null;
+			}
+
+			JsonField annotation = field.getDeclaredAnnotation(JsonField.class);
+			List<String> names = new ArrayList<>();
+			JsonPatternInfo patternInfo = null;
+
+			if (annotation != null) {
+				try {
+					JsonFieldInfo fieldInfo = new JsonFieldInfoDeserializationConverter().convert(annotation);
+
+					names.addAll(Arrays.asList(fieldInfo.getCustomNames()));
+
+					if (!fieldInfo.getName().trim().isEmpty()) {
+						fieldName = fieldInfo.getName();
+					}
+
+					patternInfo = fieldInfo.getPatternInfo();
+				} catch (JsonException e) {
+				}
+			}
+
+			names.add(fieldName);
+			names.removeIf(name -> name == null || name.trim().isEmpty());
+
+			return new FieldBinding(field.getType(), names.toArray(new String[names.size()]), patternInfo, setter);
+		}
+
+		/**
+		 * Sets the field's value through its setter, as
+		 * {@link Util#setValue(Object, String, Class, Object)} does.
+		 * 
+		 * @param obj   The Java object.
+		 * @param value The value, not set if <strong><span style=
+		 *              "color:#7f0055">null</span></strong>.
+		 */
+		void set(Object obj, Object value) {
+			if (value == null) {
+				return;
+			}
+
+			try {
+				setter.invoke(obj, value);
+			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			}
+		}
+
+	}
+
+	/**
+	 * A field bound to an attribute name.
+	 */
+	private static final class Target {
+
+		/**
+		 * The index of the field.
+		 */
+		private final int field;
+
+		/**
+		 * The precedence of the name for the field, lower first.
+		 */
+		private final int rank;
+
+		/**
+		 * @param field The index of the field.
+		 * @param rank  The precedence of the name for the field, lower first.
+		 */
+		Target(int field, int rank) {
+			this.field = field;
+			this.rank = rank;
+		}
+
+	}
+
+}
\ No newline at end of file
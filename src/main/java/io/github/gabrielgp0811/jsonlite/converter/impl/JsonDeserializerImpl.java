@@ -3,425 +3,754 @@
  */
 package io.github.gabrielgp0811.jsonlite.converter.impl;
 
-import java.io.IOException;
-import java.io.PushbackReader;
-import java.io.StringReader;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import io.github.gabrielgp0811.jsonlite.Json;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
 import io.github.gabrielgp0811.jsonlite.converter.Converter;
 import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.impl.JsonBoolean;
+import io.github.gabrielgp0811.jsonlite.impl.JsonCollection;
+import io.github.gabrielgp0811.jsonlite.impl.JsonDoubleArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonIntArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyCollection;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyNumber;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyObject;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyString;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLongArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonNull;
+import io.github.gabrielgp0811.jsonlite.impl.JsonNumber;
+import io.github.gabrielgp0811.jsonlite.impl.JsonObject;
+import io.github.gabrielgp0811.jsonlite.impl.JsonPackedArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonString;
+import io.github.gabrielgp0811.jsonlite.parser.JsonPathFilter;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReaderPool;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSymbolTable;
+import io.github.gabrielgp0811.jsonlite.parser.JsonTape;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+import io.github.gabrielgp0811.jsonlite.parser.MappedJsonFile;
+import io.github.gabrielgp0811.jsonlite.parser.ParserLimits;
+import io.github.gabrielgp0811.jsonlite.parser.Utf8JsonReader;
+import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
 
 /**
  * Main implementation for deserializing JSON strings into JSON objects.
+ * <p>
+ * The tokens are pulled from a {@link JsonReader}, which scans the input
+ * directly over a <code>char[]</code> with an <code>int</code> cursor. The JSON
+ * objects are created straight from the tokens, without an intermediate
+ * <code>java.util.Map</code>/<code>java.util.List</code> graph.
+ * </p>
+ * <p>
+ * Objects and arrays are built with an explicit stack, so deeply nested
+ * documents can't overflow the call stack; the nesting depth, like the other
+ * {@link ParserLimits}, is checked by the reader.
+ * </p>
+ * <p>
+ * Instances hold no state while converting, so one can be shared by many
+ * threads. Readers of strings and arrays are taken from
+ * {@link JsonReaderPool#SHARED} and returned once done.
+ * </p>
  * 
  * @author gabrielgp0811
  */
 public class JsonDeserializerImpl implements Converter<String, JsonEntry<?>> {
 
-	enum JsonToken {
-
-		NONE, CURLY_OPEN, CURLY_CLOSE, SQUARED_OPEN, SQUARED_CLOSE, COLON, COMMA, STRING, NUMBER, TRUE, FALSE, NULL
+	/**
+	 * The file being parsed, when parsing a {@link MappedJsonFile}.
+	 */
+	private MappedJsonFile file = null;
 
-	}
+	/**
+	 * The table of canonical attribute names, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> to create a new
+	 * <code>java.lang.String</code> for every name.
+	 */
+	private JsonSymbolTable symbols = JsonSymbolTable.SHARED;
 
-	private final String WORD_BREAK = "{}[],:\"";
+	/**
+	 * The limits on the documents, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> to keep the reader's ones.
+	 */
+	private ParserLimits limits = null;
 
-	private PushbackReader reader = null;
+	/**
+	 * Whether the readers are made {@link JsonReader#setLenient(boolean)
+	 * lenient}.
+	 */
+	private boolean lenient = false;
 
 	/**
-	 * 
+	 * Attribute names are looked up in {@link JsonSymbolTable#SHARED}.
 	 */
 	public JsonDeserializerImpl() {
 
 	}
 
+	/**
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 */
+	public JsonDeserializerImpl(JsonSymbolTable symbols) {
+		this.symbols = symbols;
+	}
+
+	/**
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 * @param limits  The limits on the documents, or <strong><span style=
+	 *                "color:#7f0055">null</span></strong> to keep the reader's
+	 *                ones, by default {@link ParserLimits#DEFAULT}.
+	 */
+	public JsonDeserializerImpl(JsonSymbolTable symbols, ParserLimits limits) {
+		this.symbols = symbols;
+		this.limits = limits;
+	}
+
+	/**
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 * @param limits  The limits on the documents, or <strong><span style=
+	 *                "color:#7f0055">null</span></strong> to keep the reader's
+	 *                ones, by default {@link ParserLimits#DEFAULT}.
+	 * @param lenient Whether malformed JSON is read leniently, as described in
+	 *                {@link JsonReader#setLenient(boolean)}, instead of failing.
+	 */
+	public JsonDeserializerImpl(JsonSymbolTable symbols, ParserLimits limits, boolean lenient) {
+		this.symbols = symbols;
+		this.limits = limits;
+		this.lenient = lenient;
+	}
+
 	@Override
 	public JsonEntry<?> convert(String json) throws JsonException {
-		if (json == null || json.trim().isEmpty()) {
+		if (json == null) {
 			return null;
 		}
 
-		json = json.trim();
-
-		reader = new PushbackReader(new StringReader(json), json.length());
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json);
 
 		try {
-			Object value = parseValue();
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
+	}
+
+	/**
+	 * Converts the JSON characters between the position and the limit of
+	 * <code>json</code>, such as a <code>java.lang.StringBuilder</code> or a
+	 * <code>java.nio.CharBuffer</code>, into a JSON object, without turning them into a
+	 * <code>java.lang.String</code> first.
+	 * 
+	 * @param json The JSON characters.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 * @see JsonReader#reset(CharSequence)
+	 */
+	public JsonEntry<?> convert(CharSequence json) throws JsonException {
+		if (json == null) {
+			return null;
+		}
 
-			JsonEntry<?> result = Json.toJson(value);
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json);
 
-			return result;
-		} catch (IOException e) {
-			throw new JsonException("Error converting input.", e);
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
 		}
 	}
 
 	/**
-	 * Parse value.
+	 * Converts the JSON characters read from <code>in</code> into a JSON object. The
+	 * input is read in chunks and is not closed.
 	 * 
-	 * @return The value parsed.
-	 * @throws IOException Error on parse.
+	 * @param in The input.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
 	 */
-	private Object parseValue() throws IOException {
-		return parseByToken(nextToken());
+	public JsonEntry<?> convert(Reader in) throws JsonException {
+		if (in == null) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(in);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
 	}
 
 	/**
-	 * Retrieving next token.
+	 * Converts the JSON characters in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> characters, into a JSON
+	 * object. The array is parsed in place and is not copied.
 	 * 
-	 * @return The next token.
-	 * @throws IOException Error retrieving next token.
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
 	 */
-	private JsonToken nextToken() throws IOException {
-		ignoreWhitespace();
-
-		if (peek() == -1) {
-			return JsonToken.NONE;
-		}
-
-		char ch = peekChar();
-
-		switch (ch) {
-		case '{':
-			return JsonToken.CURLY_OPEN;
-		case '}':
-			reader.read();
-			return JsonToken.CURLY_CLOSE;
-		case '[':
-			return JsonToken.SQUARED_OPEN;
-		case ']':
-			reader.read();
-			return JsonToken.SQUARED_CLOSE;
-		case ',':
-			reader.read();
-			return JsonToken.COMMA;
-		case '"':
-			return JsonToken.STRING;
-		case ':':
-			return JsonToken.COLON;
-		case '0':
-		case '1':
-		case '2':
-		case '3':
-		case '4':
-		case '5':
-		case '6':
-		case '7':
-		case '8':
-		case '9':
-		case '-':
-			return JsonToken.NUMBER;
-		default:
-			break;
+	public JsonEntry<?> convert(char[] json, int offset, int length) throws JsonException {
+		if (json == null || offset < 0 || length < 0 || offset + length > json.length) {
+			return null;
 		}
 
-		String nextWord = nextWord();
+		int start = offset;
+		int end = offset + length;
 
-		switch (nextWord) {
-		case "true":
-			return JsonToken.TRUE;
-		case "false":
-			return JsonToken.FALSE;
-		case "null":
-		case "undefined":
-			return JsonToken.NULL;
-		default:
-			break;
+		while (start < end && json[start] <= ' ') {
+			start++;
+		}
+
+		while (end > start && json[end - 1] <= ' ') {
+			end--;
 		}
 
-		return JsonToken.NONE;
+		if (start == end) {
+			return null;
+		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json, start, end - start);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
 	}
 
 	/**
-	 * Parsing by token.
+	 * Converts the UTF-8 encoded JSON bytes in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> bytes, into a JSON
+	 * object. The array is parsed in place and only the bytes inside strings are
+	 * decoded.
 	 * 
-	 * @param token The token.
-	 * @throws IOException Error on parse.
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
 	 */
-	private Object parseByToken(JsonToken token) throws IOException {
-		switch (token) {
-		case STRING:
-			return parseString();
-		case NUMBER:
-			return parseNumber();
-		case CURLY_OPEN:
-			return parseObject();
-		case SQUARED_OPEN:
-			return parseArray();
-		case TRUE:
-			return true;
-		case FALSE:
-			return false;
-		default:
+	public JsonEntry<?> convert(byte[] json, int offset, int length) throws JsonException {
+		if (json == null || offset < 0 || length < 0 || offset + length > json.length) {
 			return null;
 		}
+
+		JsonReader reader = JsonReaderPool.SHARED.acquire(json, offset, length);
+
+		try {
+			return convert(reader);
+		} finally {
+			JsonReaderPool.SHARED.release(reader);
+		}
 	}
 
 	/**
-	 * Parse String.
+	 * Converts the UTF-8 encoded JSON bytes between the position and the limit of
+	 * <code>json</code> into a JSON object. Heap and direct buffers are supported,
+	 * and the buffer's position is not changed.
 	 * 
-	 * @return The String.
-	 * @throws IOException Error on parse.
+	 * @param json The JSON bytes.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
 	 */
-	private String parseString() throws IOException {
-		StringBuilder builder = new StringBuilder();
+	public JsonEntry<?> convert(ByteBuffer json) throws JsonException {
+		if (json == null) {
+			return null;
+		}
 
-		// Ignore double quote
-		reader.read();
+		return convert(new Utf8JsonReader(json));
+	}
 
-		boolean parsing = true;
-		while (parsing) {
-			if (peek() == -1) {
-				break;
-			}
+	/**
+	 * Converts the UTF-8 encoded JSON file at <code>path</code> into a JSON
+	 * object, mapping it into memory.
+	 * 
+	 * @param path The file's path.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 * @see #convert(MappedJsonFile)
+	 */
+	public JsonEntry<?> convert(Path path) throws JsonException {
+		if (path == null) {
+			return null;
+		}
 
-			char ch = (char) reader.read();
+		return convert(new MappedJsonFile(path));
+	}
 
-			switch (ch) {
-			case '"':
-				parsing = false;
-				break;
-			case '\\':
-				if (peek() == -1) {
-					parsing = false;
-					break;
-				}
+	/**
+	 * Converts the memory-mapped JSON file <code>file</code> into a JSON object.
+	 * The document is parsed straight over the mapped segments, and strings and
+	 * numbers are only decoded when their values are first accessed.
+	 * 
+	 * @param file The file.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 */
+	public JsonEntry<?> convert(MappedJsonFile file) throws JsonException {
+		if (file == null) {
+			return null;
+		}
 
-				ch = (char) reader.read();
+		// A copy holds the file, so that this deserializer stays safe to share
+		JsonDeserializerImpl deserializer = new JsonDeserializerImpl(symbols, limits);
 
-				switch (ch) {
-				case '"':
-				case '\\':
-				case '/':
-					builder.append(ch);
-					break;
-				case 'b':
-					builder.append('\b');
-					break;
-				case 'r':
-					builder.append('\r');
-					break;
-				case 'n':
-					builder.append('\n');
-					break;
-				case 'f':
-					builder.append('\f');
-					break;
-				case 't':
-					builder.append('\t');
-					break;
-				case 'u':
-					char[] hex = new char[4];
-					reader.read(hex);
+		deserializer.file = file;
 
-					builder.append((char) Integer.parseInt(String.valueOf(hex), 16));
-					break;
-				default:
-					break;
-				}
+		return deserializer.convert(file.newReader());
+	}
 
-				break;
-			default:
-				builder.append(ch);
-				break;
-			}
+	/**
+	 * Converts the JSON characters indexed by <code>tape</code> into a JSON
+	 * object whose children are only decoded when first accessed. The tape's
+	 * symbol table, when not set, is set to this deserializer's one.
+	 * 
+	 * @param tape The tape.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 * @see JsonLazyObject
+	 * @see JsonLazyCollection
+	 */
+	public JsonEntry<?> convert(JsonTape tape) throws JsonException {
+		if (tape == null || tape.isEmpty()) {
+			return null;
+		}
+
+		if (tape.getSymbolTable() == null) {
+			tape.setSymbolTable(symbols);
 		}
 
-		return builder.toString();
+		switch (tape.getToken(0)) {
+		case CURLY_OPEN:
+			return new JsonLazyObject(JsonStrings.OBJECT_NAME, tape, 0);
+		case SQUARED_OPEN:
+			return new JsonLazyCollection(JsonStrings.COLLECTION_NAME, tape, 0);
+		default:
+			return convert(tape.newReader());
+		}
 	}
 
 	/**
-	 * Parse number.
+	 * Converts the next value read by <code>reader</code> into a JSON object. The
+	 * reader's symbol table, when not set, is set to this deserializer's one, and
+	 * so are its limits, when this deserializer has some. The reader is made
+	 * lenient when this deserializer is.
 	 * 
-	 * @return The number.
-	 * @throws IOException Error on parse.
+	 * @param reader The reader.
+	 * @return The JSON object, or
+	 *         <strong><span style="color:#7f0055">null</span></strong> at the end
+	 *         of the document.
+	 * @throws JsonException Error converting input.
 	 */
-	private Number parseNumber() throws IOException {
-		String number = nextWord();
+	public JsonEntry<?> convert(JsonReader reader) throws JsonException {
+		if (reader == null) {
+			return null;
+		}
 
-		if (number.indexOf('.') == -1) {
-			try {
-				return Byte.valueOf(number);
-			} catch (NumberFormatException e) {
-			}
+		if (limits != null) {
+			reader.setLimits(limits);
+		}
 
-			try {
-				return Short.valueOf(number);
-			} catch (NumberFormatException e) {
-			}
+		if (lenient) {
+			reader.setLenient(true);
+		}
 
-			try {
-				return Integer.valueOf(number);
-			} catch (NumberFormatException e) {
-			}
+		if (reader.peek() == JsonToken.NONE) {
+			return null;
+		}
 
-			try {
-				return Long.valueOf(number);
-			} catch (NumberFormatException e) {
-			}
+		if (reader.getSymbolTable() == null) {
+			reader.setSymbolTable(symbols);
 		}
 
-		try {
-			return Float.valueOf(number);
-		} catch (NumberFormatException e) {
+		return parseValue(reader, null);
+	}
+
+	/**
+	 * Converts the JSON read by <code>reader</code> into a JSON object holding
+	 * only the values selected by <code>filter</code> and their ancestors. Any
+	 * other subtree is skipped without being decoded.
+	 * 
+	 * @param reader The reader.
+	 * @param filter The selectors, or <strong><span style=
+	 *               "color:#7f0055">null</span></strong> to convert the whole
+	 *               document.
+	 * @return The pruned JSON object. When no value matches, an empty object or
+	 *         array if the document is one, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> otherwise.
+	 * @throws JsonException Error converting input.
+	 */
+	public JsonEntry<?> convert(JsonReader reader, JsonPathFilter filter) throws JsonException {
+		if (filter == null) {
+			return convert(reader);
 		}
 
-		try {
-			return Double.valueOf(number);
-		} catch (NumberFormatException e) {
+		if (reader == null) {
+			return null;
+		}
+
+		if (limits != null) {
+			reader.setLimits(limits);
+		}
+
+		if (lenient) {
+			reader.setLenient(true);
+		}
+
+		if (reader.peek() == JsonToken.NONE) {
+			return null;
+		}
+
+		if (reader.getSymbolTable() == null) {
+			reader.setSymbolTable(symbols);
 		}
 
-		throw new IOException("Error parsing number " + number);
+		return parseFiltered(reader, filter);
 	}
 
 	/**
-	 * Parse an object into a {@link java.util.Map}.
+	 * Parse value. Objects and arrays are tracked in an explicit stack instead of
+	 * the call stack, so that the nesting depth is bounded only by the reader's
+	 * {@link ParserLimits}.
 	 * 
-	 * @return The {@link java.util.Map} object.
-	 * @throws IOException Error on parse.
+	 * @param reader The reader.
+	 * @param name   The name of the JSON object.
+	 * @return The value parsed.
+	 * @throws JsonException Error on parse.
 	 */
-	private Map<String, Object> parseObject() throws IOException {
-		Map<String, Object> map = new HashMap<>();
-
-		// Ignores '{'
-		reader.read();
+	private JsonEntry<?> parseValue(JsonReader reader, String name) throws JsonException {
+		JsonEntry<?>[] stack = null;
+		int stackSize = 0;
 
 		while (true) {
-			JsonToken token = nextToken();
-
-			switch (token) {
-			case NULL:
-				return null;
-			case COMMA:
-				continue;
-			case CURLY_CLOSE:
-				return map;
-			default:
-				String name = parseString();
-				if (name == null) {
-					return null;
+			JsonToken token = reader.peek();
+			JsonEntry<?> value = null;
+
+			if (token == JsonToken.CURLY_OPEN || token == JsonToken.SQUARED_OPEN) {
+				if (stack == null) {
+					stack = new JsonEntry<?>[16];
+				} else if (stackSize == stack.length) {
+					stack = Arrays.copyOf(stack, stackSize * 2);
 				}
 
-				if (nextToken() != JsonToken.COLON) {
-					return null;
+				if (token == JsonToken.CURLY_OPEN) {
+					reader.beginObject();
+
+					stack[stackSize++] = new JsonObject(nameOrDefault(name, JsonStrings.OBJECT_NAME));
+				} else {
+					reader.beginArray();
+
+					if (file == null && reader.hasNext() && reader.peek() == JsonToken.NUMBER) {
+						JsonCollection array = parseNumbers(reader, nameOrDefault(name, JsonStrings.COLLECTION_NAME));
+
+						if (array instanceof JsonPackedArray) {
+							value = array;
+						} else {
+							stack[stackSize++] = array;
+						}
+					} else {
+						stack[stackSize++] = new JsonCollection(nameOrDefault(name, JsonStrings.COLLECTION_NAME), null,
+								(JsonPatternInfo) null);
+					}
 				}
+			} else {
+				value = parseScalar(reader, name, token);
+			}
 
-				// Ignores ':'
-				reader.read();
+			// Adds the value to its parent, closing every object and array it completes
+			while (true) {
+				if (value != null) {
+					if (stackSize == 0) {
+						return value;
+					}
 
-				map.put(name, parseByToken(nextToken()));
+					addTo(stack[stackSize - 1], value);
+				}
 
-				break;
+				JsonEntry<?> parent = stack[stackSize - 1];
+
+				if (reader.hasNext()) {
+					name = parent instanceof JsonObject ? reader.nextName() : null;
+					break;
+				}
+
+				if (parent instanceof JsonObject) {
+					reader.endObject();
+				} else {
+					reader.endArray();
+				}
+
+				stack[--stackSize] = null;
+				value = parent;
 			}
 		}
 	}
 
 	/**
-	 * Parse array.
+	 * Parse the numbers at the start of an array into a packed array, so that an
+	 * array of integers or of decimals costs a primitive array instead of one
+	 * {@link JsonNumber} per element.
 	 * 
-	 * @return The {@link java.util.List} object.
-	 * @throws IOException Error on parse.
+	 * @param reader The reader, past the start of the array.
+	 * @param name   The name of the array.
+	 * @return The packed array, read to its end, when the array holds only
+	 *         integers up to <code>long</code> or only decimals; otherwise, the
+	 *         array with the numbers parsed so far, still open.
+	 * @throws JsonException Error on parse.
 	 */
-	private List<Object> parseArray() throws IOException {
-		List<Object> array = new ArrayList<>();
-
-		// Ignores '['
-		reader.read();
-
-		boolean parsing = true;
-		while (parsing) {
-			JsonToken token = nextToken();
-
-			switch (token) {
-			case COMMA:
-				continue;
-			case NONE:
-			case SQUARED_CLOSE:
-				parsing = false;
-				break;
-			default:
-				Object value = parseByToken(token);
+	private static JsonCollection parseNumbers(JsonReader reader, String name) throws JsonException {
+		long[] longs = new long[16];
+		double[] doubles = null;
+		boolean ints = true;
+		int size = 0;
+		Number mismatch = null;
+
+		while (reader.hasNext() && reader.peek() == JsonToken.NUMBER) {
+			Number number = reader.nextNumber();
+			boolean decimal = number instanceof Double || number instanceof Float;
+			boolean integer = !decimal && !(number instanceof BigInteger) && !(number instanceof BigDecimal);
+
+			// The first number decides whether the array holds integers or decimals
+			if (size == 0 && decimal) {
+				doubles = new double[16];
+			}
 
-				array.add(value);
+			if (doubles != null ? !decimal : !integer) {
+				mismatch = number;
 				break;
 			}
+
+			if (decimal) {
+				if (size == doubles.length) {
+					doubles = Arrays.copyOf(doubles, size * 2);
+				}
+
+				doubles[size++] = number.doubleValue();
+			} else {
+				if (size == longs.length) {
+					longs = Arrays.copyOf(longs, size * 2);
+				}
+
+				long value = number.longValue();
+
+				ints &= value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+				longs[size++] = value;
+			}
+		}
+
+		JsonPackedArray packed;
+
+		if (doubles != null) {
+			packed = new JsonDoubleArray(name, Arrays.copyOf(doubles, size), true);
+		} else if (ints) {
+			int[] values = new int[size];
+
+			for (int i = 0; i < size; i++) {
+				values[i] = (int) longs[i];
+			}
+
+			packed = new JsonIntArray(name, values, true);
+		} else {
+			packed = new JsonLongArray(name, Arrays.copyOf(longs, size), true);
+		}
+
+		if (mismatch == null && !reader.hasNext()) {
+			reader.endArray();
+
+			return packed;
+		}
+
+		// Mixed array: the numbers parsed so far become plain children
+		JsonCollection array = new JsonCollection(name, null, (JsonPatternInfo) null);
+
+		array.addChildren(packed.getChildren());
+
+		if (mismatch != null) {
+			array.addChild(new JsonNumber(JsonStrings.NUMBER_NAME, mismatch));
 		}
 
 		return array;
 	}
 
 	/**
-	 * Parse next word.
+	 * Parse a string, number, boolean or null value.
 	 * 
-	 * @return The word.
-	 * @throws IOException Error on parse.
+	 * @param reader The reader.
+	 * @param name   The name of the JSON object.
+	 * @param token  The value's token.
+	 * @return The value parsed.
+	 * @throws JsonException Error on parse.
 	 */
-	private String nextWord() throws IOException {
-		StringBuilder builder = new StringBuilder();
+	private JsonEntry<?> parseScalar(JsonReader reader, String name, JsonToken token) throws JsonException {
+		if (file != null && token == JsonToken.STRING) {
+			long start = reader.getPosition() - 1;
 
-		while (!isWordBreak(peekChar())) {
-			builder.append((char) reader.read());
+			reader.skipValue();
 
-			if (peek() == -1)
-				break;
+			return new JsonLazyString(nameOrDefault(name, JsonStrings.STRING_NAME), file, start, reader.getPosition());
 		}
 
-		return builder.toString();
-	}
+		if (file != null && token == JsonToken.NUMBER) {
+			return new JsonLazyNumber(nameOrDefault(name, JsonStrings.NUMBER_NAME), reader.nextNumberText());
+		}
 
-	/**
-	 * Peek next character.
-	 * 
-	 * @return The next character.
-	 * @throws IOException Error peeking.
-	 */
-	private char peekChar() throws IOException {
-		return (char) peek();
+		switch (token) {
+		case STRING:
+			return new JsonString(nameOrDefault(name, JsonStrings.STRING_NAME), reader.nextString());
+		case NUMBER:
+			return new JsonNumber(nameOrDefault(name, JsonStrings.NUMBER_NAME), reader.nextNumber());
+		case TRUE:
+		case FALSE:
+			return new JsonBoolean(nameOrDefault(name, JsonStrings.BOOLEAN_NAME), reader.nextBoolean());
+		case NULL:
+			reader.nextNull();
+			return new JsonNull(nameOrDefault(name, JsonStrings.NULL_NAME));
+		default:
+			throw new JsonException("Unexpected " + token + " at position " + reader.getPosition() + ".");
+		}
 	}
 
 	/**
-	 * Peek next character.
+	 * Parse value, keeping only what <code>filter</code> selects. Like
+	 * {@link #parseValue(JsonReader, String)}, the objects and arrays that can
+	 * hold a selected value are tracked in an explicit stack instead of the call
+	 * stack.
 	 * 
-	 * @return The next character as an <code>int</code>.
-	 * @throws IOException Error peeking.
+	 * @param reader The reader.
+	 * @param filter The selectors.
+	 * @return The value parsed, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if skipped.
+	 * @throws JsonException Error on parse.
 	 */
-	private int peek() throws IOException {
-		int c = reader.read();
+	private JsonEntry<?> parseFiltered(JsonReader reader, JsonPathFilter filter) throws JsonException {
+		JsonEntry<?>[] stack = new JsonEntry<?>[16];
+		int[][] states = new int[16][];
+		int[] indexes = new int[16];
+		int stackSize = 0;
 
-		reader.unread(c);
+		String name = null;
+		int[] state = filter.start();
 
-		return c;
+		while (true) {
+			JsonEntry<?> value = null;
+			JsonToken token = state == null ? JsonToken.NONE : reader.peek();
+			boolean opened = false;
+
+			if (state != null && filter.isComplete(state)) {
+				value = parseValue(reader, name);
+			} else if (token == JsonToken.CURLY_OPEN || token == JsonToken.SQUARED_OPEN) {
+				if (stackSize == stack.length) {
+					stack = Arrays.copyOf(stack, stackSize * 2);
+					states = Arrays.copyOf(states, stackSize * 2);
+					indexes = Arrays.copyOf(indexes, stackSize * 2);
+				}
+
+				if (token == JsonToken.CURLY_OPEN) {
+					reader.beginObject();
+
+					stack[stackSize] = new JsonObject(nameOrDefault(name, JsonStrings.OBJECT_NAME));
+				} else {
+					reader.beginArray();
+
+					stack[stackSize] = new JsonCollection(nameOrDefault(name, JsonStrings.COLLECTION_NAME), null,
+							(JsonPatternInfo) null);
+				}
+
+				states[stackSize] = state;
+				indexes[stackSize++] = 0;
+				opened = true;
+			} else {
+				reader.skipValue();
+			}
+
+			if (!opened) {
+				if (stackSize == 0) {
+					return value;
+				}
+
+				if (value != null) {
+					addTo(stack[stackSize - 1], value);
+				}
+			}
+
+			// Moves to the next child, closing every object and array completed
+			while (true) {
+				JsonEntry<?> parent = stack[stackSize - 1];
+
+				if (reader.hasNext()) {
+					if (parent instanceof JsonObject) {
+						name = reader.nextName();
+						state = filter.next(states[stackSize - 1], name, -1);
+					} else {
+						name = null;
+						state = filter.next(states[stackSize - 1], null, indexes[stackSize - 1]++);
+					}
+					break;
+				}
+
+				if (parent instanceof JsonObject) {
+					reader.endObject();
+				} else {
+					reader.endArray();
+				}
+
+				stack[--stackSize] = null;
+				states[stackSize] = null;
+
+				// Only the document's object or array is kept when empty
+				if (stackSize == 0) {
+					return parent;
+				}
+
+				if (parent.childrenSize() > 0) {
+					addTo(stack[stackSize - 1], parent);
+				}
+			}
+		}
 	}
 
 	/**
-	 * Ignores whitespace.
+	 * Adds <code>child</code> to <code>parent</code>. In objects, a child whose
+	 * name is already present replaces the previous one, so that the last of
+	 * duplicate names wins.
 	 * 
-	 * @throws IOException Error ignoring whitespace.
+	 * @param parent The object or array being built.
+	 * @param child  The child.
 	 */
-	private void ignoreWhitespace() throws IOException {
-		while (Character.isWhitespace(peek())) {
-			reader.read();
-
-			if (peek() == -1)
-				break;
+	static void addTo(JsonEntry<?> parent, JsonEntry<?> child) {
+		if (parent instanceof JsonObject) {
+			((JsonObject) parent).putChild(child);
+		} else {
+			parent.addChild(child);
 		}
 	}
 
 	/**
-	 * Checks if character is word break.
+	 * Returns <code>name</code>, or <code>defaultName</code> when
+	 * <code>name</code> is empty, mirroring the names given by
+	 * {@link io.github.gabrielgp0811.jsonlite.Json#toJson(String, Object)}.
 	 * 
-	 * @param c The character.
-	 * @return <strong><span style="color:#7f0055">true</span></strong> if is word
-	 *         break; <strong><span style="color:#7f0055">false</span></strong>
-	 *         otherwise.
+	 * @param name        The name.
+	 * @param defaultName The default name.
+	 * @return The name to use.
 	 */
-	private boolean isWordBreak(char c) {
-		return Character.isWhitespace(c) || WORD_BREAK.indexOf(c) != -1;
+	static String nameOrDefault(String name, String defaultName) {
+		return name == null || name.trim().isEmpty() ? defaultName : name;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.converter.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.impl.JsonBoolean;
+import io.github.gabrielgp0811.jsonlite.impl.JsonCollection;
+import io.github.gabrielgp0811.jsonlite.impl.JsonNull;
+import io.github.gabrielgp0811.jsonlite.impl.JsonNumber;
+import io.github.gabrielgp0811.jsonlite.impl.JsonObject;
+import io.github.gabrielgp0811.jsonlite.impl.JsonString;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSymbolTable;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+import io.github.gabrielgp0811.jsonlite.parser.NonBlockingJsonReader;
+import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
+
+/**
+ * Implementation for deserializing JSON documents received in chunks, such as
+ * request bodies read by non-blocking servers, into JSON objects.
+ * <p>
+ * Each chunk is parsed as soon as it is fed, so the body never needs to be
+ * gathered into a single buffer. The JSON objects being built are kept in an
+ * explicit stack between chunks, instead of in the call stack.
+ * </p>
+ * 
+ * <pre>
+ * JsonNonBlockingDeserializerImpl deserializer = new JsonNonBlockingDeserializerImpl();
+ * 
+ * // for each chunk received
+ * deserializer.feed(chunk);
+ * 
+ * // once the body ends
+ * JsonEntry&lt;?&gt; json = deserializer.endOfInput();
+ * </pre>
+ * 
+ * @author gabrielgp0811
+ * @see NonBlockingJsonReader
+ */
+public class JsonNonBlockingDeserializerImpl {
+
+	/**
+	 * The reader.
+	 */
+	private final NonBlockingJsonReader reader = new NonBlockingJsonReader();
+
+	/**
+	 * The objects and arrays being built, from the outermost to the innermost.
+	 */
+	private JsonEntry<?>[] stack = new JsonEntry<?>[32];
+
+	/**
+	 * The amount of objects and arrays in {@link #stack}.
+	 */
+	private int stackSize = 0;
+
+	/**
+	 * The name of the next value, when inside of an object.
+	 */
+	private String name = null;
+
+	/**
+	 * The JSON object, once complete.
+	 */
+	private JsonEntry<?> result = null;
+
+	/**
+	 * Whether the document is complete.
+	 */
+	private boolean complete = false;
+
+	/**
+	 * Attribute names are looked up in {@link JsonSymbolTable#SHARED}.
+	 */
+	public JsonNonBlockingDeserializerImpl() {
+		this(JsonSymbolTable.SHARED);
+	}
+
+	/**
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 */
+	public JsonNonBlockingDeserializerImpl(JsonSymbolTable symbols) {
+		reader.setSymbolTable(symbols);
+	}
+
+	/**
+	 * Parses the bytes between the buffer's position and limit, advancing its
+	 * position to its limit.
+	 * 
+	 * @param bytes The next bytes of the document, encoded in UTF-8.
+	 * @return {@link JsonToken#NEED_MORE_INPUT} while the document is
+	 *         incomplete, or {@link JsonToken#NONE} once it is complete.
+	 * @throws JsonException Malformed JSON.
+	 */
+	public JsonToken feed(ByteBuffer bytes) throws JsonException {
+		if (complete) {
+			bytes.position(bytes.limit());
+
+			return JsonToken.NONE;
+		}
+
+		reader.feed(bytes);
+
+		return parse();
+	}
+
+	/**
+	 * Parses the bytes in <code>bytes</code>, starting at <code>offset</code> and
+	 * spanning <code>length</code> bytes.
+	 * 
+	 * @param bytes  The next bytes of the document, encoded in UTF-8.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return {@link JsonToken#NEED_MORE_INPUT} while the document is
+	 *         incomplete, or {@link JsonToken#NONE} once it is complete.
+	 * @throws JsonException Malformed JSON.
+	 */
+	public JsonToken feed(byte[] bytes, int offset, int length) throws JsonException {
+		return feed(ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	/**
+	 * Signals that all of the input was fed, completing the document.
+	 * 
+	 * @return The JSON object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the input was empty.
+	 * @throws JsonException Incomplete or malformed JSON.
+	 */
+	public JsonEntry<?> endOfInput() throws JsonException {
+		if (!complete) {
+			reader.endOfInput();
+
+			parse();
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         document is complete;
+	 *         <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * @return The JSON object, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> while the document is
+	 *         incomplete.
+	 */
+	public JsonEntry<?> getResult() {
+		return result;
+	}
+
+	/**
+	 * Consumes the tokens available, building the JSON objects.
+	 * 
+	 * @return {@link JsonToken#NEED_MORE_INPUT} while the document is
+	 *         incomplete, or {@link JsonToken#NONE} once it is complete.
+	 * @throws JsonException Malformed JSON.
+	 */
+	private JsonToken parse() throws JsonException {
+		while (true) {
+			JsonToken token = reader.nextToken();
+
+			switch (token) {
+			case NEED_MORE_INPUT:
+				return token;
+			case NONE:
+				complete = true;
+				return token;
+			case NAME:
+				name = reader.getText();
+				break;
+			case CURLY_OPEN:
+				push(new JsonObject(JsonDeserializerImpl.nameOrDefault(name, JsonStrings.OBJECT_NAME)));
+				break;
+			case SQUARED_OPEN:
+				push(new JsonCollection(JsonDeserializerImpl.nameOrDefault(name, JsonStrings.COLLECTION_NAME),
+						null, (JsonPatternInfo) null));
+				break;
+			case CURLY_CLOSE:
+			case SQUARED_CLOSE:
+				JsonEntry<?> entry = stack[--stackSize];
+
+				stack[stackSize] = null;
+
+				add(entry);
+				break;
+			case STRING:
+				add(new JsonString(JsonDeserializerImpl.nameOrDefault(name, JsonStrings.STRING_NAME),
+						reader.getText()));
+				break;
+			case NUMBER:
+				add(new JsonNumber(JsonDeserializerImpl.nameOrDefault(name, JsonStrings.NUMBER_NAME),
+						reader.getNumber()));
+				break;
+			case TRUE:
+			case FALSE:
+				add(new JsonBoolean(JsonDeserializerImpl.nameOrDefault(name, JsonStrings.BOOLEAN_NAME),
+						token == JsonToken.TRUE));
+				break;
+			case NULL:
+				add(new JsonNull(JsonDeserializerImpl.nameOrDefault(name, JsonStrings.NULL_NAME)));
+				break;
+			default:
+				throw new JsonException("Unexpected " + token + " at position " + reader.getPosition() + ".");
+			}
+		}
+	}
+
+	/**
+	 * Starts building an object or array.
+	 * 
+	 * @param entry The object or array.
+	 */
+	private void push(JsonEntry<?> entry) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		}
+
+		stack[stackSize++] = entry;
+		name = null;
+	}
+
+	/**
+	 * Adds a complete value to the object or array being built, or sets it as
+	 * the result at the top level.
+	 * 
+	 * @param entry The value.
+	 */
+	private void add(JsonEntry<?> entry) {
+		if (stackSize == 0) {
+			result = entry;
+		} else {
+			JsonDeserializerImpl.addTo(stack[stackSize - 1], entry);
+		}
+
+		name = null;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,276 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.converter.impl;
+
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+import io.github.gabrielgp0811.jsonlite.converter.Converter;
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.impl.JsonCollection;
+import io.github.gabrielgp0811.jsonlite.parser.JsonArraySplitter;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSource;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSymbolTable;
+import io.github.gabrielgp0811.jsonlite.parser.MappedJsonFile;
+import io.github.gabrielgp0811.jsonlite.parser.Utf8JsonReader;
+import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
+
+/**
+ * Implementation for deserializing JSON strings whose top-level value is a
+ * large array, parsing its elements in parallel.
+ * <p>
+ * The boundaries of the elements are found first by {@link JsonArraySplitter},
+ * in a single quick pass. The elements are then parsed on a
+ * <code>java.util.concurrent.ForkJoinPool</code>, recursively splitting their
+ * ranges in halves until each task has about {@link #GRAIN} characters or
+ * bytes to parse, and added to the {@link JsonCollection} in order. Documents
+ * whose top-level value isn't an array are parsed by
+ * {@link JsonDeserializerImpl}.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonParallelDeserializerImpl implements Converter<String, JsonEntry<?>> {
+
+	/**
+	 * The amount of characters or bytes below which a range of elements is
+	 * parsed by a single task.
+	 */
+	public static final int GRAIN = 1 << 16;
+
+	/**
+	 * The pool parsing the elements.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * The table of canonical attribute names, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> to create a new
+	 * <code>java.lang.String</code> for every name.
+	 */
+	private final JsonSymbolTable symbols;
+
+	/**
+	 * The elements are parsed on the common
+	 * <code>java.util.concurrent.ForkJoinPool</code>, and attribute names are
+	 * looked up in {@link JsonSymbolTable#SHARED}.
+	 */
+	public JsonParallelDeserializerImpl() {
+		this(ForkJoinPool.commonPool(), JsonSymbolTable.SHARED);
+	}
+
+	/**
+	 * @param pool    The pool parsing the elements.
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 */
+	public JsonParallelDeserializerImpl(ForkJoinPool pool, JsonSymbolTable symbols) {
+		if (pool == null) {
+			throw new NullPointerException("pool is null");
+		}
+
+		this.pool = pool;
+		this.symbols = symbols;
+	}
+
+	@Override
+	public JsonEntry<?> convert(String json) throws JsonException {
+		if (json == null) {
+			return null;
+		}
+
+		return convert(json.toCharArray(), 0, json.length());
+	}
+
+	/**
+	 * Converts the JSON characters in <code>json</code>, starting at
+	 * <code>offset</code> and spanning <code>length</code> characters, into a JSON
+	 * object. The array is parsed in place and is not copied.
+	 * 
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 */
+	public JsonEntry<?> convert(char[] json, int offset, int length) throws JsonException {
+		if (json == null || offset < 0 || length < 0 || offset + length > json.length) {
+			return null;
+		}
+
+		long[] ranges = JsonArraySplitter.split(json, offset, length);
+
+		if (ranges == null) {
+			return new JsonDeserializerImpl(symbols).convert(json, offset, length);
+		}
+
+		return convert((start, end) -> new JsonReader(json, (int) start, (int) (end - start)), ranges);
+	}
+
+	/**
+	 * Converts the JSON bytes in <code>json</code>, encoded in UTF-8, starting at
+	 * <code>offset</code> and spanning <code>length</code> bytes, into a JSON
+	 * object. The array is parsed in place and is not copied.
+	 * 
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 */
+	public JsonEntry<?> convert(byte[] json, int offset, int length) throws JsonException {
+		if (json == null || offset < 0 || length < 0 || offset + length > json.length) {
+			return null;
+		}
+
+		long[] ranges = JsonArraySplitter.split(json, offset, length);
+
+		if (ranges == null) {
+			return new JsonDeserializerImpl(symbols).convert(json, offset, length);
+		}
+
+		return convert((start, end) -> new Utf8JsonReader(json, (int) start, (int) (end - start)), ranges);
+	}
+
+	/**
+	 * Converts the JSON file at <code>path</code>, encoded in UTF-8, into a JSON
+	 * object. The file is memory-mapped, so it can be larger than 2 GB.
+	 * 
+	 * @param path The file's path.
+	 * @return The JSON object.
+	 * @throws JsonException Error converting input.
+	 */
+	public JsonEntry<?> convert(Path path) throws JsonException {
+		if (path == null) {
+			return null;
+		}
+
+		MappedJsonFile file = new MappedJsonFile(path);
+		long[] ranges = JsonArraySplitter.split(file);
+
+		if (ranges == null) {
+			return new JsonDeserializerImpl(symbols).convert(file.newReader());
+		}
+
+		return convert(file, ranges);
+	}
+
+	/**
+	 * Parses the elements in parallel.
+	 * 
+	 * @param source The source of the elements.
+	 * @param ranges The start and end positions of each element.
+	 * @return The {@link JsonCollection} object.
+	 * @throws JsonException Error converting input.
+	 */
+	private JsonEntry<?> convert(JsonSource source, long[] ranges) throws JsonException {
+		JsonEntry<?>[] elements = new JsonEntry<?>[ranges.length / 2];
+
+		try {
+			pool.invoke(new ParseTask(source, ranges, elements, 0, elements.length));
+		} catch (RuntimeException e) {
+			// The exception may be copied when rethrown on another thread
+			for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+				if (cause instanceof JsonException) {
+					throw new JsonException(cause.getMessage(), cause);
+				}
+			}
+
+			throw e;
+		}
+
+		JsonCollection array = new JsonCollection(JsonStrings.COLLECTION_NAME, null, (JsonPatternInfo) null);
+
+		for (JsonEntry<?> element : elements) {
+			array.addChild(element);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Task parsing a range of elements, splitting it in halves while larger than
+	 * {@link JsonParallelDeserializerImpl#GRAIN}.
+	 */
+	private class ParseTask extends RecursiveAction {
+
+		/**
+		 * 
+		 */
+		private static final long serialVersionUID = -2755437166829271318L;
+
+		/**
+		 * The source of the elements.
+		 */
+		private final JsonSource source;
+
+		/**
+		 * The start and end positions of each element.
+		 */
+		private final long[] ranges;
+
+		/**
+		 * The elements parsed.
+		 */
+		private final JsonEntry<?>[] elements;
+
+		/**
+		 * The index of the first element of the range.
+		 */
+		private final int from;
+
+		/**
+		 * The index after the last element of the range.
+		 */
+		private final int to;
+
+		/**
+		 * @param source   The source of the elements.
+		 * @param ranges   The start and end positions of each element.
+		 * @param elements The elements parsed.
+		 * @param from     The index of the first element of the range.
+		 * @param to       The index after the last element of the range.
+		 */
+		ParseTask(JsonSource source, long[] ranges, JsonEntry<?>[] elements, int from, int to) {
+			this.source = source;
+			this.ranges = ranges;
+			this.elements = elements;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1 && ranges[2 * to - 1] - ranges[2 * from] > GRAIN) {
+				int middle = (from + to) >>> 1;
+
+				invokeAll(new ParseTask(source, ranges, elements, from, middle),
+						new ParseTask(source, ranges, elements, middle, to));
+
+				return;
+			}
+
+			JsonDeserializerImpl deserializer = new JsonDeserializerImpl(symbols);
+
+			try {
+				for (int i = from; i < to; i++) {
+					JsonReader reader = source.newReader(ranges[2 * i], ranges[2 * i + 1]);
+
+					elements[i] = deserializer.convert(reader);
+
+					reader.endDocument();
+				}
+			} catch (JsonException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -20,6 +20,16 @@ import io.github.gabrielgp0811.jsonlite.util.Util;
  */
 public class JsonBoolean extends JsonEntry<Boolean> {
 
+	/**
+	 * The shared, frozen <code>true</code> for elements of frozen arrays.
+	 */
+	public static final JsonBoolean TRUE = (JsonBoolean) new JsonBoolean(true).freeze();
+
+	/**
+	 * The shared, frozen <code>false</code> for elements of frozen arrays.
+	 */
+	public static final JsonBoolean FALSE = (JsonBoolean) new JsonBoolean(false).freeze();
+
 	/**
 	 * 
 	 */
@@ -42,6 +52,14 @@ public class JsonBoolean extends JsonEntry<Boolean> {
 		super(name, value);
 	}
 
+	/**
+	 * @param value The value.
+	 * @return {@link #TRUE} or {@link #FALSE}.
+	 */
+	public static JsonBoolean valueOf(boolean value) {
+		return value ? TRUE : FALSE;
+	}
+
 	@Override
 	public JsonEntry<Boolean> addChild(String name, Object obj, JsonPatternInfo info) {
 		return this;
@@ -137,56 +155,19 @@ public class JsonBoolean extends JsonEntry<Boolean> {
 	}
 
 	@Override
-	public String toPrettyString(String tab) {
-		StringBuilder builder = new StringBuilder();
-
-		builder.append(Util.getIndentTab(indentLevel, tab));
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		builder.append(getValue());
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.WHITESPACE);
-			builder.append(JsonStrings.END);
-		}
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		appendScalar(builder, objectChild, arrayChild, indentLevel, tab, getValue(), false);
+	}
 
-		return builder.toString();
+	@Override
+	public String toPrettyString(String tab) {
+		return render(tab == null ? JsonStrings.TAB : tab);
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-		}
-
-		builder.append(getValue());
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.END);
-		}
-
-		return builder.toString();
+		return render(null);
 	}
 
 	@Override
@@ -0,0 +1,530 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+
+/**
+ * Children of a {@link JsonObject}, kept in insertion order and indexed by
+ * name.
+ * <p>
+ * The children are stored in an array. Up to {@link #LINEAR_THRESHOLD}
+ * children, names are looked up by scanning it; beyond, an open-addressing
+ * table of slots, probed linearly, is built, so that looking up, adding and
+ * removing a child by name take constant time. Removed children leave holes in
+ * the array, which are compacted once they outnumber the children, when a
+ * child is added. Looking up by index walks past the holes instead, from the
+ * child last looked up, so that reading never moves the children under an
+ * iterator.
+ * </p>
+ * <p>
+ * When several children share a name, the first one added is found.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+final class JsonChildren extends AbstractCollection<JsonEntry<?>> {
+
+	/**
+	 * The amount of children up to which names are looked up by scanning.
+	 */
+	static final int LINEAR_THRESHOLD = 8;
+
+	/**
+	 * Empty slot of {@link #table}.
+	 */
+	private static final int FREE = 0;
+
+	/**
+	 * Slot of {@link #table} whose child was removed.
+	 */
+	private static final int DELETED = -1;
+
+	/**
+	 * The children, in insertion order, with <strong><span style=
+	 * "color:#7f0055">null</span></strong> holes where removed.
+	 */
+	private JsonEntry<?>[] entries = new JsonEntry<?>[LINEAR_THRESHOLD];
+
+	/**
+	 * The amount of slots of {@link #entries} used, holes included.
+	 */
+	private int end = 0;
+
+	/**
+	 * The amount of children.
+	 */
+	private int size = 0;
+
+	/**
+	 * The hash table, holding the index in {@link #entries} plus one of each
+	 * child, {@link #FREE} or {@link #DELETED}, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> while names are looked up by scanning.
+	 */
+	private int[] table = null;
+
+	/**
+	 * The amount of {@link #DELETED} slots of {@link #table}.
+	 */
+	private int deleted = 0;
+
+	/**
+	 * Whether two children ever shared a name, in which case only the first one
+	 * is in {@link #table}.
+	 */
+	private boolean duplicates = false;
+
+	/**
+	 * The amount of changes, for iterators to fail fast.
+	 */
+	private int modCount = 0;
+
+	/**
+	 * The index of the child last looked up by index.
+	 */
+	private int cursorIndex = 0;
+
+	/**
+	 * The slot in {@link #entries} of the child last looked up by index.
+	 */
+	private int cursorSlot = 0;
+
+	/**
+	 * The {@link #modCount} when {@link #cursorIndex} and {@link #cursorSlot}
+	 * were set, past which they're stale.
+	 */
+	private int cursorModCount = -1;
+
+	/**
+	 * 
+	 */
+	JsonChildren() {
+
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(JsonEntry<?> json) {
+		if (end == entries.length) {
+			if (end - size > size) {
+				compact();
+			} else {
+				entries = Arrays.copyOf(entries, end * 2);
+			}
+		}
+
+		entries[end++] = json;
+		size++;
+		modCount++;
+
+		if (table == null ? size > LINEAR_THRESHOLD : (size + deleted) * 2 > table.length) {
+			rehash();
+		} else if (table != null && !insert(end - 1)) {
+			duplicates = true;
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		for (int i = 0; i < end; i++) {
+			if (entries[i] != null && entries[i].equals(o)) {
+				removeAt(i);
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(entries, 0, end, null);
+
+		end = 0;
+		size = 0;
+		table = null;
+		deleted = 0;
+		duplicates = false;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<JsonEntry<?>> iterator() {
+		return new Iterator<JsonEntry<?>>() {
+
+			/**
+			 * The slot of the next child.
+			 */
+			private int next = skipHoles(0);
+
+			/**
+			 * The slot of the last child returned, or <code>-1</code>.
+			 */
+			private int last = -1;
+
+			/**
+			 * The expected amount of changes.
+			 */
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return next < end;
+			}
+
+			@Override
+			public JsonEntry<?> next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+
+				if (next >= end) {
+					throw new NoSuchElementException();
+				}
+
+				last = next;
+				next = skipHoles(next + 1);
+
+				return entries[last];
+			}
+
+			@Override
+			public void remove() {
+				if (last == -1) {
+					throw new IllegalStateException();
+				}
+
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+
+				// Removing leaves a hole, so the slots don't move
+				removeAt(last);
+
+				last = -1;
+				expectedModCount = modCount;
+			}
+
+		};
+	}
+
+	/**
+	 * Replaces the first child with the same name as <code>json</code>, keeping
+	 * its place, or adds <code>json</code> if none.
+	 * 
+	 * @param json The child.
+	 */
+	void put(JsonEntry<?> json) {
+		int slot = find(json.getName());
+
+		if (slot == -1) {
+			add(json);
+
+			return;
+		}
+
+		// Same name, so the table still points at the slot
+		entries[slot] = json;
+		modCount++;
+	}
+
+	/**
+	 * @param index The index of the child.
+	 * @return The child, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if out of bounds.
+	 */
+	JsonEntry<?> get(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+
+		return entries[slotOf(index)];
+	}
+
+	/**
+	 * @param name The name.
+	 * @return The first child named <code>name</code>, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if none.
+	 */
+	JsonEntry<?> get(String name) {
+		int slot = find(name);
+
+		return slot == -1 ? null : entries[slot];
+	}
+
+	/**
+	 * Removes the child at <code>index</code>.
+	 * 
+	 * @param index The index of the child.
+	 * @return The child removed, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if out of bounds.
+	 */
+	JsonEntry<?> remove(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+
+		int slot = slotOf(index);
+		JsonEntry<?> json = entries[slot];
+
+		removeAt(slot);
+
+		return json;
+	}
+
+	/**
+	 * Removes every child named <code>name</code>.
+	 * 
+	 * @param name The name.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if any
+	 *         child was removed; <strong><span style=
+	 *         "color:#7f0055">false</span></strong> otherwise.
+	 */
+	boolean remove(String name) {
+		boolean removed = false;
+		int slot;
+
+		while ((slot = find(name)) != -1) {
+			removeAt(slot);
+
+			removed = true;
+		}
+
+		return removed;
+	}
+
+	/**
+	 * @param name The name.
+	 * @return The slot in {@link #entries} of the first child named
+	 *         <code>name</code>, or <code>-1</code> if none.
+	 */
+	private int find(String name) {
+		if (table == null) {
+			for (int i = 0; i < end; i++) {
+				if (entries[i] != null && nameEquals(entries[i], name)) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+		int mask = table.length - 1;
+
+		for (int i = hash(name) & mask;; i = (i + 1) & mask) {
+			int value = table[i];
+
+			if (value == FREE) {
+				return -1;
+			}
+
+			if (value != DELETED && nameEquals(entries[value - 1], name)) {
+				return value - 1;
+			}
+		}
+	}
+
+	/**
+	 * Indexes the child at <code>slot</code>, unless a child with the same name
+	 * is already indexed.
+	 * 
+	 * @param slot The slot in {@link #entries}.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if
+	 *         indexed; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private boolean insert(int slot) {
+		String name = entries[slot].getName();
+		int mask = table.length - 1;
+		int free = -1;
+
+		for (int i = hash(name) & mask;; i = (i + 1) & mask) {
+			int value = table[i];
+
+			if (value == FREE) {
+				if (free == -1) {
+					free = i;
+				} else {
+					deleted--;
+				}
+
+				table[free] = slot + 1;
+
+				return true;
+			}
+
+			if (value == DELETED) {
+				if (free == -1) {
+					free = i;
+				}
+			} else if (nameEquals(entries[value - 1], name)) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Removes the child at <code>slot</code>, leaving a hole.
+	 * 
+	 * @param slot The slot in {@link #entries}.
+	 */
+	private void removeAt(int slot) {
+		if (table != null) {
+			int mask = table.length - 1;
+
+			for (int i = hash(entries[slot].getName()) & mask;; i = (i + 1) & mask) {
+				if (table[i] == slot + 1) {
+					table[i] = DELETED;
+					deleted++;
+					break;
+				}
+
+				if (table[i] == FREE) {
+					break;
+				}
+			}
+		}
+
+		entries[slot] = null;
+		size--;
+		modCount++;
+
+		if (duplicates) {
+			// Another child with the same name may become the first one
+			rehash();
+		}
+	}
+
+	/**
+	 * Rebuilds {@link #table} for the current amount of children, or drops it
+	 * when few enough to be scanned.
+	 */
+	private void rehash() {
+		if (size <= LINEAR_THRESHOLD) {
+			table = null;
+			deleted = 0;
+
+			return;
+		}
+
+		int capacity = Integer.highestOneBit(size * 4 - 1) << 1;
+
+		table = new int[capacity];
+		deleted = 0;
+		duplicates = false;
+
+		for (int i = 0; i < end; i++) {
+			if (entries[i] != null && !insert(i)) {
+				duplicates = true;
+			}
+		}
+	}
+
+	/**
+	 * Moves the children over the holes, keeping their order.
+	 */
+	void compact() {
+		if (end == size) {
+			return;
+		}
+
+		int j = 0;
+
+		for (int i = 0; i < end; i++) {
+			if (entries[i] != null) {
+				entries[j++] = entries[i];
+			}
+		}
+
+		Arrays.fill(entries, j, end, null);
+
+		end = j;
+		modCount++;
+
+		if (table != null) {
+			rehash();
+		}
+	}
+
+	/**
+	 * @param index The index of the child, within bounds.
+	 * @return The slot in {@link #entries} of the child at <code>index</code>.
+	 */
+	private int slotOf(int index) {
+		if (end == size) {
+			return index;
+		}
+
+		int i = 0;
+		int slot = skipHoles(0);
+
+		// Walking on from the last lookup keeps a loop over the indexes linear
+		if (cursorModCount == modCount && cursorIndex <= index) {
+			i = cursorIndex;
+			slot = cursorSlot;
+		}
+
+		for (; i < index; i++) {
+			slot = skipHoles(slot + 1);
+		}
+
+		cursorIndex = index;
+		cursorSlot = slot;
+		cursorModCount = modCount;
+
+		return slot;
+	}
+
+	/**
+	 * @param start The slot to start from.
+	 * @return The first slot from <code>start</code> holding a child, or
+	 *         {@link #end}.
+	 */
+	private int skipHoles(int start) {
+		int i = start;
+
+		while (i < end && entries[i] == null) {
+			i++;
+		}
+
+		return i;
+	}
+
+	/**
+	 * @param json The child.
+	 * @param name The name.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         child is named <code>name</code>; <strong><span style=
+	 *         "color:#7f0055">false</span></strong> otherwise.
+	 */
+	private static boolean nameEquals(JsonEntry<?> json, String name) {
+		String childName = json.getName();
+
+		return childName == name || (childName != null && childName.equals(name));
+	}
+
+	/**
+	 * @param name The name.
+	 * @return The spread hash code of <code>name</code>.
+	 */
+	private static int hash(String name) {
+		int h = name == null ? 0 : name.hashCode();
+
+		return h ^ (h >>> 16);
+	}
+
+}
\ No newline at end of file
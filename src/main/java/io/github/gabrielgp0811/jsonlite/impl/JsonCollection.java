@@ -3,9 +3,11 @@
  */
 package io.github.gabrielgp0811.jsonlite.impl;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Collectors;
 
 import io.github.gabrielgp0811.jsonlite.Json;
@@ -22,9 +24,10 @@ import io.github.gabrielgp0811.jsonlite.util.Util;
 public class JsonCollection extends JsonEntry<Collection<?>> {
 
 	/**
-	 * The children JSON objects.
+	 * The children JSON objects, in an array grown on demand, so that they are
+	 * accessed by index in constant time.
 	 */
-	private Collection<JsonEntry<?>> children = null;
+	private ArrayList<JsonEntry<?>> children = null;
 
 	/**
 	 * 
@@ -40,6 +43,16 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 		this(name, new ArrayList<>());
 	}
 
+	/**
+	 * @param name     The name to set
+	 * @param capacity The amount of children to make room for
+	 */
+	public JsonCollection(String name, int capacity) {
+		this(name);
+
+		ensureCapacity(capacity);
+	}
+
 	/**
 	 * @param value The value to set
 	 */
@@ -121,6 +134,8 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 			return;
 		}
 
+		ensureCapacity(list.size());
+
 		for (Object obj : list) {
 			addChild(null, obj, info);
 		}
@@ -133,7 +148,9 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 
 	@Override
 	public JsonEntry<Collection<?>> addChild(JsonEntry<?> json) {
-		getChildren().add(json);
+		checkNotFrozen();
+
+		children().add(json);
 
 		return this;
 	}
@@ -148,30 +165,38 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 
 	@Override
 	public JsonEntry<Collection<?>> addChildren(Collection<JsonEntry<?>> jsons) {
-		if (jsons != null)
+		if (jsons != null) {
+			ensureCapacity(childrenSize() + jsons.size());
+
 			jsons.forEach(this::addChild);
+		}
 
 		return this;
 	}
 
+	/**
+	 * Get child JSON object by <code>index</code>.
+	 * <p>
+	 * Until the array is frozen, its elements are its own and can be changed.
+	 * Once frozen, elements that are <code>true</code>, <code>false</code>,
+	 * <code>null</code> or an integer from <code>-128</code> to <code>127</code>
+	 * are the shared instances, such as {@link JsonBoolean#TRUE}. Like every
+	 * frozen JSON object, they throw an
+	 * <code>UnsupportedOperationException</code> when changed; a
+	 * {@link #clone()} of the array copies them, so that they can be.
+	 * </p>
+	 * 
+	 * @param index The index.
+	 * @return The child JSON object.
+	 * @see JsonEntry#isFrozen()
+	 */
 	@Override
 	public JsonEntry<?> getChild(int index) {
 		if (index < 0 || index >= childrenSize()) {
 			return null;
 		}
 
-		JsonEntry<?> result = null;
-		int i = 0;
-		for (JsonEntry<?> child : children) {
-			if (i == index) {
-				result = child;
-				break;
-			}
-
-			i++;
-		}
-
-		return result;
+		return children().get(index);
 	}
 
 	@Override
@@ -181,12 +206,10 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 
 	@Override
 	public JsonEntry<?> removeChild(int index) {
-		if (index > 0 || index < childrenSize()) {
-			for (int i = 0; i < childrenSize(); i++) {
-				if (i == index) {
-					getChildren().remove(getChild(index));
-				}
-			}
+		checkNotFrozen();
+
+		if (index >= 0 && index < childrenSize()) {
+			children().remove(index);
 		}
 
 		return this;
@@ -202,9 +225,96 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 		if (children == null) {
 			children = new ArrayList<>();
 		}
+		return frozen ? Collections.unmodifiableList(children) : children;
+	}
+
+	/**
+	 * Makes room for at least <code>capacity</code> children, so that adding
+	 * them doesn't grow the array again.
+	 * 
+	 * @param capacity The amount of children.
+	 */
+	public void ensureCapacity(int capacity) {
+		checkNotFrozen();
+
+		children().ensureCapacity(capacity);
+	}
+
+	/**
+	 * Shrinks the array of children to their amount, releasing the room left for
+	 * more.
+	 */
+	public void trimToSize() {
+		checkNotFrozen();
+
+		children().trimToSize();
+	}
+
+	/**
+	 * @return The children JSON objects, once loaded by {@link #getChildren()},
+	 *         which subclasses may override to load them lazily.
+	 */
+	private ArrayList<JsonEntry<?>> children() {
+		getChildren();
+
 		return children;
 	}
 
+	/**
+	 * @return The value, or, when this JSON object has no backing value (e.g. it
+	 *         was parsed from a JSON string), a <code>java.util.List</code> built
+	 *         from its children, as {@link #toJavaCollection()} does. The list
+	 *         is built anew on every call, so it's a copy: later changes to the
+	 *         children don't show in it, and changes to it don't reach the
+	 *         children.
+	 */
+	@Override
+	public Collection<?> getValue() {
+		return value != null ? value : toJavaCollection();
+	}
+
+	@Override
+	protected Collection<JsonEntry<?>> prepareFreeze() {
+		// The value is built from the children, so there's nothing to decode
+		ArrayList<JsonEntry<?>> elements = children();
+
+		// Nothing can change the elements from now on, so they may be shared
+		for (int i = 0; i < elements.size(); i++) {
+			elements.set(i, shared(elements.get(i)));
+		}
+
+		return elements;
+	}
+
+	/**
+	 * @param json The element.
+	 * @return The shared, frozen JSON object for <code>json</code>, when a
+	 *         boolean, <strong><span style="color:#7f0055">null</span></strong>
+	 *         or small integer with the default name; otherwise,
+	 *         <code>json</code>.
+	 */
+	private static JsonEntry<?> shared(JsonEntry<?> json) {
+		Class<?> type = json.getClass();
+
+		if (type == JsonBoolean.class && JsonStrings.BOOLEAN_NAME.equals(json.getName())) {
+			Boolean value = ((JsonBoolean) json).getValue();
+
+			return value != null ? JsonBoolean.valueOf(value) : json;
+		}
+
+		if (type == JsonNull.class && JsonStrings.NULL_NAME.equals(json.getName())) {
+			return JsonNull.NULL;
+		}
+
+		if (type == JsonNumber.class && JsonStrings.NUMBER_NAME.equals(json.getName())) {
+			JsonNumber number = JsonNumber.valueOf(((JsonNumber) json).getValue());
+
+			return number.isFrozen() ? number : json;
+		}
+
+		return json;
+	}
+
 	@Override
 	public Collection<Object> toJavaObject() {
 		return getChildren().stream().map(child -> child.toJavaObject()).collect(Collectors.toList());
@@ -215,11 +325,40 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 		return getChildren().stream().map(child -> child.toJavaObject()).collect(Collectors.toList());
 	}
 
+	/**
+	 * Convert this JSON object into a Java object of class <code>clazz</code>. An
+	 * array class gets an array of the children, each converted into the
+	 * component type; any other class gets the first child converted.
+	 * 
+	 * @param clazz The class.
+	 * @param info  The info (pattern, locale and timezone).
+	 * @return The Java object.
+	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T toJavaObject(Class<T> clazz, JsonPatternInfo info) {
+		if (Util.isArray(clazz)) {
+			Class<?> componentType = clazz.getComponentType();
+			Collection<JsonEntry<?>> children = getChildren();
+			Object array = Array.newInstance(componentType, children.size());
+			int i = 0;
+
+			for (JsonEntry<?> child : children) {
+				Object element = child.toJavaObject(componentType, info);
+
+				if (element != null) {
+					Array.set(array, i, element);
+				}
+
+				i++;
+			}
+
+			return (T) array;
+		}
+
 		Collection<T> collection = toJavaCollection(clazz, info);
 
-		return collection.stream().findFirst().orElse(null);
+		return collection == null || collection.isEmpty() ? null : collection.iterator().next();
 	}
 
 	@Override
@@ -233,67 +372,100 @@ public class JsonCollection extends JsonEntry<Collection<?>> {
 	}
 
 	@Override
-	public String toPrettyString(String tab) {
-		StringBuilder builder = new StringBuilder();
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		boolean pretty = tab != null;
 
-		builder.append(Util.getIndentTab(indentLevel, tab));
+		appendStart(builder, objectChild, indentLevel, tab);
 
-		if (isObjectChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-			builder.append(JsonStrings.WHITESPACE);
-		}
+		boolean first = true;
 
-		builder.append(JsonStrings.START_ARRAY);
-		builder.append(getChildren().stream()
-				.map(child -> child.clone())
-				.map(child -> {
-					child.setArrayChild(true);
-					child.setIndentLevel(getIndentLevel() + 1);
-					
-					return JsonStrings.LINE_SEPARATOR.concat(child.toPrettyString(tab));
-				})
-				.collect(Collectors.joining(JsonStrings.COMMA)));
-		builder.append(JsonStrings.LINE_SEPARATOR);
-		builder.append(Util.getIndentTab(indentLevel, tab));
+		for (JsonEntry<?> child : getChildren()) {
+			if (!first) {
+				builder.append(JsonStrings.COMMA);
+			}
 
-		builder.append(JsonStrings.END_ARRAY);
+			if (pretty) {
+				builder.append(JsonStrings.LINE_SEPARATOR);
+			}
+
+			child.appendTo(builder, false, true, indentLevel + 1, tab);
+			first = false;
+		}
 
-		return builder.toString();
+		appendEnd(builder, indentLevel, tab);
+	}
+
+	@Override
+	public String toPrettyString(String tab) {
+		return render(tab == null ? JsonStrings.TAB : tab);
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
+		return render(null);
+	}
+
+	/**
+	 * Appends the start of this array, up to the opening square bracket.
+	 * 
+	 * @param builder     The builder.
+	 * @param objectChild Whether rendered as an attribute of another JSON object.
+	 * @param indentLevel The indent level.
+	 * @param tab         The string representing tabulation, or
+	 *                    <strong><span style="color:#7f0055">null</span></strong>
+	 *                    to render without line breaks nor indentation.
+	 */
+	protected void appendStart(StringBuilder builder, boolean objectChild, int indentLevel, String tab) {
+		if (tab != null) {
+			builder.append(Util.getIndentTab(indentLevel, tab));
+		}
 
-		if (isObjectChild()) {
+		if (objectChild) {
 			builder.append(JsonStrings.QUOTATION);
 			builder.append(getName());
 			builder.append(JsonStrings.QUOTATION);
 			builder.append(JsonStrings.COLON);
+
+			if (tab != null) {
+				builder.append(JsonStrings.WHITESPACE);
+			}
 		}
 
 		builder.append(JsonStrings.START_ARRAY);
-		builder.append(getChildren().stream()
-				.map(child -> child.clone())
-				.map(child -> {
-					child.setArrayChild(true);
+	}
 
-					return child;
-				})
-				.map(child -> child.toString())
-				.collect(Collectors.joining(JsonStrings.COMMA)));
+	/**
+	 * Appends the end of this array, from the line break after the last element.
+	 * 
+	 * @param builder     The builder.
+	 * @param indentLevel The indent level.
+	 * @param tab         The string representing tabulation, or
+	 *                    <strong><span style="color:#7f0055">null</span></strong>
+	 *                    to render without line breaks nor indentation.
+	 */
+	protected void appendEnd(StringBuilder builder, int indentLevel, String tab) {
+		if (tab != null) {
+			builder.append(JsonStrings.LINE_SEPARATOR);
+			builder.append(Util.getIndentTab(indentLevel, tab));
+		}
 
 		builder.append(JsonStrings.END_ARRAY);
-
-		return builder.toString();
 	}
 
 	@Override
 	public JsonEntry<Collection<?>> clone() {
-		return new JsonCollection(name, null, info).addChildren(children);
+		JsonCollection copy = new JsonCollection(name, null, info);
+
+		if (children != null) {
+			copy.ensureCapacity(children.size());
+
+			// Frozen elements, such as the shared ones, are copied so that the copy
+			// can be changed
+			children.forEach(child -> copy.addChild(child.isFrozen() ? child.clone() : child));
+		}
+
+		return copy;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+
+/**
+ * Class for arrays of numbers packed into a <code>double[]</code>.
+ * 
+ * @author gabrielgp0811
+ * @see JsonPackedArray
+ */
+public class JsonDoubleArray extends JsonPackedArray {
+
+	/**
+	 * The elements, or <strong><span style="color:#7f0055">null</span></strong>
+	 * once turned into {@link JsonNumber} objects.
+	 */
+	private double[] values = null;
+
+	/**
+	 * Whether the elements a <code>float</code> holds exactly are given as
+	 * <code>java.lang.Float</code>, as parsed numbers are, instead of as
+	 * <code>java.lang.Double</code>.
+	 */
+	private boolean narrow = false;
+
+	/**
+	 * @param values The elements, which aren't copied
+	 */
+	public JsonDoubleArray(double[] values) {
+		this(JsonStrings.COLLECTION_NAME, values);
+	}
+
+	/**
+	 * @param name   The name to set
+	 * @param values The elements, which aren't copied
+	 */
+	public JsonDoubleArray(String name, double[] values) {
+		this(name, values, false);
+	}
+
+	/**
+	 * @param name   The name to set
+	 * @param values The elements, which aren't copied
+	 * @param narrow Whether the elements a <code>float</code> holds exactly are
+	 *               given as <code>java.lang.Float</code>, as parsed numbers are
+	 */
+	public JsonDoubleArray(String name, double[] values, boolean narrow) {
+		super(name);
+
+		this.values = values;
+		this.narrow = narrow;
+	}
+
+	/**
+	 * @param index The index of the element.
+	 * @return The element, while packed.
+	 * @throws IllegalStateException     The elements aren't packed anymore.
+	 * @throws IndexOutOfBoundsException <code>index</code> is out of bounds.
+	 */
+	public double getDouble(int index) {
+		if (values == null) {
+			throw new IllegalStateException("Not packed anymore");
+		}
+
+		return values[index];
+	}
+
+	@Override
+	protected int length() {
+		return values.length;
+	}
+
+	@Override
+	protected Number element(int index) {
+		return narrow ? narrow(values[index]) : Double.valueOf(values[index]);
+	}
+
+	@Override
+	protected void appendElement(StringBuilder builder, int index) {
+		if (narrow) {
+			builder.append(narrow(values[index]));
+		} else {
+			builder.append(values[index]);
+		}
+	}
+
+	@Override
+	protected Object copy(Class<?> componentType) {
+		if (double.class.equals(componentType)) {
+			return values.clone();
+		}
+
+		return null;
+	}
+
+	@Override
+	protected JsonDoubleArray duplicate() {
+		return new JsonDoubleArray(name, values, narrow);
+	}
+
+	@Override
+	protected void release() {
+		values = null;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.parser.JsonTape;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
+
+/**
+ * Class for arrays whose elements are decoded from a {@link JsonTape} only when
+ * first accessed.
+ * <p>
+ * {@link #getChild(int)} and {@link #childrenSize()} decode that element alone
+ * or nothing at all. Any other access to the elements decodes all of them,
+ * after which this array behaves as a {@link JsonCollection}.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonLazyCollection extends JsonCollection {
+
+	/**
+	 * The tape, or <strong><span style="color:#7f0055">null</span></strong> once
+	 * all the elements are decoded.
+	 */
+	private JsonTape tape = null;
+
+	/**
+	 * The index in the tape of the start of this array.
+	 */
+	private int index = 0;
+
+	/**
+	 * The indexes in the tape of the elements.
+	 */
+	private int[] indexes = null;
+
+	/**
+	 * The elements already decoded.
+	 */
+	private JsonEntry<?>[] decoded = null;
+
+	/**
+	 * @param name  The name to set
+	 * @param tape  The tape
+	 * @param index The index in the tape of the start of this array
+	 */
+	public JsonLazyCollection(String name, JsonTape tape, int index) {
+		super(name, null, (JsonPatternInfo) null);
+
+		this.tape = tape;
+		this.index = index;
+	}
+
+	@Override
+	public JsonEntry<?> getChild(int index) {
+		if (tape == null) {
+			return super.getChild(index);
+		}
+
+		if (index < 0 || index >= indexes().length) {
+			return null;
+		}
+
+		return decode(index);
+	}
+
+	@Override
+	public int childrenSize() {
+		if (tape == null) {
+			return super.childrenSize();
+		}
+
+		return indexes().length;
+	}
+
+	@Override
+	public Collection<JsonEntry<?>> getChildren() {
+		if (tape != null) {
+			JsonEntry<?>[] elements = new JsonEntry<?>[indexes().length];
+
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = decode(i);
+			}
+
+			tape = null;
+			indexes = null;
+			decoded = null;
+
+			super.getChildren().addAll(Arrays.asList(elements));
+		}
+
+		return super.getChildren();
+	}
+
+	@Override
+	public JsonEntry<Collection<?>> clone() {
+		getChildren();
+
+		return super.clone();
+	}
+
+	/**
+	 * @return The indexes in the tape of the elements.
+	 */
+	private int[] indexes() {
+		if (indexes == null) {
+			int[] result = new int[8];
+			int size = 0;
+
+			for (int i = index + 1; tape.getToken(i) != JsonToken.SQUARED_CLOSE; i = tape.next(i)) {
+				if (size == result.length) {
+					result = Arrays.copyOf(result, size * 2);
+				}
+
+				result[size++] = i;
+			}
+
+			indexes = Arrays.copyOf(result, size);
+			decoded = new JsonEntry<?>[size];
+		}
+
+		return indexes;
+	}
+
+	/**
+	 * Decodes the element at <code>index</code>, unless already decoded.
+	 * 
+	 * @param index The index of the element.
+	 * @return The element.
+	 */
+	private JsonEntry<?> decode(int index) {
+		JsonEntry<?> element = decoded[index];
+
+		if (element == null) {
+			element = decoded[index] = JsonLazyObject.decode(tape, indexes[index], null);
+		}
+
+		return element;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+
+/**
+ * Class for numbers whose value is parsed from its characters only when first
+ * accessed. The characters must be a well-formed number, as checked by
+ * {@link JsonReader#nextNumberText()}.
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonLazyNumber extends JsonNumber {
+
+	/**
+	 * The characters of the value, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> once the value is parsed.
+	 */
+	private String text = null;
+
+	/**
+	 * @param name The name to set
+	 * @param text The characters of the value
+	 */
+	public JsonLazyNumber(String name, String text) {
+		super(name, null);
+
+		this.text = text;
+	}
+
+	/**
+	 * @throws IllegalStateException The characters aren't a well-formed number.
+	 */
+	@Override
+	public Number getValue() {
+		String text = this.text;
+
+		if (text != null) {
+			try {
+				value = new JsonReader(text.toCharArray(), 0, text.length()).nextNumber();
+			} catch (JsonException e) {
+				throw new IllegalStateException(e);
+			}
+
+			this.text = null;
+		}
+
+		return super.getValue();
+	}
+
+	@Override
+	public Number setValue(Number value) {
+		this.text = null;
+
+		return super.setValue(value);
+	}
+
+	@Override
+	public JsonNumber clone() {
+		return new JsonNumber(name, getValue());
+	}
+
+}
\ No newline at end of file
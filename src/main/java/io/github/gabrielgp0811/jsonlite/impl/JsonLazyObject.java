@@ -0,0 +1,193 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.parser.JsonTape;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+
+/**
+ * Class for objects whose children are decoded from a {@link JsonTape} only
+ * when first accessed.
+ * <p>
+ * {@link #getChild(String)} and {@link #isChildPresent(String)} look the name
+ * up in the tape and decode that child alone. Any other access to the children
+ * decodes all of them, after which this object behaves as a
+ * {@link JsonObject}.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonLazyObject extends JsonObject {
+
+	/**
+	 * The tape, or <strong><span style="color:#7f0055">null</span></strong> once
+	 * all the children are decoded.
+	 */
+	private JsonTape tape = null;
+
+	/**
+	 * The index in the tape of the start of this object.
+	 */
+	private int index = 0;
+
+	/**
+	 * The children already decoded, by the index in the tape of their names.
+	 */
+	private Map<Integer, JsonEntry<?>> decoded = null;
+
+	/**
+	 * @param name  The name to set
+	 * @param tape  The tape
+	 * @param index The index in the tape of the start of this object
+	 */
+	public JsonLazyObject(String name, JsonTape tape, int index) {
+		super(name);
+
+		this.tape = tape;
+		this.index = index;
+	}
+
+	@Override
+	public JsonEntry<?> getChild(String name) {
+		JsonTape tape = this.tape;
+
+		if (tape == null) {
+			return super.getChild(name);
+		}
+
+		if (name == null || name.trim().isEmpty()) {
+			return null;
+		}
+
+		int last = -1;
+
+		// The last child with the name wins, as when decoding all of them
+		for (int i = index + 1; tape.getToken(i) == JsonToken.NAME; i = tape.next(i + 2)) {
+			if (tape.nameEquals(i, name)) {
+				last = i;
+			}
+		}
+
+		return last == -1 ? null : decode(tape, last);
+	}
+
+	@Override
+	public boolean isChildPresent(String name) {
+		if (tape == null) {
+			return super.isChildPresent(name);
+		}
+
+		return getChild(name) != null;
+	}
+
+	@Override
+	public Collection<JsonEntry<?>> getChildren() {
+		JsonTape tape = this.tape;
+
+		if (tape != null) {
+			this.tape = null;
+
+			for (int i = index + 1; tape.getToken(i) == JsonToken.NAME; i = tape.next(i + 2)) {
+				putChild(decode(tape, i));
+			}
+
+			decoded = null;
+		}
+
+		return super.getChildren();
+	}
+
+	@Override
+	public JsonEntry<Object> clone() {
+		getChildren();
+
+		return super.clone();
+	}
+
+	/**
+	 * Decodes the child whose name is at <code>index</code>, unless already
+	 * decoded.
+	 * 
+	 * @param tape  The tape.
+	 * @param index The index in the tape of the child's name.
+	 * @return The child.
+	 */
+	private JsonEntry<?> decode(JsonTape tape, int index) {
+		if (decoded == null) {
+			decoded = new HashMap<>();
+		}
+
+		JsonEntry<?> child = decoded.get(index);
+
+		if (child == null) {
+			String name = null;
+
+			try {
+				name = tape.getName(index);
+			} catch (JsonException e) {
+				// Names are checked when indexed
+				throw new IllegalStateException(e);
+			}
+
+			child = decode(tape, index + 2, name);
+
+			decoded.put(index, child);
+		}
+
+		return child;
+	}
+
+	/**
+	 * Creates the JSON object for the value at <code>index</code>. Objects and
+	 * arrays are decoded lazily, as are strings and numbers.
+	 * 
+	 * @param tape  The tape.
+	 * @param index The index in the tape of the value.
+	 * @param name  The name of the JSON object.
+	 * @return The JSON object.
+	 */
+	static JsonEntry<?> decode(JsonTape tape, int index, String name) {
+		switch (tape.getToken(index)) {
+		case CURLY_OPEN:
+			return new JsonLazyObject(nameOrDefault(name, JsonStrings.OBJECT_NAME), tape, index);
+		case SQUARED_OPEN:
+			return new JsonLazyCollection(nameOrDefault(name, JsonStrings.COLLECTION_NAME), tape, index);
+		case STRING:
+			return new JsonLazyString(nameOrDefault(name, JsonStrings.STRING_NAME), tape, tape.getStart(index),
+					tape.getEnd(index));
+		case NUMBER:
+			try {
+				return new JsonLazyNumber(nameOrDefault(name, JsonStrings.NUMBER_NAME), tape.getText(index));
+			} catch (JsonException e) {
+				// Numbers are checked when indexed
+				throw new IllegalStateException(e);
+			}
+		case TRUE:
+		case FALSE:
+			return new JsonBoolean(nameOrDefault(name, JsonStrings.BOOLEAN_NAME), tape.getToken(index) == JsonToken.TRUE);
+		default:
+			return new JsonNull(nameOrDefault(name, JsonStrings.NULL_NAME));
+		}
+	}
+
+	/**
+	 * Returns <code>name</code>, or <code>defaultName</code> when
+	 * <code>name</code> is empty.
+	 * 
+	 * @param name        The name.
+	 * @param defaultName The default name.
+	 * @return The name to use.
+	 */
+	private static String nameOrDefault(String name, String defaultName) {
+		return name == null || name.trim().isEmpty() ? defaultName : name;
+	}
+
+}
\ No newline at end of file
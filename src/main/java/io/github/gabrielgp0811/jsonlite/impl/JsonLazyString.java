@@ -0,0 +1,85 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import java.io.IOException;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSource;
+
+/**
+ * Class for <code>java.lang.String</code> whose value is decoded from a
+ * {@link JsonSource} only when first accessed. The string must be already
+ * checked, as when skipped by {@link JsonReader#skipValue()}.
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonLazyString extends JsonString {
+
+	/**
+	 * The source holding the value, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> once the value is decoded.
+	 */
+	private JsonSource source = null;
+
+	/**
+	 * The position of the opening double quote.
+	 */
+	private long start = 0;
+
+	/**
+	 * The position after the closing double quote.
+	 */
+	private long end = 0;
+
+	/**
+	 * @param name   The name to set
+	 * @param source The source holding the value
+	 * @param start  The position of the opening double quote
+	 * @param end    The position after the closing double quote
+	 */
+	public JsonLazyString(String name, JsonSource source, long start, long end) {
+		super(name, null);
+
+		this.source = source;
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * @throws IllegalStateException The string is malformed or the source can't
+	 *                               be read.
+	 */
+	@Override
+	public String getValue() {
+		JsonSource source = this.source;
+
+		if (source != null) {
+			try (JsonReader reader = source.newReader(start, end)) {
+				value = reader.nextString();
+			} catch (JsonException | IOException e) {
+				throw new IllegalStateException(e);
+			}
+
+			this.source = null;
+		}
+
+		return super.getValue();
+	}
+
+	@Override
+	public String setValue(String value) {
+		this.source = null;
+
+		return super.setValue(value);
+	}
+
+	@Override
+	public JsonEntry<String> clone() {
+		return new JsonString(name, getValue());
+	}
+
+}
\ No newline at end of file
@@ -258,60 +258,19 @@ public class JsonLocalDate extends JsonEntry<LocalDate> {
 	}
 
 	@Override
-	public String toPrettyString(String tab) {
-		StringBuilder builder = new StringBuilder();
-
-		builder.append(Util.getIndentTab(indentLevel, tab));
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		builder.append(JsonStrings.QUOTATION);
-		builder.append(toJavaObject(String.class));
-		builder.append(JsonStrings.QUOTATION);
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.WHITESPACE);
-			builder.append(JsonStrings.END);
-		}
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		appendScalar(builder, objectChild, arrayChild, indentLevel, tab, toJavaObject(String.class), true);
+	}
 
-		return builder.toString();
+	@Override
+	public String toPrettyString(String tab) {
+		return render(tab == null ? JsonStrings.TAB : tab);
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-		}
-
-		builder.append(JsonStrings.QUOTATION);
-		builder.append(toJavaObject(String.class));
-		builder.append(JsonStrings.QUOTATION);
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.END);
-		}
-
-		return builder.toString();
+		return render(null);
 	}
 
 	@Override
@@ -0,0 +1,116 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+
+/**
+ * Class for arrays of numbers packed into a <code>long[]</code>.
+ * 
+ * @author gabrielgp0811
+ * @see JsonPackedArray
+ */
+public class JsonLongArray extends JsonPackedArray {
+
+	/**
+	 * The elements, or <strong><span style="color:#7f0055">null</span></strong>
+	 * once turned into {@link JsonNumber} objects.
+	 */
+	private long[] values = null;
+
+	/**
+	 * Whether the elements are given as the smallest of
+	 * <code>java.lang.Byte</code>, <code>java.lang.Short</code>,
+	 * <code>java.lang.Integer</code> and <code>java.lang.Long</code> that fits them, as parsed numbers
+	 * are, instead of as <code>java.lang.Long</code>.
+	 */
+	private boolean narrow = false;
+
+	/**
+	 * @param values The elements, which aren't copied
+	 */
+	public JsonLongArray(long[] values) {
+		this(JsonStrings.COLLECTION_NAME, values);
+	}
+
+	/**
+	 * @param name   The name to set
+	 * @param values The elements, which aren't copied
+	 */
+	public JsonLongArray(String name, long[] values) {
+		this(name, values, false);
+	}
+
+	/**
+	 * @param name   The name to set
+	 * @param values The elements, which aren't copied
+	 * @param narrow Whether the elements are given as the smallest type that fits
+	 *               them, as parsed numbers are
+	 */
+	public JsonLongArray(String name, long[] values, boolean narrow) {
+		super(name);
+
+		this.values = values;
+		this.narrow = narrow;
+	}
+
+	/**
+	 * @param index The index of the element.
+	 * @return The element, while packed.
+	 * @throws IllegalStateException     The elements aren't packed anymore.
+	 * @throws IndexOutOfBoundsException <code>index</code> is out of bounds.
+	 */
+	public long getLong(int index) {
+		if (values == null) {
+			throw new IllegalStateException("Not packed anymore");
+		}
+
+		return values[index];
+	}
+
+	@Override
+	protected int length() {
+		return values.length;
+	}
+
+	@Override
+	protected Number element(int index) {
+		return narrow ? narrow(values[index]) : Long.valueOf(values[index]);
+	}
+
+	@Override
+	protected void appendElement(StringBuilder builder, int index) {
+		builder.append(values[index]);
+	}
+
+	@Override
+	protected Object copy(Class<?> componentType) {
+		if (long.class.equals(componentType)) {
+			return values.clone();
+		}
+
+		if (double.class.equals(componentType)) {
+			double[] result = new double[values.length];
+
+			for (int i = 0; i < values.length; i++) {
+				result[i] = values[i];
+			}
+
+			return result;
+		}
+
+		return null;
+	}
+
+	@Override
+	protected JsonLongArray duplicate() {
+		return new JsonLongArray(name, values, narrow);
+	}
+
+	@Override
+	protected void release() {
+		values = null;
+	}
+
+}
\ No newline at end of file
@@ -32,6 +32,33 @@ import io.github.gabrielgp0811.jsonlite.util.Util;
  */
 public class JsonNumber extends JsonEntry<Number> {
 
+	/**
+	 * The lowest integer shared by {@link #valueOf(Number)}.
+	 */
+	private static final int CACHE_LOW = -128;
+
+	/**
+	 * The highest integer shared by {@link #valueOf(Number)}.
+	 */
+	private static final int CACHE_HIGH = 127;
+
+	/**
+	 * The shared, frozen integers, one array for each of
+	 * <code>java.lang.Byte</code>, <code>java.lang.Short</code>,
+	 * <code>java.lang.Integer</code> and <code>java.lang.Long</code>, so that
+	 * the type of the value is kept.
+	 */
+	private static final JsonNumber[][] CACHE = new JsonNumber[4][CACHE_HIGH - CACHE_LOW + 1];
+
+	static {
+		for (int i = CACHE_LOW; i <= CACHE_HIGH; i++) {
+			CACHE[0][i - CACHE_LOW] = (JsonNumber) new JsonNumber(Byte.valueOf((byte) i)).freeze();
+			CACHE[1][i - CACHE_LOW] = (JsonNumber) new JsonNumber(Short.valueOf((short) i)).freeze();
+			CACHE[2][i - CACHE_LOW] = (JsonNumber) new JsonNumber(Integer.valueOf(i)).freeze();
+			CACHE[3][i - CACHE_LOW] = (JsonNumber) new JsonNumber(Long.valueOf(i)).freeze();
+		}
+	}
+
 	/**
 	 * 
 	 */
@@ -54,6 +81,46 @@ public class JsonNumber extends JsonEntry<Number> {
 		super(name, value);
 	}
 
+	/**
+	 * Returns a number for an element of a frozen array: a shared, frozen one for
+	 * <code>java.lang.Byte</code>, <code>java.lang.Short</code>,
+	 * <code>java.lang.Integer</code> and <code>java.lang.Long</code> values from
+	 * <code>-128</code> to <code>127</code>, or a new one otherwise.
+	 * 
+	 * @param value The value.
+	 * @return The number.
+	 */
+	public static JsonNumber valueOf(Number value) {
+		JsonNumber cached = cached(value);
+
+		return cached != null ? cached : new JsonNumber(value);
+	}
+
+	/**
+	 * @param value The value.
+	 * @return The shared, frozen number holding <code>value</code>, or
+	 *         <strong><span style="color:#7f0055">null</span></strong> if none.
+	 */
+	private static JsonNumber cached(Number value) {
+		int type;
+
+		if (value instanceof Byte) {
+			type = 0;
+		} else if (value instanceof Short) {
+			type = 1;
+		} else if (value instanceof Integer) {
+			type = 2;
+		} else if (value instanceof Long) {
+			type = 3;
+		} else {
+			return null;
+		}
+
+		long number = value.longValue();
+
+		return number >= CACHE_LOW && number <= CACHE_HIGH ? CACHE[type][(int) number - CACHE_LOW] : null;
+	}
+
 	@Override
 	public JsonEntry<Number> addChild(String name, Object obj, JsonPatternInfo info) {
 		return this;
@@ -105,173 +172,190 @@ public class JsonNumber extends JsonEntry<Number> {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> T toJavaObject(Class<T> clazz, JsonPatternInfo info) {
+		return convert(getValue(), clazz, info);
+	}
+
+	/**
+	 * Converts the number <code>value</code> into a Java object of class specified
+	 * in <code>clazz</code> using <code>info</code> (<code>pattern</code>,
+	 * <code>locale</code> and <code>timezone</code>), as
+	 * {@link #toJavaObject(Class, JsonPatternInfo)} does.
+	 * 
+	 * @param <T>   The generic class.
+	 * @param value The number.
+	 * @param clazz The class.
+	 * @param info  The info (pattern, locale and timezone).
+	 * @return The Java object, or <strong><span style="color:#7f0055">null</span></strong>
+	 *         if <code>value</code> can't be converted.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T convert(Number value, Class<T> clazz, JsonPatternInfo info) {
 		if (clazz == null) {
 			return null;
 		}
 
 		if (Util.isString(clazz)) {
-			return (T) String.valueOf(getValue());
+			return (T) String.valueOf(value);
 		}
 
-		if (Util.isByte(getValue())) {
+		if (Util.isByte(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((Byte) getValue()).shortValue());
+				return (T) Short.valueOf(((Byte) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((Byte) getValue()).intValue());
+				return (T) Integer.valueOf(((Byte) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((Byte) getValue()).longValue());
+				return (T) Long.valueOf(((Byte) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) BigInteger.valueOf(((Byte) getValue()).longValue());
+				return (T) BigInteger.valueOf(((Byte) value).longValue());
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((Byte) getValue()).floatValue());
+				return (T) Float.valueOf(((Byte) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((Byte) getValue()).doubleValue());
+				return (T) Double.valueOf(((Byte) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((Byte) getValue()).intValue());
+				return (T) new BigDecimal(((Byte) value).intValue());
 			}
 		}
 
-		if (Util.isShort(getValue())) {
+		if (Util.isShort(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((Short) getValue()).byteValue());
+				return (T) Byte.valueOf(((Short) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((Short) getValue()).intValue());
+				return (T) Integer.valueOf(((Short) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((Short) getValue()).longValue());
+				return (T) Long.valueOf(((Short) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) BigInteger.valueOf(((Short) getValue()).longValue());
+				return (T) BigInteger.valueOf(((Short) value).longValue());
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((Short) getValue()).floatValue());
+				return (T) Float.valueOf(((Short) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((Short) getValue()).doubleValue());
+				return (T) Double.valueOf(((Short) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((Short) getValue()).intValue());
+				return (T) new BigDecimal(((Short) value).intValue());
 			}
 		}
 
-		if (Util.isInteger(getValue())) {
+		if (Util.isInteger(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((Integer) getValue()).byteValue());
+				return (T) Byte.valueOf(((Integer) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((Integer) getValue()).shortValue());
+				return (T) Short.valueOf(((Integer) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((Integer) getValue()).longValue());
+				return (T) Long.valueOf(((Integer) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) BigInteger.valueOf(((Integer) getValue()).longValue());
+				return (T) BigInteger.valueOf(((Integer) value).longValue());
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((Integer) getValue()).floatValue());
+				return (T) Float.valueOf(((Integer) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((Integer) getValue()).doubleValue());
+				return (T) Double.valueOf(((Integer) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((Integer) getValue()).intValue());
+				return (T) new BigDecimal(((Integer) value).intValue());
 			}
 		}
 
-		if (Util.isLong(getValue())) {
+		if (Util.isLong(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((Long) getValue()).byteValue());
+				return (T) Byte.valueOf(((Long) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((Long) getValue()).shortValue());
+				return (T) Short.valueOf(((Long) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((Long) getValue()).intValue());
+				return (T) Integer.valueOf(((Long) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) BigInteger.valueOf(((Long) getValue()).longValue());
+				return (T) BigInteger.valueOf(((Long) value).longValue());
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((Long) getValue()).floatValue());
+				return (T) Float.valueOf(((Long) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((Long) getValue()).doubleValue());
+				return (T) Double.valueOf(((Long) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((Long) getValue()).intValue());
+				return (T) new BigDecimal(((Long) value).intValue());
 			}
 		}
 
-		if (Util.isBigInteger(getValue())) {
+		if (Util.isBigInteger(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((BigInteger) getValue()).byteValue());
+				return (T) Byte.valueOf(((BigInteger) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((BigInteger) getValue()).shortValue());
+				return (T) Short.valueOf(((BigInteger) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((BigInteger) getValue()).intValue());
+				return (T) Integer.valueOf(((BigInteger) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((BigInteger) getValue()).longValue());
+				return (T) Long.valueOf(((BigInteger) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((BigInteger) getValue()).floatValue());
+				return (T) Float.valueOf(((BigInteger) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((BigInteger) getValue()).doubleValue());
+				return (T) Double.valueOf(((BigInteger) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((BigInteger) getValue()));
+				return (T) new BigDecimal(((BigInteger) value));
 			}
 		}
 
-		if (Util.isFloat(getValue())) {
+		if (Util.isFloat(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((Float) getValue()).byteValue());
+				return (T) Byte.valueOf(((Float) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((Float) getValue()).shortValue());
+				return (T) Short.valueOf(((Float) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((Float) getValue()).intValue());
+				return (T) Integer.valueOf(((Float) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((Long) getValue()).longValue());
+				return (T) Long.valueOf(((Long) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) BigInteger.valueOf(((Float) getValue()).longValue());
+				return (T) BigInteger.valueOf(((Float) value).longValue());
 			} else if (Util.isFloat(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((Float) getValue()).doubleValue());
+				return (T) Double.valueOf(((Float) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((Float) getValue()).intValue());
+				return (T) new BigDecimal(((Float) value).intValue());
 			}
 		}
 
-		if (Util.isDouble(getValue())) {
+		if (Util.isDouble(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((Double) getValue()).byteValue());
+				return (T) Byte.valueOf(((Double) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((Double) getValue()).shortValue());
+				return (T) Short.valueOf(((Double) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((Double) getValue()).intValue());
+				return (T) Integer.valueOf(((Double) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((Double) getValue()).longValue());
+				return (T) Long.valueOf(((Double) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) BigInteger.valueOf(((Double) getValue()).longValue());
+				return (T) BigInteger.valueOf(((Double) value).longValue());
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((Double) getValue()).floatValue());
+				return (T) Float.valueOf(((Double) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) new BigDecimal(((Double) getValue()).intValue());
+				return (T) new BigDecimal(((Double) value).intValue());
 			}
 		}
 
-		if (Util.isBigDecimal(getValue())) {
+		if (Util.isBigDecimal(value)) {
 			if (Util.isByte(clazz)) {
-				return (T) Byte.valueOf(((BigDecimal) getValue()).byteValue());
+				return (T) Byte.valueOf(((BigDecimal) value).byteValue());
 			} else if (Util.isShort(clazz)) {
-				return (T) Short.valueOf(((BigDecimal) getValue()).shortValue());
+				return (T) Short.valueOf(((BigDecimal) value).shortValue());
 			} else if (Util.isInteger(clazz)) {
-				return (T) Integer.valueOf(((BigDecimal) getValue()).intValue());
+				return (T) Integer.valueOf(((BigDecimal) value).intValue());
 			} else if (Util.isLong(clazz)) {
-				return (T) Long.valueOf(((BigDecimal) getValue()).longValue());
+				return (T) Long.valueOf(((BigDecimal) value).longValue());
 			} else if (Util.isBigInteger(clazz)) {
-				return (T) ((BigDecimal) getValue()).toBigInteger();
+				return (T) ((BigDecimal) value).toBigInteger();
 			} else if (Util.isFloat(clazz)) {
-				return (T) Float.valueOf(((BigDecimal) getValue()).floatValue());
+				return (T) Float.valueOf(((BigDecimal) value).floatValue());
 			} else if (Util.isDouble(clazz)) {
-				return (T) Double.valueOf(((BigDecimal) getValue()).doubleValue());
+				return (T) Double.valueOf(((BigDecimal) value).doubleValue());
 			} else if (Util.isBigDecimal(clazz)) {
-				return (T) getValue();
+				return (T) value;
 			}
 		}
 
@@ -293,56 +377,19 @@ public class JsonNumber extends JsonEntry<Number> {
 	}
 
 	@Override
-	public String toPrettyString(String tab) {
-		StringBuilder builder = new StringBuilder();
-
-		builder.append(Util.getIndentTab(indentLevel, tab));
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		builder.append(getValue());
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.WHITESPACE);
-			builder.append(JsonStrings.END);
-		}
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		appendScalar(builder, objectChild, arrayChild, indentLevel, tab, getValue(), false);
+	}
 
-		return builder.toString();
+	@Override
+	public String toPrettyString(String tab) {
+		return render(tab == null ? JsonStrings.TAB : tab);
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-		}
-
-		builder.append(getValue());
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.END);
-		}
-
-		return builder.toString();
+		return render(null);
 	}
 
 	@Override
@@ -3,7 +3,6 @@
  */
 package io.github.gabrielgp0811.jsonlite.impl;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -11,8 +10,9 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import io.github.gabrielgp0811.jsonlite.Json;
 import io.github.gabrielgp0811.jsonlite.JsonEntry;
@@ -29,6 +29,12 @@ import io.github.gabrielgp0811.jsonlite.util.Util;
 
 /**
  * JSON class for Java objects.
+ * <p>
+ * The children are kept in insertion order and indexed by name, so that
+ * {@link #getChild(String)}, {@link #isChildPresent(String)},
+ * {@link #removeChild(String)} and {@link #addChild(JsonEntry)} take constant
+ * time, however many children there are.
+ * </p>
  * 
  * @author gabrielgp0811
  */
@@ -37,7 +43,7 @@ public class JsonObject extends JsonEntry<Object> {
 	/**
 	 * The children JSON objects.
 	 */
-	private Collection<JsonEntry<?>> children = null;
+	private JsonChildren children = null;
 
 	/**
 	 * 
@@ -216,9 +222,12 @@ public class JsonObject extends JsonEntry<Object> {
 
 	@Override
 	public JsonEntry<Object> addChild(JsonEntry<?> json) {
+		checkNotFrozen();
+
 		if (json != null) {
-			if (isChildPresent(json.getName())) {
-				JsonEntry<?> child = getChild(json.getName());
+			JsonEntry<?> child = children().get(json.getName());
+
+			if (child != null) {
 				if (Util.isObject(child)) {
 					if (Util.isObject(json)) {
 						child.addChildren(json.getChildren());
@@ -227,13 +236,32 @@ public class JsonObject extends JsonEntry<Object> {
 					}
 				}
 			} else {
-				getChildren().add(json);
+				children.add(json);
 			}
 		}
 
 		return this;
 	}
 
+	/**
+	 * Adds <code>json</code> as a child, replacing the child with the same name,
+	 * if any, in its place. Unlike {@link #addChild(JsonEntry)}, which keeps the
+	 * first child and merges objects, the last child added wins, as with
+	 * duplicate names in parsed JSON.
+	 * 
+	 * @param json The child.
+	 * @return This JSON object.
+	 */
+	public JsonEntry<Object> putChild(JsonEntry<?> json) {
+		checkNotFrozen();
+
+		if (json != null) {
+			children().put(json);
+		}
+
+		return this;
+	}
+
 	@Override
 	public JsonEntry<Object> addChildren(JsonEntry<?>... jsons) {
 		if (jsons != null)
@@ -254,20 +282,7 @@ public class JsonObject extends JsonEntry<Object> {
 
 	@Override
 	public JsonEntry<?> getChild(int index) {
-		if (index < 0 || index > childrenSize()) {
-			return null;
-		}
-
-		int i = 0;
-		for (JsonEntry<?> json : children) {
-			if (i == index) {
-				return json;
-			}
-
-			i++;
-		}
-
-		return null;
+		return children().get(index);
 	}
 
 	@Override
@@ -276,29 +291,28 @@ public class JsonObject extends JsonEntry<Object> {
 			return null;
 		}
 
-		return getChildren().stream().filter(json -> json.getName().equals(name)).findFirst().orElse(null);
+		return children().get(name);
+	}
+
+	@Override
+	public boolean isChildPresent(String name) {
+		return getChild(name) != null;
 	}
 
 	@Override
 	public JsonEntry<?> removeChild(int index) {
-		if (index > 0 || index < getChildren().size()) {
-			int i = 0;
-			for (JsonEntry<?> json : children) {
-				if (i == index) {
-					children.remove(json);
-					break;
-				}
+		checkNotFrozen();
 
-				i++;
-			}
-		}
+		children().remove(index);
 
 		return this;
 	}
 
 	@Override
 	public JsonEntry<?> removeChild(String name) {
-		getChildren().removeIf(child -> child.getName().equals(name));
+		checkNotFrozen();
+
+		children().remove(name);
 
 		return this;
 	}
@@ -306,14 +320,63 @@ public class JsonObject extends JsonEntry<Object> {
 	@Override
 	public Collection<JsonEntry<?>> getChildren() {
 		if (children == null) {
-			children = new ArrayList<>();
+			children = new JsonChildren();
 		}
+		return frozen ? Collections.unmodifiableCollection(children) : children;
+	}
+
+	/**
+	 * @return The value, or, when this JSON object has no backing value (e.g. it
+	 *         was parsed from a JSON string), a <code>java.util.Map</code> built
+	 *         from its children, as {@link #toJavaObject()} does. The map is
+	 *         built anew on every call, so it's a copy: later changes to the
+	 *         children don't show in it, and changes to it don't reach the
+	 *         children.
+	 */
+	@Override
+	public Object getValue() {
+		return value != null ? value : toJavaObject();
+	}
+
+	@Override
+	protected Collection<JsonEntry<?>> prepareFreeze() {
+		// The value is built from the children, so there's nothing to decode
+		Collection<JsonEntry<?>> result = getChildren();
+
+		// Drop the holes left by removals, so that looking up by index is direct
+		children().compact();
+
+		return result;
+	}
+
+	/**
+	 * @return The children JSON objects, once loaded by {@link #getChildren()},
+	 *         which subclasses may override to load them lazily.
+	 */
+	private JsonChildren children() {
+		getChildren();
+
 		return children;
 	}
 
+	/**
+	 * Convert this JSON object into a Java object. When this JSON object has no
+	 * backing value (e.g. it was parsed from a JSON string), a
+	 * <code>java.util.Map</code> is built from its children.
+	 * 
+	 * @return The Java object.
+	 */
 	@Override
 	public Object toJavaObject() {
-		return getValue();
+		if (value != null) {
+			return value;
+		}
+
+		Map<String, Object> map = new LinkedHashMap<>();
+
+		getChildren().forEach(child -> map.put(child.getName(), child.toJavaObject()));
+
+		return map;
 	}
 
 	@Override
@@ -373,17 +436,11 @@ public class JsonObject extends JsonEntry<Object> {
 
 			if (Util.isArray(fieldType)) {
 				if (Util.isCollection(child)) {
-					fieldType = fieldType.getComponentType();
-
-					value = Array.newInstance(fieldType.getComponentType(), child.childrenSize());
-
-					for (int i = 0; i < child.childrenSize(); i++) {
-						Array.set(value, i, child.getChild(i).getValue());
-					}
+					value = child.toJavaObject(fieldType, fieldInfo.getPatternInfo());
 				}
 			} else if (Util.isCollection(fieldType)) {
 				if (Util.isCollection(child)) {
-					value = child.getValue();
+					value = child.toJavaCollection();
 				}
 			} else if (Util.isEnum(fieldType)) {
 				if (Util.isEnum(child)) {
@@ -414,74 +471,77 @@ public class JsonObject extends JsonEntry<Object> {
 	}
 
 	@Override
-	public String toPrettyString(String tab) {
-		StringBuilder builder = new StringBuilder();
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		boolean pretty = tab != null;
+
+		if (objectChild) {
+			if (pretty) {
+				builder.append(Util.getIndentTab(indentLevel, tab));
+			}
 
-		if (isObjectChild()) {
-			builder.append(Util.getIndentTab(indentLevel, tab));
 			builder.append(JsonStrings.QUOTATION);
 			builder.append(getName());
 			builder.append(JsonStrings.QUOTATION);
 			builder.append(JsonStrings.COLON);
-			builder.append(JsonStrings.WHITESPACE);
+
+			if (pretty) {
+				builder.append(JsonStrings.WHITESPACE);
+			}
 		}
 
-		if (isArrayChild()) {
+		if (pretty && arrayChild) {
 			builder.append(Util.getIndentTab(indentLevel, tab));
 		}
 
 		builder.append(JsonStrings.START);
-		builder.append(
-				getChildren().stream()
-						.map(child -> child.clone())
-						.map(child -> {
-							child.setObjectChild(true);
-							child.setIndentLevel(getIndentLevel() + 1);
-
-							return JsonStrings.LINE_SEPARATOR.concat(child.toPrettyString(tab));
-						})
-						.collect(Collectors.joining(JsonStrings.COMMA)));
-		builder.append(JsonStrings.LINE_SEPARATOR);
-
-		if (isObjectChild() || isArrayChild()) {
-			builder.append(Util.getIndentTab(indentLevel, tab));
-		}
 
-		builder.append(JsonStrings.END);
+		boolean first = true;
 
-		return builder.toString();
-	}
+		for (JsonEntry<?> child : getChildren()) {
+			if (!first) {
+				builder.append(JsonStrings.COMMA);
+			}
 
-	@Override
-	public String toString() {
-		StringBuilder builder = new StringBuilder();
+			if (pretty) {
+				builder.append(JsonStrings.LINE_SEPARATOR);
+			}
 
-		if (isObjectChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
+			child.appendTo(builder, true, false, indentLevel + 1, tab);
+			first = false;
+		}
+
+		if (pretty) {
+			builder.append(JsonStrings.LINE_SEPARATOR);
+
+			if (objectChild || arrayChild) {
+				builder.append(Util.getIndentTab(indentLevel, tab));
+			}
 		}
 
-		builder.append(JsonStrings.START);
-		builder.append(
-				getChildren().stream()
-						.map(child -> child.clone())
-						.map(child -> {
-							child.setObjectChild(true);
-
-							return child;
-						})
-						.map(child -> child.toString())
-						.collect(Collectors.joining(JsonStrings.COMMA)));
 		builder.append(JsonStrings.END);
+	}
+
+	@Override
+	public String toPrettyString(String tab) {
+		return render(tab == null ? JsonStrings.TAB : tab);
+	}
 
-		return builder.toString();
+	@Override
+	public String toString() {
+		return render(null);
 	}
 
 	@Override
 	public JsonEntry<Object> clone() {
-		return new JsonObject(name, null, info).addChildren(children);
+		JsonObject copy = new JsonObject(name, null, info);
+
+		if (children != null) {
+			// Frozen children are copied so that the copy can be changed
+			children.forEach(child -> copy.addChild(child.isFrozen() ? child.clone() : child));
+		}
+
+		return copy;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,301 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.gabrielgp0811.jsonlite.JsonEntry;
+import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+import io.github.gabrielgp0811.jsonlite.util.JsonPatternInfo;
+import io.github.gabrielgp0811.jsonlite.util.Util;
+
+/**
+ * Base class for arrays of numbers packed into a primitive array, instead of
+ * one {@link JsonNumber} per element.
+ * <p>
+ * {@link #childrenSize()} and the conversions into Java objects read the
+ * primitive array, and
+ * {@link #appendTo(StringBuilder, boolean, boolean, int, String)} writes the
+ * elements without boxing them. Any other access to the elements, as well as
+ * adding or removing one, turns them into {@link JsonNumber} objects, after
+ * which this array behaves as a {@link JsonCollection}. Once frozen, the
+ * elements stay in the primitive array and are handed out as frozen
+ * {@link JsonNumber} objects.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ * @see JsonIntArray
+ * @see JsonLongArray
+ * @see JsonDoubleArray
+ */
+public abstract class JsonPackedArray extends JsonCollection {
+
+	/**
+	 * Whether the elements are still in the primitive array.
+	 */
+	private boolean packed = true;
+
+	/**
+	 * @param name The name to set
+	 */
+	protected JsonPackedArray(String name) {
+		super(name, null, (JsonPatternInfo) null);
+	}
+
+	/**
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         elements are still in the primitive array;
+	 *         <strong><span style="color:#7f0055">false</span></strong> otherwise.
+	 */
+	public boolean isPacked() {
+		return packed;
+	}
+
+	/**
+	 * Copies the elements into a new array of <code>componentType</code>.
+	 * 
+	 * @param componentType The component type, as <code>int.class</code>,
+	 *                      <code>long.class</code> or <code>double.class</code>.
+	 * @return The new array, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the elements don't fit
+	 *         <code>componentType</code> or aren't packed anymore.
+	 */
+	public Object toArray(Class<?> componentType) {
+		return packed ? copy(componentType) : null;
+	}
+
+	/**
+	 * @return The amount of elements in the primitive array.
+	 */
+	protected abstract int length();
+
+	/**
+	 * @param index The index of the element.
+	 * @return The element, boxed.
+	 */
+	protected abstract Number element(int index);
+
+	/**
+	 * Appends the element at <code>index</code> to <code>builder</code>, without
+	 * boxing it.
+	 * 
+	 * @param builder The builder.
+	 * @param index   The index of the element.
+	 */
+	protected abstract void appendElement(StringBuilder builder, int index);
+
+	/**
+	 * @param componentType The component type.
+	 * @return A new array of <code>componentType</code> holding the elements, or
+	 *         <strong><span style="color:#7f0055">null</span></strong> if they
+	 *         don't fit it.
+	 */
+	protected abstract Object copy(Class<?> componentType);
+
+	/**
+	 * @return A new packed array with the same name sharing the primitive array,
+	 *         which is never written to.
+	 */
+	protected abstract JsonPackedArray duplicate();
+
+	/**
+	 * Releases the primitive array, once the elements are turned into
+	 * {@link JsonNumber} objects.
+	 */
+	protected abstract void release();
+
+	/**
+	 * @param value The value.
+	 * @return The smallest of <code>java.lang.Byte</code>,
+	 *         <code>java.lang.Short</code>, <code>java.lang.Integer</code> and
+	 *         <code>java.lang.Long</code> that fits <code>value</code>, as parsed
+	 *         numbers are.
+	 */
+	protected static Number narrow(long value) {
+		if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			return Byte.valueOf((byte) value);
+		}
+
+		if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			return Short.valueOf((short) value);
+		}
+
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+			return Integer.valueOf((int) value);
+		}
+
+		return Long.valueOf(value);
+	}
+
+	/**
+	 * @param value The value.
+	 * @return A <code>java.lang.Float</code> if a <code>float</code> holds
+	 *         <code>value</code> exactly and prints it back the same, as parsed
+	 *         numbers are; a <code>java.lang.Double</code> otherwise.
+	 */
+	protected static Number narrow(double value) {
+		float result = (float) value;
+
+		if (result == value && Double.parseDouble(Float.toString(result)) == value) {
+			return Float.valueOf(result);
+		}
+
+		return Double.valueOf(value);
+	}
+
+	@Override
+	public JsonEntry<?> getChild(int index) {
+		if (!packed || !frozen) {
+			// Turns the elements into JSON objects, so that the child handed out is
+			// the one changed and rendered
+			return super.getChild(index);
+		}
+
+		if (index < 0 || index >= length()) {
+			return null;
+		}
+
+		return JsonNumber.valueOf(element(index)).freeze();
+	}
+
+	@Override
+	public int childrenSize() {
+		return packed ? length() : super.childrenSize();
+	}
+
+	@Override
+	public Collection<JsonEntry<?>> getChildren() {
+		if (packed) {
+			int length = length();
+			List<JsonEntry<?>> elements = new ArrayList<>(length);
+
+			if (frozen) {
+				for (int i = 0; i < length; i++) {
+					elements.add(JsonNumber.valueOf(element(i)).freeze());
+				}
+
+				// Stays packed, so that it's never written to
+				return Collections.unmodifiableList(elements);
+			}
+
+			for (int i = 0; i < length; i++) {
+				elements.add(new JsonNumber(element(i)));
+			}
+
+			packed = false;
+			release();
+
+			super.getChildren().addAll(elements);
+		}
+
+		return super.getChildren();
+	}
+
+	@Override
+	protected Collection<JsonEntry<?>> prepareFreeze() {
+		return packed ? Collections.emptyList() : super.prepareFreeze();
+	}
+
+	@Override
+	public Collection<Object> toJavaObject() {
+		return packed ? elements() : super.toJavaObject();
+	}
+
+	@Override
+	public Collection<Object> toJavaCollection() {
+		return packed ? elements() : super.toJavaCollection();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T toJavaObject(Class<T> clazz, JsonPatternInfo info) {
+		if (packed && Util.isArray(clazz)) {
+			Object array = copy(clazz.getComponentType());
+
+			if (array != null) {
+				return (T) array;
+			}
+		}
+
+		return super.toJavaObject(clazz, info);
+	}
+
+	@Override
+	public <T> Collection<T> toJavaCollection(Class<T> clazz, JsonPatternInfo info) {
+		if (!packed || clazz == null) {
+			return super.toJavaCollection(clazz, info);
+		}
+
+		int length = length();
+		List<T> result = new ArrayList<>(length);
+
+		for (int i = 0; i < length; i++) {
+			result.add(JsonNumber.convert(element(i), clazz, info));
+		}
+
+		return result;
+	}
+
+	@Override
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		if (!packed) {
+			super.appendTo(builder, objectChild, arrayChild, indentLevel, tab);
+
+			return;
+		}
+
+		String elementIndent = tab == null ? null : Util.getIndentTab(indentLevel + 1, tab);
+
+		appendStart(builder, objectChild, indentLevel, tab);
+
+		for (int i = 0, length = length(); i < length; i++) {
+			if (i > 0) {
+				builder.append(JsonStrings.COMMA);
+			}
+
+			if (elementIndent != null) {
+				builder.append(JsonStrings.LINE_SEPARATOR);
+				builder.append(elementIndent);
+			}
+
+			appendElement(builder, i);
+		}
+
+		appendEnd(builder, indentLevel, tab);
+	}
+
+	@Override
+	public JsonEntry<Collection<?>> clone() {
+		if (!packed) {
+			return super.clone();
+		}
+
+		JsonPackedArray copy = duplicate();
+
+		copy.objectChild = objectChild;
+		copy.arrayChild = arrayChild;
+		copy.indentLevel = indentLevel;
+
+		return copy;
+	}
+
+	/**
+	 * @return The elements, boxed.
+	 */
+	private Collection<Object> elements() {
+		int length = length();
+		List<Object> result = new ArrayList<>(length);
+
+		for (int i = 0; i < length; i++) {
+			result.add(element(i));
+		}
+
+		return result;
+	}
+
+}
\ No newline at end of file
@@ -103,52 +103,69 @@ public class JsonString extends JsonEntry<String> {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> T toJavaObject(Class<T> clazz, JsonPatternInfo info) {
+		return convert(getValue(), clazz, info);
+	}
+
+	/**
+	 * Converts the string <code>value</code> into a Java object of class specified
+	 * in <code>clazz</code> using <code>info</code> (<code>pattern</code>,
+	 * <code>locale</code> and <code>timezone</code>), as
+	 * {@link #toJavaObject(Class, JsonPatternInfo)} does.
+	 * 
+	 * @param <T>   The generic class.
+	 * @param value The string.
+	 * @param clazz The class.
+	 * @param info  The info (pattern, locale and timezone).
+	 * @return The Java object, or <strong><span style="color:#7f0055">null</span></strong>
+	 *         if <code>value</code> can't be converted.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T convert(String value, Class<T> clazz, JsonPatternInfo info) {
 		if (clazz == null) {
 			return null;
 		}
 
 		if (Util.isString(clazz)) {
-			return (T) getValue();
+			return (T) value;
 		}
 
-		if (Util.isCharacter(clazz) && !toJavaObject().trim().isEmpty()) {
-			return (T) Character.valueOf(toJavaObject().charAt(0));
+		if (Util.isCharacter(clazz) && !value.trim().isEmpty()) {
+			return (T) Character.valueOf(value.charAt(0));
 		}
 
 		if (Util.isNumber(clazz)) {
 			try {
 				if (Util.isByte(clazz)) {
-					return (T) Byte.valueOf(toJavaObject());
+					return (T) Byte.valueOf(value);
 				}
 
 				if (Util.isShort(clazz)) {
-					return (T) Short.valueOf(toJavaObject());
+					return (T) Short.valueOf(value);
 				}
 
 				if (Util.isInteger(clazz)) {
-					return (T) Integer.valueOf(toJavaObject());
+					return (T) Integer.valueOf(value);
 				}
 
 				if (Util.isLong(clazz)) {
-					return (T) Long.valueOf(toJavaObject());
+					return (T) Long.valueOf(value);
 				}
 
 				if (Util.isBigInteger(clazz)) {
-					return (T) new BigInteger(toJavaObject());
+					return (T) new BigInteger(value);
 				}
 
 				if (Util.isFloat(clazz)) {
-					return (T) Float.valueOf(toJavaObject());
+					return (T) Float.valueOf(value);
 				}
 
 				if (Util.isDouble(clazz)) {
-					return (T) Double.valueOf(toJavaObject());
+					return (T) Double.valueOf(value);
 				}
 
 				if (Util.isBigDecimal(clazz)) {
-					return (T) new BigDecimal(toJavaObject());
+					return (T) new BigDecimal(value);
 				}
 			} catch (NumberFormatException e) {
 			}
@@ -173,12 +190,12 @@ public class JsonString extends JsonEntry<String> {
 					formatter.setTimeZone(info.getTimezone());
 				}
 
-				return (T) formatter.parse(toJavaObject());
+				return (T) formatter.parse(value);
 			} catch (NullPointerException | ParseException | IllegalArgumentException e) {
 			}
 
 			try {
-				return (T) new SimpleDateFormat("EEE, MMM dd HH:mm:ss zzz yyyy").parse(toJavaObject());
+				return (T) new SimpleDateFormat("EEE, MMM dd HH:mm:ss zzz yyyy").parse(value);
 			} catch (ParseException e) {
 			}
 		}
@@ -198,12 +215,12 @@ public class JsonString extends JsonEntry<String> {
 					formatter = DateTimeFormatter.ofPattern(pattern);
 				}
 
-				return (T) LocalDate.parse(toJavaObject(), formatter);
+				return (T) LocalDate.parse(value, formatter);
 			} catch (NullPointerException | DateTimeParseException e) {
 			}
 
 			try {
-				return (T) LocalDate.parse(toJavaObject());
+				return (T) LocalDate.parse(value);
 			} catch (DateTimeParseException e) {
 			}
 		}
@@ -223,12 +240,12 @@ public class JsonString extends JsonEntry<String> {
 					formatter = DateTimeFormatter.ofPattern(pattern);
 				}
 
-				return (T) LocalDateTime.parse(toJavaObject(), formatter);
+				return (T) LocalDateTime.parse(value, formatter);
 			} catch (NullPointerException | IllegalArgumentException | DateTimeParseException e) {
 			}
 
 			try {
-				return (T) LocalDateTime.parse(toJavaObject());
+				return (T) LocalDateTime.parse(value);
 			} catch (DateTimeParseException e) {
 			}
 		}
@@ -248,12 +265,12 @@ public class JsonString extends JsonEntry<String> {
 					formatter = DateTimeFormatter.ofPattern(pattern);
 				}
 
-				return (T) LocalTime.parse(toJavaObject(), formatter);
+				return (T) LocalTime.parse(value, formatter);
 			} catch (NullPointerException | IllegalArgumentException | DateTimeParseException e) {
 			}
 
 			try {
-				return (T) LocalTime.parse(toJavaObject());
+				return (T) LocalTime.parse(value);
 			} catch (DateTimeParseException e) {
 			}
 		}
@@ -288,60 +305,19 @@ public class JsonString extends JsonEntry<String> {
 	}
 
 	@Override
-	public String toPrettyString(String tab) {
-		StringBuilder builder = new StringBuilder();
-
-		builder.append(Util.getIndentTab(indentLevel, tab));
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-			builder.append(JsonStrings.WHITESPACE);
-		}
-
-		builder.append(JsonStrings.QUOTATION);
-		builder.append(getValue());
-		builder.append(JsonStrings.QUOTATION);
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.WHITESPACE);
-			builder.append(JsonStrings.END);
-		}
+	public void appendTo(StringBuilder builder, boolean objectChild, boolean arrayChild, int indentLevel,
+			String tab) {
+		appendScalar(builder, objectChild, arrayChild, indentLevel, tab, getValue(), true);
+	}
 
-		return builder.toString();
+	@Override
+	public String toPrettyString(String tab) {
+		return render(tab == null ? JsonStrings.TAB : tab);
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.START);
-		}
-
-		if (!isArrayChild()) {
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(getName());
-			builder.append(JsonStrings.QUOTATION);
-			builder.append(JsonStrings.COLON);
-		}
-
-		builder.append(JsonStrings.QUOTATION);
-		builder.append(getValue());
-		builder.append(JsonStrings.QUOTATION);
-
-		if (!isObjectChild() && !isArrayChild()) {
-			builder.append(JsonStrings.END);
-		}
-
-		return builder.toString();
+		return render(null);
 	}
 
 	@Override
@@ -0,0 +1,71 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+/**
+ * Searches for the bytes that end a run of string contents.
+ * <p>
+ * This is the scalar implementation, looking at one byte at a time. On newer
+ * JDKs, a multi-release jar entry replaces it with one that looks at several
+ * bytes at a time.
+ * </p>
+ * <p>
+ * Only the readers of UTF-8 bytes, {@link Utf8JsonReader} and
+ * {@link NonBlockingJsonReader}, scan their strings with it. {@link JsonReader}
+ * scans a <code>char[]</code>, which can't be viewed as <code>long</code>
+ * words, so its loops stay scalar.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+final class ByteScanner {
+
+	/**
+	 * 
+	 */
+	private ByteScanner() {
+
+	}
+
+	/**
+	 * Returns the index of the first double quote or backslash.
+	 * 
+	 * @param bytes The bytes.
+	 * @param from  The index to start from, inclusive.
+	 * @param to    The index to stop at, exclusive.
+	 * @return The index found, or <code>to</code> if none.
+	 */
+	static int indexOfQuoteOrBackslash(byte[] bytes, int from, int to) {
+		for (int i = from; i < to; i++) {
+			byte b = bytes[i];
+
+			if (b == '"' || b == '\\') {
+				return i;
+			}
+		}
+
+		return to;
+	}
+
+	/**
+	 * Returns the index of the first double quote, backslash or non-ASCII byte.
+	 * 
+	 * @param bytes The bytes.
+	 * @param from  The index to start from, inclusive.
+	 * @param to    The index to stop at, exclusive.
+	 * @return The index found, or <code>to</code> if none.
+	 */
+	static int indexOfQuoteBackslashOrNonAscii(byte[] bytes, int from, int to) {
+		for (int i = from; i < to; i++) {
+			byte b = bytes[i];
+
+			if (b == '"' || b == '\\' || b < 0) {
+				return i;
+			}
+		}
+
+		return to;
+	}
+
+}
\ No newline at end of file
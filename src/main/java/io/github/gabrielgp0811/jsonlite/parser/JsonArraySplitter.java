@@ -0,0 +1,311 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * Finds the boundaries of the elements of a top-level array, so that they can
+ * be parsed independently, such as in parallel.
+ * <p>
+ * The document is scanned once, only tracking the nesting depth and whether
+ * inside of a string, which is much faster than parsing it. The elements
+ * themselves are not validated; their ranges must be parsed for that.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public final class JsonArraySplitter {
+
+	/**
+	 * The size of the chunks copied from memory-mapped files.
+	 */
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * The boundaries found so far, as pairs of start and end positions.
+	 */
+	private long[] ranges = new long[64];
+
+	/**
+	 * The amount of positions in {@link #ranges}.
+	 */
+	private int size = 0;
+
+	/**
+	 * The current nesting depth, <code>0</code> before the array starts and
+	 * <code>-1</code> after it ends.
+	 */
+	private int depth = 0;
+
+	/**
+	 * Whether inside of a string.
+	 */
+	private boolean inString = false;
+
+	/**
+	 * Whether after a backslash inside of a string.
+	 */
+	private boolean escape = false;
+
+	/**
+	 * The start of the current element, or <code>-1</code> if between elements.
+	 */
+	private long elementStart = -1;
+
+	/**
+	 * 
+	 */
+	private JsonArraySplitter() {
+
+	}
+
+	/**
+	 * Finds the boundaries of the elements of the top-level array in
+	 * <code>json</code>.
+	 * 
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The start and end positions in <code>json</code> of each element,
+	 *         one after the other, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the document isn't an
+	 *         array. The end positions may include whitespace.
+	 * @throws JsonException Unbalanced array.
+	 */
+	public static long[] split(char[] json, int offset, int length) throws JsonException {
+		JsonArraySplitter splitter = new JsonArraySplitter();
+
+		int pos = offset;
+		int end = offset + length;
+
+		while (pos < end && Character.isWhitespace(json[pos])) {
+			pos++;
+		}
+
+		if (pos == end || json[pos] != '[') {
+			return null;
+		}
+
+		for (; pos < end && splitter.depth >= 0; pos++) {
+			splitter.accept(json[pos], pos);
+		}
+
+		return splitter.finish(pos);
+	}
+
+	/**
+	 * Finds the boundaries of the elements of the top-level array in
+	 * <code>json</code>, encoded in UTF-8.
+	 * 
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The start and end positions in <code>json</code> of each element,
+	 *         one after the other, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if the document isn't an
+	 *         array. The end positions may include whitespace.
+	 * @throws JsonException Unbalanced array.
+	 */
+	public static long[] split(byte[] json, int offset, int length) throws JsonException {
+		JsonArraySplitter splitter = new JsonArraySplitter();
+
+		int end = offset + length;
+		int pos = skipPreamble(json, offset, end);
+
+		if (pos == end || json[pos] != '[') {
+			return null;
+		}
+
+		for (; pos < end && splitter.depth >= 0; pos++) {
+			splitter.accept((char) json[pos], pos);
+		}
+
+		return splitter.finish(pos);
+	}
+
+	/**
+	 * Finds the boundaries of the elements of the top-level array in
+	 * <code>file</code>.
+	 * 
+	 * @param file The file.
+	 * @return The start and end positions in the file of each element, one after
+	 *         the other, or <strong><span style="color:#7f0055">null</span></strong>
+	 *         if the document isn't an array. The end positions may include
+	 *         whitespace.
+	 * @throws JsonException Unbalanced array.
+	 */
+	public static long[] split(MappedJsonFile file) throws JsonException {
+		JsonArraySplitter splitter = new JsonArraySplitter();
+		byte[] chunk = new byte[CHUNK_SIZE];
+		long base = 0;
+		boolean started = false;
+
+		for (ByteBuffer segment : file.segments()) {
+			ByteBuffer source = segment.duplicate();
+
+			while (source.hasRemaining() && splitter.depth >= 0) {
+				int length = Math.min(chunk.length, source.remaining());
+				int pos = 0;
+
+				source.get(chunk, 0, length);
+
+				if (!started) {
+					pos = skipPreamble(chunk, 0, length);
+
+					if (pos == length) {
+						base += length;
+						continue;
+					}
+
+					if (chunk[pos] != '[') {
+						return null;
+					}
+
+					started = true;
+				}
+
+				for (; pos < length && splitter.depth >= 0; pos++) {
+					splitter.accept((char) chunk[pos], base + pos);
+				}
+
+				base += pos;
+			}
+		}
+
+		return started ? splitter.finish(base) : null;
+	}
+
+	/**
+	 * Skips the byte order mark and whitespace.
+	 * 
+	 * @param json The JSON bytes.
+	 * @param pos  The position of the first byte.
+	 * @param end  The position after the last byte.
+	 * @return The position of the first byte that isn't whitespace.
+	 */
+	private static int skipPreamble(byte[] json, int pos, int end) {
+		if (end - pos >= 3 && json[pos] == (byte) 0xEF && json[pos + 1] == (byte) 0xBB
+				&& json[pos + 2] == (byte) 0xBF) {
+			pos += 3;
+		}
+
+		while (pos < end && (json[pos] == ' ' || json[pos] == '\n' || json[pos] == '\r' || json[pos] == '\t')) {
+			pos++;
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Scans a character. Bytes of multi-byte UTF-8 sequences are never
+	 * structural, so may be scanned as characters too.
+	 * 
+	 * @param c   The character.
+	 * @param pos The position of the character.
+	 * @throws JsonException Unbalanced array.
+	 */
+	private void accept(char c, long pos) throws JsonException {
+		if (inString) {
+			if (escape) {
+				escape = false;
+			} else if (c == '\\') {
+				escape = true;
+			} else if (c == '"') {
+				inString = false;
+			}
+
+			return;
+		}
+
+		switch (c) {
+		case '"':
+			inString = true;
+			start(pos);
+			break;
+		case '{':
+		case '[':
+			start(pos);
+			depth++;
+			break;
+		case '}':
+		case ']':
+			if (--depth == 0) {
+				if (c != ']') {
+					throw new JsonException("Expected ',' or ']' at position " + pos + ".");
+				}
+
+				if (elementStart != -1) {
+					add(pos);
+				} else if (size > 0) {
+					throw new JsonException("Expected value at position " + pos + ".");
+				}
+
+				depth = -1;
+			}
+			break;
+		case ',':
+			if (depth == 1) {
+				if (elementStart == -1) {
+					throw new JsonException("Expected value at position " + pos + ".");
+				}
+
+				add(pos);
+			}
+			break;
+		case ' ':
+		case '\n':
+		case '\r':
+		case '\t':
+			break;
+		default:
+			start(pos);
+			break;
+		}
+	}
+
+	/**
+	 * Marks the start of an element, when between elements.
+	 * 
+	 * @param pos The position.
+	 */
+	private void start(long pos) {
+		if (depth == 1 && elementStart == -1) {
+			elementStart = pos;
+		}
+	}
+
+	/**
+	 * Adds the boundaries of the current element.
+	 * 
+	 * @param end The position after the element.
+	 */
+	private void add(long end) {
+		if (size == ranges.length) {
+			ranges = Arrays.copyOf(ranges, size * 2);
+		}
+
+		ranges[size++] = elementStart;
+		ranges[size++] = end;
+
+		elementStart = -1;
+	}
+
+	/**
+	 * @param pos The position where scanning stopped.
+	 * @return The boundaries found.
+	 * @throws JsonException Unterminated array.
+	 */
+	private long[] finish(long pos) throws JsonException {
+		if (depth != -1) {
+			throw new JsonException("Unexpected end of input at position " + pos + ".");
+		}
+
+		return Arrays.copyOf(ranges, size);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+/**
+ * Callbacks invoked by {@link JsonReader#parse(JsonHandler)} for each event of
+ * a JSON document, without building JSON objects.
+ * <p>
+ * Each callback returns a {@link Signal}. Returning {@link Signal#SKIP} from
+ * {@link #name(String)} skips the attribute's value. Returning it from any
+ * other callback skips the rest of the current object or array, which is the
+ * one just started for {@link #startObject()} and {@link #startArray()}. The
+ * events stay balanced: the end of a skipped object or array is still
+ * reported.
+ * </p>
+ * <p>
+ * All callbacks return {@link Signal#CONTINUE} by default, so only the events
+ * of interest need to be implemented.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public interface JsonHandler {
+
+	/**
+	 * What to do after a callback.
+	 */
+	enum Signal {
+
+		/**
+		 * Continue with the next event.
+		 */
+		CONTINUE,
+
+		/**
+		 * Skip the rest of the current subtree.
+		 */
+		SKIP
+
+	}
+
+	/**
+	 * Start of an object.
+	 * 
+	 * @return The signal.
+	 */
+	default Signal startObject() {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * End of an object.
+	 * 
+	 * @return The signal.
+	 */
+	default Signal endObject() {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Start of an array.
+	 * 
+	 * @return The signal.
+	 */
+	default Signal startArray() {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * End of an array.
+	 * 
+	 * @return The signal.
+	 */
+	default Signal endArray() {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Name of an object's attribute.
+	 * 
+	 * @param name The name.
+	 * @return The signal.
+	 */
+	default Signal name(String name) {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * String value.
+	 * 
+	 * @param value The value.
+	 * @return The signal.
+	 */
+	default Signal stringValue(String value) {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Number value.
+	 * 
+	 * @param value The value.
+	 * @return The signal.
+	 */
+	default Signal numberValue(Number value) {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * Boolean value.
+	 * 
+	 * @param value The value.
+	 * @return The signal.
+	 */
+	default Signal booleanValue(boolean value) {
+		return Signal.CONTINUE;
+	}
+
+	/**
+	 * <strong><span style="color:#7f0055">null</span></strong> value.
+	 * 
+	 * @return The signal.
+	 */
+	default Signal nullValue() {
+		return Signal.CONTINUE;
+	}
+
+}
\ No newline at end of file
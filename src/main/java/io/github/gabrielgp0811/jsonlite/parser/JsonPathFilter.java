@@ -0,0 +1,296 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * Set of path selectors, telling which values of a document must be parsed
+ * while it is read, so that any other subtree can be skipped without being
+ * decoded.
+ * <p>
+ * Two syntaxes are accepted:
+ * </p>
+ * <ul>
+ * <li>JSON Pointer (RFC 6901), such as <code>/payload/items/0/id</code>, where
+ * <code>~1</code> and <code>~0</code> stand for <code>/</code> and
+ * <code>~</code>. A numeric token matches both an array index and an
+ * attribute's name.</li>
+ * <li>Simple JSONPath, such as <code>$.payload.items[*].id</code>, made of
+ * <code>.name</code>, <code>['name']</code>, <code>[index]</code>,
+ * <code>.*</code> and <code>[*]</code> steps. Filters, slices and recursive
+ * descent are not supported.</li>
+ * </ul>
+ * <p>
+ * While reading, the positions reached in each selector are tracked as a
+ * state, an <code>int[]</code>, from the root ({@link #start()}) down to each
+ * value ({@link #next(int[], String, int)}).
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public final class JsonPathFilter {
+
+	/**
+	 * The bits holding the index of the step in each position of a state.
+	 */
+	private static final int STEP_BITS = 16;
+
+	/**
+	 * The steps of each selector.
+	 */
+	private final Step[][] selectors;
+
+	/**
+	 * @param selectors The steps of each selector.
+	 */
+	private JsonPathFilter(Step[][] selectors) {
+		this.selectors = selectors;
+	}
+
+	/**
+	 * Compiles the selectors.
+	 * 
+	 * @param paths The selectors, as JSON Pointers or simple JSONPaths.
+	 * @return The filter.
+	 * @throws JsonException Malformed selector.
+	 */
+	public static JsonPathFilter compile(String... paths) throws JsonException {
+		Step[][] selectors = new Step[paths.length][];
+
+		for (int i = 0; i < paths.length; i++) {
+			String path = paths[i];
+
+			if (path == null) {
+				throw new JsonException("Path is null.");
+			}
+
+			List<Step> steps = path.startsWith("$") ? parsePath(path) : parsePointer(path);
+
+			if (steps.size() >= 1 << STEP_BITS) {
+				throw new JsonException("Path " + path + " is too long.");
+			}
+
+			selectors[i] = steps.toArray(new Step[steps.size()]);
+		}
+
+		return new JsonPathFilter(selectors);
+	}
+
+	/**
+	 * @return The state of the root value.
+	 */
+	public int[] start() {
+		int[] state = new int[selectors.length];
+
+		for (int i = 0; i < state.length; i++) {
+			state[i] = i << STEP_BITS;
+		}
+
+		return state;
+	}
+
+	/**
+	 * Computes the state of a child value.
+	 * 
+	 * @param state The state of the parent object or array.
+	 * @param name  The child's attribute name, or <strong><span style=
+	 *              "color:#7f0055">null</span></strong> for array elements.
+	 * @param index The child's array index, or <code>-1</code> for object
+	 *              attributes.
+	 * @return The state of the child, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if no selector can match it
+	 *         nor its descendants.
+	 */
+	public int[] next(int[] state, String name, int index) {
+		int[] result = null;
+		int size = 0;
+
+		for (int position : state) {
+			Step[] steps = selectors[position >>> STEP_BITS];
+			int step = position & ((1 << STEP_BITS) - 1);
+
+			if (step < steps.length && steps[step].matches(name, index)) {
+				if (result == null) {
+					result = new int[state.length];
+				}
+
+				result[size++] = position + 1;
+			}
+		}
+
+		return result == null ? null : size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * @param state The state of a value.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if a
+	 *         selector matches the value, in which case it must be parsed
+	 *         whole; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	public boolean isComplete(int[] state) {
+		for (int position : state) {
+			if ((position & ((1 << STEP_BITS) - 1)) == selectors[position >>> STEP_BITS].length) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Parses a JSON Pointer.
+	 * 
+	 * @param pointer The JSON Pointer.
+	 * @return The steps.
+	 * @throws JsonException Malformed JSON Pointer.
+	 */
+	private static List<Step> parsePointer(String pointer) throws JsonException {
+		List<Step> steps = new ArrayList<>();
+
+		if (pointer.isEmpty()) {
+			return steps;
+		}
+
+		if (pointer.charAt(0) != '/') {
+			throw new JsonException("Malformed path " + pointer + ": expected '/' or '$' at position 0.");
+		}
+
+		for (String token : pointer.substring(1).split("/", -1)) {
+			if (token.matches(".*~[^01].*|.*~$")) {
+				throw new JsonException("Malformed path " + pointer + ": invalid escape sequence in " + token + ".");
+			}
+
+			String name = token.replace("~1", "/").replace("~0", "~");
+
+			steps.add(new Step(name, isIndex(name) ? Integer.parseInt(name) : -1));
+		}
+
+		return steps;
+	}
+
+	/**
+	 * Parses a simple JSONPath.
+	 * 
+	 * @param path The JSONPath.
+	 * @return The steps.
+	 * @throws JsonException Malformed or unsupported JSONPath.
+	 */
+	private static List<Step> parsePath(String path) throws JsonException {
+		List<Step> steps = new ArrayList<>();
+		int length = path.length();
+		int pos = 1;
+
+		while (pos < length) {
+			char c = path.charAt(pos);
+
+			if (c == '.') {
+				int start = ++pos;
+
+				while (pos < length && path.charAt(pos) != '.' && path.charAt(pos) != '[') {
+					pos++;
+				}
+
+				String name = path.substring(start, pos);
+
+				if (name.isEmpty()) {
+					throw new JsonException("Malformed path " + path + ": expected name at position " + start + ".");
+				}
+
+				steps.add("*".equals(name) ? Step.ANY : new Step(name, -1));
+			} else if (c == '[') {
+				int end = path.indexOf(']', pos);
+
+				if (end == -1) {
+					throw new JsonException("Malformed path " + path + ": expected ']' after position " + pos + ".");
+				}
+
+				String token = path.substring(pos + 1, end).trim();
+
+				if ("*".equals(token)) {
+					steps.add(Step.ANY);
+				} else if (isIndex(token)) {
+					steps.add(new Step(null, Integer.parseInt(token)));
+				} else if (token.length() >= 2 && (token.charAt(0) == '\'' || token.charAt(0) == '"')
+						&& token.charAt(token.length() - 1) == token.charAt(0)) {
+					steps.add(new Step(token.substring(1, token.length() - 1), -1));
+				} else {
+					throw new JsonException("Unsupported path " + path + ": step [" + token + "].");
+				}
+
+				pos = end + 1;
+			} else {
+				throw new JsonException(
+						"Malformed path " + path + ": unexpected character '" + c + "' at position " + pos + ".");
+			}
+		}
+
+		return steps;
+	}
+
+	/**
+	 * @param token The token.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is an
+	 *         array index; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isIndex(String token) {
+		return token.matches("0|[1-9][0-9]{0,8}");
+	}
+
+	/**
+	 * Step of a selector.
+	 */
+	private static final class Step {
+
+		/**
+		 * Step matching any child.
+		 */
+		static final Step ANY = new Step(null, -1);
+
+		/**
+		 * The attribute name matched, or <strong><span style=
+		 * "color:#7f0055">null</span></strong>.
+		 */
+		private final String name;
+
+		/**
+		 * The array index matched, or <code>-1</code>.
+		 */
+		private final int index;
+
+		/**
+		 * @param name  The attribute name matched, or <strong><span style=
+		 *              "color:#7f0055">null</span></strong>.
+		 * @param index The array index matched, or <code>-1</code>.
+		 */
+		Step(String name, int index) {
+			this.name = name;
+			this.index = index;
+		}
+
+		/**
+		 * @param name  The child's attribute name, or <strong><span style=
+		 *              "color:#7f0055">null</span></strong>.
+		 * @param index The child's array index, or <code>-1</code>.
+		 * @return <strong><span style="color:#7f0055">true</span></strong> if
+		 *         matches; <strong><span style="color:#7f0055">false</span></strong>
+		 *         otherwise.
+		 */
+		boolean matches(String name, int index) {
+			if (this == ANY) {
+				return true;
+			}
+
+			return name != null ? name.equals(this.name) : index != -1 && index == this.index;
+		}
+
+	}
+
+}
\ No newline at end of file
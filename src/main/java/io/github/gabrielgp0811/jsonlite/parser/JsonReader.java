@@ -0,0 +1,1871 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * Pull parser that reads a JSON document one token at a time.
+ * <p>
+ * The characters are scanned over a <code>char[]</code> with an
+ * <code>int</code> cursor. When reading from a <code>java.io.Reader</code> or a
+ * <code>java.io.InputStream</code>, that buffer is bounded and refilled as the
+ * document is consumed, so memory stays constant regardless of the document's
+ * size. When reading from a <code>char[]</code>, the array is parsed in place.
+ * </p>
+ * <p>
+ * A reader can be {@link #reset(char[], int, int) reset} to parse another
+ * document, keeping its nesting stack and scratch buffers, so that parsing many
+ * small documents creates almost no garbage besides the values read. See
+ * {@link JsonReaderPool}.
+ * </p>
+ * <p>
+ * The document is checked against {@link ParserLimits}, by default
+ * {@link ParserLimits#DEFAULT}, failing as soon as a limit is crossed.
+ * </p>
+ * <p>
+ * Malformed JSON fails, unless the reader is {@link #setLenient(boolean)
+ * lenient}, as {@link io.github.gabrielgp0811.jsonlite.Json} makes it.
+ * </p>
+ * <p>
+ * Usage example:
+ * </p>
+ * 
+ * <pre>
+ * try (JsonReader reader = new JsonReader(new FileReader("users.json"))) {
+ * 	reader.beginArray();
+ * 	while (reader.hasNext()) {
+ * 		reader.beginObject();
+ * 		while (reader.hasNext()) {
+ * 			String name = reader.nextName();
+ * 			if (name.equals("id")) {
+ * 				long id = reader.nextLong();
+ * 			} else {
+ * 				reader.skipValue();
+ * 			}
+ * 		}
+ * 		reader.endObject();
+ * 	}
+ * 	reader.endArray();
+ * }
+ * </pre>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonReader implements Closeable {
+
+	/**
+	 * The size of the internal buffer used for streaming input.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The largest magnitude up to which every integral <code>double</code> is
+	 * exact (2<sup>53</sup>).
+	 */
+	private static final double MAX_EXACT_DOUBLE = 9007199254740992d;
+
+	/**
+	 * The largest capacity, in characters, of the scratch buffers kept by
+	 * {@link #recycle()}.
+	 */
+	static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+	/**
+	 * The value of each ASCII hexadecimal digit, or <code>-1</code>.
+	 */
+	private static final byte[] HEX_DIGITS = new byte[128];
+
+	static {
+		Arrays.fill(HEX_DIGITS, (byte) -1);
+
+		for (int i = 0; i < 10; i++) {
+			HEX_DIGITS['0' + i] = (byte) i;
+		}
+
+		for (int i = 0; i < 6; i++) {
+			HEX_DIGITS['a' + i] = (byte) (10 + i);
+			HEX_DIGITS['A' + i] = (byte) (10 + i);
+		}
+	}
+
+	private static final int EMPTY_DOCUMENT = 0;
+
+	private static final int NONEMPTY_DOCUMENT = 1;
+
+	private static final int EMPTY_ARRAY = 2;
+
+	private static final int NONEMPTY_ARRAY = 3;
+
+	private static final int EMPTY_OBJECT = 4;
+
+	private static final int DANGLING_NAME = 5;
+
+	private static final int NONEMPTY_OBJECT = 6;
+
+	/**
+	 * The input, or <strong><span style="color:#7f0055">null</span></strong> when
+	 * parsing a <code>char[]</code> in place.
+	 */
+	private Reader in = null;
+
+	/**
+	 * The characters being parsed.
+	 */
+	private char[] buffer = null;
+
+	/**
+	 * The position of the next character to be read.
+	 */
+	private int position = 0;
+
+	/**
+	 * The position after the last character to be read.
+	 */
+	private int limit = 0;
+
+	/**
+	 * The position in the document of <code>buffer[0]</code>.
+	 */
+	private long base = 0;
+
+	/**
+	 * The nesting stack, holding the scope of each level.
+	 */
+	private int[] stack = new int[32];
+
+	/**
+	 * The amount of levels in {@link #stack}.
+	 */
+	private int stackSize = 0;
+
+	/**
+	 * The amount of attributes read so far at each level of {@link #stack}.
+	 */
+	private int[] members = new int[32];
+
+	/**
+	 * The limits on the document.
+	 */
+	private ParserLimits limits = ParserLimits.DEFAULT;
+
+	/**
+	 * Whether malformed JSON is read as far as it makes sense instead of failing.
+	 */
+	private boolean lenient = false;
+
+	/**
+	 * The token already peeked, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> if the next token wasn't peeked yet.
+	 */
+	private JsonToken peeked = null;
+
+	/**
+	 * The length of the number token already peeked, whose characters end at the
+	 * current position.
+	 */
+	private int peekedLength = 0;
+
+	/**
+	 * The table of canonical attribute names, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> to create a new
+	 * <code>java.lang.String</code> for every name.
+	 */
+	private JsonSymbolTable symbols = null;
+
+	/**
+	 * The name or string of the last token read by {@link #nextToken()}.
+	 */
+	private String text = null;
+
+	/**
+	 * The number of the last token read by {@link #nextToken()}.
+	 */
+	private Number number = null;
+
+	/**
+	 * The scratch buffer holding strings with escape sequences while parsed.
+	 */
+	private StringBuilder builder = null;
+
+	/**
+	 * The scratch buffer holding the characters passed to {@link #reset(String)}
+	 * or {@link #reset(CharSequence)}, or read from the input passed to
+	 * {@link #reset(Reader)}.
+	 */
+	private char[] chars = null;
+
+	/**
+	 * @param in The input.
+	 */
+	public JsonReader(Reader in) {
+		if (in == null) {
+			throw new NullPointerException("in is null");
+		}
+
+		this.in = in;
+		this.buffer = new char[BUFFER_SIZE];
+
+		push(EMPTY_DOCUMENT);
+	}
+
+	/**
+	 * @param in The input, encoded in UTF-8.
+	 */
+	public JsonReader(InputStream in) {
+		this(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param json   The JSON characters, which are parsed in place.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 */
+	public JsonReader(char[] json, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > json.length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length);
+		}
+
+		this.buffer = json;
+		this.position = offset;
+		this.limit = offset + length;
+		this.base = -offset;
+
+		push(EMPTY_DOCUMENT);
+	}
+
+	/**
+	 * Resets this reader to parse the JSON characters in <code>json</code>,
+	 * starting at <code>offset</code> and spanning <code>length</code>
+	 * characters, in place.
+	 * 
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return This reader.
+	 */
+	public JsonReader reset(char[] json, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > json.length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length);
+		}
+
+		this.in = null;
+		this.buffer = json;
+		this.position = offset;
+		this.limit = offset + length;
+		this.base = -offset;
+
+		resetState();
+
+		return this;
+	}
+
+	/**
+	 * Resets this reader to parse the JSON string <code>json</code>. Its
+	 * characters are copied into a buffer kept by this reader, which is reused by
+	 * the next resets.
+	 * 
+	 * @param json The JSON string.
+	 * @return This reader.
+	 */
+	public JsonReader reset(String json) {
+		int length = json.length();
+
+		if (chars == null || chars.length < length) {
+			chars = new char[Math.max(length, BUFFER_SIZE)];
+		}
+
+		json.getChars(0, length, chars, 0);
+
+		return reset(chars, 0, length);
+	}
+
+	/**
+	 * Resets this reader to parse the JSON characters between the position and
+	 * the limit of <code>json</code>. A <code>java.nio.CharBuffer</code> backed by
+	 * an array is parsed in place; the characters of any other sequence are
+	 * copied into a buffer kept by this reader, which is reused by the next
+	 * resets. The buffer's position is not changed.
+	 * 
+	 * @param json The JSON characters.
+	 * @return This reader.
+	 */
+	public JsonReader reset(CharSequence json) {
+		if (json instanceof String) {
+			return reset((String) json);
+		}
+
+		if (json instanceof CharBuffer && ((CharBuffer) json).hasArray()) {
+			CharBuffer buffer = (CharBuffer) json;
+
+			return reset(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+		}
+
+		int length = json.length();
+
+		if (chars == null || chars.length < length) {
+			chars = new char[Math.max(length, BUFFER_SIZE)];
+		}
+
+		if (json instanceof StringBuilder) {
+			((StringBuilder) json).getChars(0, length, chars, 0);
+		} else if (json instanceof StringBuffer) {
+			((StringBuffer) json).getChars(0, length, chars, 0);
+		} else if (json instanceof CharBuffer) {
+			((CharBuffer) json).duplicate().get(chars, 0, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				chars[i] = json.charAt(i);
+			}
+		}
+
+		return reset(chars, 0, length);
+	}
+
+	/**
+	 * Resets this reader to parse the JSON characters read from <code>in</code>,
+	 * which are buffered in a buffer kept by this reader and reused by the next
+	 * resets. The input is not closed.
+	 * 
+	 * @param in The input.
+	 * @return This reader.
+	 */
+	public JsonReader reset(Reader in) {
+		if (in == null) {
+			throw new NullPointerException("in is null");
+		}
+
+		if (chars == null || chars.length < BUFFER_SIZE) {
+			chars = new char[BUFFER_SIZE];
+		}
+
+		this.in = in;
+		this.buffer = chars;
+		this.position = 0;
+		this.limit = 0;
+		this.base = 0;
+
+		resetState();
+
+		return this;
+	}
+
+	/**
+	 * Resets the tokens' state, as of a new document.
+	 */
+	void resetState() {
+		stackSize = 0;
+		peeked = null;
+		peekedLength = 0;
+		text = null;
+		number = null;
+
+		push(EMPTY_DOCUMENT);
+	}
+
+	/**
+	 * Releases the input and the symbol table and shrinks the scratch buffers, so
+	 * that a pooled reader doesn't retain them.
+	 */
+	void recycle() {
+		in = null;
+		buffer = null;
+		position = 0;
+		limit = 0;
+		base = 0;
+		symbols = null;
+		limits = ParserLimits.DEFAULT;
+		lenient = false;
+
+		resetState();
+
+		if (builder != null && builder.capacity() > MAX_RETAINED_CAPACITY) {
+			builder = null;
+		}
+
+		if (chars != null && chars.length > MAX_RETAINED_CAPACITY) {
+			chars = null;
+		}
+	}
+
+	/**
+	 * @return The scratch buffer for strings, emptied.
+	 */
+	StringBuilder builder() {
+		if (builder == null) {
+			builder = new StringBuilder(64);
+		}
+
+		builder.setLength(0);
+
+		return builder;
+	}
+
+	/**
+	 * Constructor for subclasses that scan their own buffer, overriding
+	 * {@link #nextNonWhitespace()}, {@link #unread()}, {@link #skipWord()},
+	 * {@link #lastWord(int)}, {@link #lastWordEquals(int, String)},
+	 * {@link #parseLastNumber(int)}, {@link #parseName()}, {@link #parseString()},
+	 * {@link #skipString()} and {@link #getPosition()}, and for
+	 * {@link JsonReaderPool}, which resets the reader before use.
+	 */
+	JsonReader() {
+		push(EMPTY_DOCUMENT);
+	}
+
+	/**
+	 * Returns the type of the next token without consuming it.
+	 * 
+	 * @return The next token, or {@link JsonToken#NONE} at the end of the
+	 *         document.
+	 * @throws JsonException Error reading the input or malformed JSON.
+	 */
+	public JsonToken peek() throws JsonException {
+		JsonToken token = peeked;
+
+		if (token == null) {
+			token = doPeek();
+		}
+
+		return token;
+	}
+
+	/**
+	 * Consumes the next token and returns its type. The name or string of
+	 * {@link JsonToken#NAME} and {@link JsonToken#STRING} tokens is available
+	 * through {@link #getText()}, and the value of {@link JsonToken#NUMBER}
+	 * tokens through {@link #getNumber()}.
+	 * 
+	 * @return The token consumed, or {@link JsonToken#NONE} at the end of the
+	 *         document.
+	 * @throws JsonException Error reading the input or malformed JSON.
+	 */
+	public JsonToken nextToken() throws JsonException {
+		JsonToken token = peek();
+
+		text = null;
+		number = null;
+
+		switch (token) {
+		case CURLY_OPEN:
+			beginObject();
+			break;
+		case CURLY_CLOSE:
+			endObject();
+			break;
+		case SQUARED_OPEN:
+			beginArray();
+			break;
+		case SQUARED_CLOSE:
+			endArray();
+			break;
+		case NAME:
+			text = nextName();
+			break;
+		case STRING:
+			text = nextString();
+			break;
+		case NUMBER:
+			text = lastWord(peekedLength);
+			number = nextNumber();
+			break;
+		case TRUE:
+		case FALSE:
+			nextBoolean();
+			break;
+		case NULL:
+			nextNull();
+			break;
+		default:
+			break;
+		}
+
+		return token;
+	}
+
+	/**
+	 * @return The name, string or number characters of the last token read by
+	 *         {@link #nextToken()}.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @return The number of the last token read by {@link #nextToken()}.
+	 */
+	public Number getNumber() {
+		return number;
+	}
+
+	/**
+	 * Consumes the start of an object.
+	 * 
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#CURLY_OPEN}.
+	 */
+	public void beginObject() throws JsonException {
+		expect(JsonToken.CURLY_OPEN);
+
+		open(EMPTY_OBJECT);
+
+		peeked = null;
+	}
+
+	/**
+	 * Consumes the end of an object.
+	 * 
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#CURLY_CLOSE}.
+	 */
+	public void endObject() throws JsonException {
+		expect(JsonToken.CURLY_CLOSE);
+
+		stackSize--;
+
+		peeked = null;
+	}
+
+	/**
+	 * Consumes the start of an array.
+	 * 
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#SQUARED_OPEN}.
+	 */
+	public void beginArray() throws JsonException {
+		expect(JsonToken.SQUARED_OPEN);
+
+		open(EMPTY_ARRAY);
+
+		peeked = null;
+	}
+
+	/**
+	 * Consumes the end of an array.
+	 * 
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#SQUARED_CLOSE}.
+	 */
+	public void endArray() throws JsonException {
+		expect(JsonToken.SQUARED_CLOSE);
+
+		stackSize--;
+
+		peeked = null;
+	}
+
+	/**
+	 * Checks if the current object or array has more elements.
+	 * 
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if has
+	 *         more elements; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 * @throws JsonException Error reading the input or malformed JSON.
+	 */
+	public boolean hasNext() throws JsonException {
+		JsonToken token = peek();
+
+		return token != JsonToken.CURLY_CLOSE && token != JsonToken.SQUARED_CLOSE && token != JsonToken.NONE;
+	}
+
+	/**
+	 * Consumes the next attribute's name.
+	 * 
+	 * @return The name.
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#NAME}.
+	 */
+	public String nextName() throws JsonException {
+		expect(JsonToken.NAME);
+
+		String result = parseName();
+
+		peeked = null;
+
+		return result;
+	}
+
+	/**
+	 * Consumes the next attribute's name if it is <code>name</code>, comparing
+	 * the characters in place without creating a <code>java.lang.String</code>.
+	 * Otherwise nothing is consumed, and the name is still available to
+	 * {@link #nextName()}. Names written with escape sequences never match.
+	 * 
+	 * @param name The expected name.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         name was consumed; <strong><span style=
+	 *         "color:#7f0055">false</span></strong> otherwise.
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#NAME}.
+	 */
+	public boolean nextNameEquals(String name) throws JsonException {
+		expect(JsonToken.NAME);
+
+		if (!matchName(name)) {
+			return false;
+		}
+
+		peeked = null;
+
+		return true;
+	}
+
+	/**
+	 * Consumes the next string value. Numbers are returned as their characters.
+	 * 
+	 * @return The string.
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#STRING} nor
+	 *                       {@link JsonToken#NUMBER}.
+	 */
+	public String nextString() throws JsonException {
+		JsonToken token = peek();
+
+		String result = null;
+
+		if (token == JsonToken.STRING) {
+			result = parseString();
+		} else if (token == JsonToken.NUMBER) {
+			result = lastWord(peekedLength);
+		} else {
+			throw unexpected(JsonToken.STRING, token);
+		}
+
+		peeked = null;
+
+		return result;
+	}
+
+	/**
+	 * Consumes the next boolean value.
+	 * 
+	 * @return The boolean.
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#TRUE} nor {@link JsonToken#FALSE}.
+	 */
+	public boolean nextBoolean() throws JsonException {
+		JsonToken token = peek();
+
+		if (token != JsonToken.TRUE && token != JsonToken.FALSE) {
+			throw unexpected(JsonToken.TRUE, token);
+		}
+
+		peeked = null;
+
+		return token == JsonToken.TRUE;
+	}
+
+	/**
+	 * Consumes the next <strong><span style="color:#7f0055">null</span></strong>
+	 * value.
+	 * 
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       {@link JsonToken#NULL}.
+	 */
+	public void nextNull() throws JsonException {
+		expect(JsonToken.NULL);
+
+		peeked = null;
+	}
+
+	/**
+	 * Consumes the next number value, as the smallest of
+	 * <code>java.lang.Byte</code>, <code>java.lang.Short</code>,
+	 * <code>java.lang.Integer</code> and <code>java.lang.Long</code> for integers,
+	 * or as a <code>java.lang.Float</code> or <code>java.lang.Double</code>
+	 * otherwise, the former when a <code>float</code> holds the decimal exactly.
+	 * Numbers out of those ranges are returned as a
+	 * <code>java.math.BigInteger</code> or <code>java.math.BigDecimal</code>.
+	 * 
+	 * @return The number.
+	 * @throws JsonException Error reading the input, next token isn't
+	 *                       {@link JsonToken#NUMBER} or malformed number.
+	 */
+	public Number nextNumber() throws JsonException {
+		expect(JsonToken.NUMBER);
+
+		Number result = parseWord(peekedLength);
+
+		if (result == null) {
+			throw syntaxError("Error parsing number " + lastWord(peekedLength));
+		}
+
+		peeked = null;
+
+		return result;
+	}
+
+	/**
+	 * Consumes the next number value as its characters, checking its syntax
+	 * without converting it, so that it can be converted later.
+	 * 
+	 * @return The characters of the number.
+	 * @throws JsonException Error reading the input, next token isn't
+	 *                       {@link JsonToken#NUMBER} or malformed number.
+	 */
+	public String nextNumberText() throws JsonException {
+		expect(JsonToken.NUMBER);
+
+		if (!isLastNumberWellFormed(peekedLength)) {
+			throw syntaxError("Error parsing number " + lastWord(peekedLength));
+		}
+
+		String result = lastWord(peekedLength);
+
+		peeked = null;
+
+		return result;
+	}
+
+	/**
+	 * Consumes the next number value as a <code>long</code>. Strings holding a
+	 * number are also accepted.
+	 * 
+	 * @return The <code>long</code>.
+	 * @throws JsonException Error reading the input, next token isn't a number or
+	 *                       it can't be represented as a <code>long</code>.
+	 */
+	public long nextLong() throws JsonException {
+		long position = getPosition();
+		Number number = nextNumberOrString("a long", position);
+
+		if (number instanceof Double || number instanceof Float) {
+			double value = number.doubleValue();
+
+			// Integral doubles are accepted, as in 1.0 or 1e3
+			if (value >= -MAX_EXACT_DOUBLE && value <= MAX_EXACT_DOUBLE && value == Math.rint(value)) {
+				return (long) value;
+			}
+		} else if (!(number instanceof BigInteger) && !(number instanceof BigDecimal)) {
+			return number.longValue();
+		}
+
+		throw new JsonException("Expected a long but was " + number + " at position " + position + ".");
+	}
+
+	/**
+	 * Consumes the next number value as an <code>int</code>. Strings holding a
+	 * number are also accepted.
+	 * 
+	 * @return The <code>int</code>.
+	 * @throws JsonException Error reading the input, next token isn't a number or
+	 *                       it can't be represented as an <code>int</code>.
+	 */
+	public int nextInt() throws JsonException {
+		long position = getPosition();
+		long result = nextLong();
+
+		if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+			throw new JsonException("Expected an int but was " + result + " at position " + position + ".");
+		}
+
+		return (int) result;
+	}
+
+	/**
+	 * Consumes the next number value as a <code>double</code>. Strings holding a
+	 * number are also accepted.
+	 * 
+	 * @return The <code>double</code>.
+	 * @throws JsonException Error reading the input or next token isn't a number.
+	 */
+	public double nextDouble() throws JsonException {
+		return nextNumberOrString("a double", getPosition()).doubleValue();
+	}
+
+	/**
+	 * Skips the next value. When the next token is an attribute's name, only the
+	 * name is skipped.
+	 * 
+	 * @throws JsonException Error reading the input or malformed JSON.
+	 */
+	public void skipValue() throws JsonException {
+		int count = 0;
+
+		do {
+			JsonToken token = peek();
+
+			switch (token) {
+			case CURLY_OPEN:
+				open(EMPTY_OBJECT);
+				count++;
+				break;
+			case SQUARED_OPEN:
+				open(EMPTY_ARRAY);
+				count++;
+				break;
+			case CURLY_CLOSE:
+			case SQUARED_CLOSE:
+				if (count == 0) {
+					throw unexpected(JsonToken.NONE, token);
+				}
+
+				stackSize--;
+				count--;
+				break;
+			case NAME:
+			case STRING:
+				skipString();
+				break;
+			case NONE:
+				throw syntaxError("Unexpected end of input");
+			default:
+				break;
+			}
+
+			peeked = null;
+		} while (count != 0);
+	}
+
+	/**
+	 * Checks that nothing but whitespace follows the document's value, which must
+	 * be already consumed.
+	 * 
+	 * @throws JsonException Error reading the input or data after the value.
+	 */
+	public void endDocument() throws JsonException {
+		if (stackSize != 1 || stack[0] != NONEMPTY_DOCUMENT) {
+			throw syntaxError("Expected end of document");
+		}
+
+		// Peeking past the value doesn't consume anything
+		if (nextNonWhitespace() != -1) {
+			unread();
+
+			throw syntaxError("Unexpected data after the value");
+		}
+	}
+
+	/**
+	 * Reads the next value, pushing its events to <code>handler</code> instead of
+	 * returning them.
+	 * 
+	 * @param handler The handler.
+	 * @throws JsonException Error reading the input or malformed JSON.
+	 * @see JsonHandler
+	 */
+	public void parse(JsonHandler handler) throws JsonException {
+		int depth = 0;
+
+		do {
+			JsonHandler.Signal signal = null;
+
+			switch (peek()) {
+			case CURLY_OPEN:
+				beginObject();
+				depth++;
+				signal = handler.startObject();
+				break;
+			case CURLY_CLOSE:
+				endObject();
+				depth--;
+				signal = handler.endObject();
+				break;
+			case SQUARED_OPEN:
+				beginArray();
+				depth++;
+				signal = handler.startArray();
+				break;
+			case SQUARED_CLOSE:
+				endArray();
+				depth--;
+				signal = handler.endArray();
+				break;
+			case NAME:
+				if (handler.name(nextName()) == JsonHandler.Signal.SKIP) {
+					skipValue();
+				}
+				continue;
+			case STRING:
+				signal = handler.stringValue(nextString());
+				break;
+			case NUMBER:
+				signal = handler.numberValue(nextNumber());
+				break;
+			case TRUE:
+			case FALSE:
+				signal = handler.booleanValue(nextBoolean());
+				break;
+			case NULL:
+				nextNull();
+				signal = handler.nullValue();
+				break;
+			default:
+				return;
+			}
+
+			if (signal == JsonHandler.Signal.SKIP && depth > 0) {
+				while (hasNext()) {
+					skipValue();
+				}
+			}
+		} while (depth > 0);
+	}
+
+	/**
+	 * @return The table of canonical attribute names, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if not set.
+	 */
+	public JsonSymbolTable getSymbolTable() {
+		return symbols;
+	}
+
+	/**
+	 * Sets the table of canonical attribute names, so that names already in it
+	 * are returned by {@link #nextName()} without creating a new
+	 * <code>java.lang.String</code>.
+	 * 
+	 * @param symbols The table, or <strong><span style=
+	 *                "color:#7f0055">null</span></strong> to create a new
+	 *                <code>java.lang.String</code> for every name.
+	 */
+	public void setSymbolTable(JsonSymbolTable symbols) {
+		this.symbols = symbols;
+	}
+
+	/**
+	 * @return The limits on the document.
+	 */
+	public ParserLimits getLimits() {
+		return limits;
+	}
+
+	/**
+	 * Sets the limits on the document, which apply from the next token on.
+	 * 
+	 * @param limits The limits, or <strong><span style=
+	 *               "color:#7f0055">null</span></strong> for
+	 *               {@link ParserLimits#DEFAULT}.
+	 */
+	public void setLimits(ParserLimits limits) {
+		this.limits = limits != null ? limits : ParserLimits.DEFAULT;
+	}
+
+	/**
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if
+	 *         malformed JSON is read leniently; <strong><span style=
+	 *         "color:#7f0055">false</span></strong> otherwise.
+	 */
+	public boolean isLenient() {
+		return lenient;
+	}
+
+	/**
+	 * Sets whether malformed JSON is read as far as it makes sense, as the
+	 * original parser did, instead of failing. When lenient:
+	 * <ul>
+	 * <li>commas between values are optional, and extra commas are
+	 * ignored;</li>
+	 * <li>strings, objects and arrays left open end with the input;</li>
+	 * <li>invalid escape sequences are dropped;</li>
+	 * <li>numbers written as <code>java.lang.Float#valueOf(String)</code>
+	 * accepts them, such as <code>1f</code>, are read as floats;</li>
+	 * <li>any other unknown value, such as <code>.5</code>, <code>+1</code> or
+	 * <code>foo</code>, is read as <code>null</code>.</li>
+	 * </ul>
+	 * 
+	 * @param lenient <strong><span style="color:#7f0055">true</span></strong> to
+	 *                read leniently; <strong><span style=
+	 *                "color:#7f0055">false</span></strong> to fail on malformed
+	 *                JSON, the default.
+	 */
+	public void setLenient(boolean lenient) {
+		this.lenient = lenient;
+	}
+
+	/**
+	 * @return The nesting depth of the current position. The depth is
+	 *         <code>0</code> outside of any object or array.
+	 */
+	public int getDepth() {
+		return stackSize - 1;
+	}
+
+	/**
+	 * @return The position, in characters, of the next character to be read.
+	 */
+	public long getPosition() {
+		return base + position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		peeked = null;
+		stackSize = 1;
+		stack[0] = NONEMPTY_DOCUMENT;
+
+		if (in != null) {
+			in.close();
+		}
+	}
+
+	/**
+	 * Peeks the next token, updating the scope of the current level.
+	 * 
+	 * @return The next token.
+	 * @throws JsonException Error reading the input or malformed JSON.
+	 */
+	private JsonToken doPeek() throws JsonException {
+		int scope = stack[stackSize - 1];
+		int c = 0;
+
+		if (getPosition() > limits.getMaxDocumentLength()) {
+			throw syntaxError("Document length exceeds the maximum of " + limits.getMaxDocumentLength());
+		}
+
+		switch (scope) {
+		case EMPTY_ARRAY:
+		case NONEMPTY_ARRAY:
+			stack[stackSize - 1] = NONEMPTY_ARRAY;
+
+			c = nextNonWhitespace();
+
+			if (lenient) {
+				c = skipCommas(c);
+
+				if (c == ']' || c == -1) {
+					return peeked = JsonToken.SQUARED_CLOSE;
+				}
+				break;
+			}
+
+			if (c == ']') {
+				return peeked = JsonToken.SQUARED_CLOSE;
+			}
+
+			if (scope == NONEMPTY_ARRAY) {
+				if (c != ',') {
+					throw syntaxError("Expected ',' or ']'");
+				}
+
+				c = nextNonWhitespace();
+			}
+			break;
+		case EMPTY_OBJECT:
+		case NONEMPTY_OBJECT:
+			stack[stackSize - 1] = DANGLING_NAME;
+
+			c = nextNonWhitespace();
+
+			if (lenient) {
+				c = skipCommas(c);
+
+				if (c == -1) {
+					return peeked = JsonToken.CURLY_CLOSE;
+				}
+			}
+
+			if (c == '}') {
+				return peeked = JsonToken.CURLY_CLOSE;
+			}
+
+			if (scope == NONEMPTY_OBJECT && !lenient) {
+				if (c != ',') {
+					throw syntaxError("Expected ',' or '}'");
+				}
+
+				c = nextNonWhitespace();
+			}
+
+			if (c != '"') {
+				throw syntaxError("Expected name");
+			}
+
+			if (++members[stackSize - 1] > limits.getMaxObjectMembers()) {
+				throw syntaxError("Object members exceed the maximum of " + limits.getMaxObjectMembers());
+			}
+
+			return peeked = JsonToken.NAME;
+		case DANGLING_NAME:
+			stack[stackSize - 1] = NONEMPTY_OBJECT;
+
+			if (nextNonWhitespace() != ':') {
+				throw syntaxError("Expected ':'");
+			}
+
+			c = nextNonWhitespace();
+			break;
+		case EMPTY_DOCUMENT:
+			stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+
+			c = nextNonWhitespace();
+
+			if (c == -1) {
+				return peeked = JsonToken.NONE;
+			}
+			break;
+		default:
+			// Anything after the first value is ignored
+			return peeked = JsonToken.NONE;
+		}
+
+		switch (c) {
+		case -1:
+			if (lenient) {
+				// A name left without its value
+				return peeked = JsonToken.NULL;
+			}
+
+			throw syntaxError("Unexpected end of input");
+		case '{':
+			return peeked = JsonToken.CURLY_OPEN;
+		case '[':
+			return peeked = JsonToken.SQUARED_OPEN;
+		case '"':
+			return peeked = JsonToken.STRING;
+		default:
+			unread();
+
+			return peeked = peekWord((char) c);
+		}
+	}
+
+	/**
+	 * Skips the commas starting at <code>c</code> and the whitespace after them.
+	 * 
+	 * @param c The next character that isn't whitespace.
+	 * @return The next character that is neither whitespace nor a comma, or
+	 *         <code>-1</code> at the end of the input.
+	 * @throws JsonException Error reading the input.
+	 */
+	private int skipCommas(int c) throws JsonException {
+		while (c == ',') {
+			c = nextNonWhitespace();
+		}
+
+		return c;
+	}
+
+	/**
+	 * Peeks a number or a literal (<code>true</code>, <code>false</code>,
+	 * <code>null</code> or <code>undefined</code>).
+	 * 
+	 * @param first The first character of the word.
+	 * @return The token.
+	 * @throws JsonException Error reading the input or unexpected word.
+	 */
+	private JsonToken peekWord(char first) throws JsonException {
+		long start = getPosition();
+		int length = skipWord();
+
+		if (length == 0 && lenient) {
+			// A stray ':', ',' or '}' ends an array, as the original parser did
+			return stack[stackSize - 1] == NONEMPTY_ARRAY ? JsonToken.SQUARED_CLOSE : JsonToken.NULL;
+		}
+
+		JsonToken token = null;
+
+		switch (first) {
+		case 't':
+			token = lastWordEquals(length, "true") ? JsonToken.TRUE : null;
+			break;
+		case 'f':
+			token = lastWordEquals(length, "false") ? JsonToken.FALSE : null;
+			break;
+		case 'n':
+			token = lastWordEquals(length, "null") ? JsonToken.NULL : null;
+			break;
+		case 'u':
+			token = lastWordEquals(length, "undefined") ? JsonToken.NULL : null;
+			break;
+		default:
+			if ((first >= '0' && first <= '9') || first == '-') {
+				if (length > limits.getMaxNumberLength()) {
+					throw new JsonException("Number length exceeds the maximum of " + limits.getMaxNumberLength()
+							+ " at position " + start + ".");
+				}
+
+				peekedLength = length;
+
+				token = JsonToken.NUMBER;
+
+				if (lenient && !isLastNumberWellFormed(length) && parseWord(length) == null) {
+					token = null;
+				}
+			}
+			break;
+		}
+
+		if (token == null && lenient) {
+			token = JsonToken.NULL;
+		}
+
+		if (token == null) {
+			throw new JsonException("Unexpected value " + lastWord(length) + " at position " + start + ".");
+		}
+
+		return token;
+	}
+
+	/**
+	 * Consumes the next number, or string holding a number.
+	 * 
+	 * @param expected The description of the expected value.
+	 * @param position The position of the value.
+	 * @return The number.
+	 * @throws JsonException Error reading the input, next token isn't a number
+	 *                       nor a string or malformed number.
+	 */
+	private Number nextNumberOrString(String expected, long position) throws JsonException {
+		JsonToken token = peek();
+
+		Number result = null;
+		String word = null;
+
+		if (token == JsonToken.NUMBER) {
+			result = parseWord(peekedLength);
+
+			if (result == null) {
+				word = lastWord(peekedLength);
+			}
+		} else if (token == JsonToken.STRING) {
+			word = parseString().trim();
+			result = NumberParser.parse(word.toCharArray(), 0, word.length());
+		} else {
+			throw unexpected(JsonToken.NUMBER, token);
+		}
+
+		peeked = null;
+
+		if (result == null) {
+			throw new JsonException("Expected " + expected + " but was " + word + " at position " + position + ".");
+		}
+
+		return result;
+	}
+
+	/**
+	 * Parses the word just consumed by {@link #skipWord()} as a number. When
+	 * lenient, words that aren't JSON numbers are parsed by
+	 * <code>java.lang.Float#valueOf(String)</code>, as the original parser did,
+	 * as long as the result is finite.
+	 * 
+	 * @param length The length of the word.
+	 * @return The number, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if malformed.
+	 */
+	private Number parseWord(int length) {
+		Number result = parseLastNumber(length);
+
+		if (result == null && lenient) {
+			try {
+				Float value = Float.valueOf(lastWord(length));
+
+				result = value.isInfinite() || value.isNaN() ? null : value;
+			} catch (NumberFormatException e) {
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Parse an attribute's name, looking it up in the symbol table. The opening
+	 * double quote must be already consumed.
+	 * 
+	 * @return The name.
+	 * @throws JsonException Error reading the input or unterminated string.
+	 */
+	String parseName() throws JsonException {
+		JsonSymbolTable symbols = this.symbols;
+
+		if (symbols == null) {
+			return parseString();
+		}
+
+		char[] buffer = this.buffer;
+		int start = position;
+		int limit = this.limit;
+
+		for (int pos = start; pos < limit; pos++) {
+			char ch = buffer[pos];
+
+			if (ch == '"') {
+				checkStringLength(pos - start);
+
+				position = pos + 1;
+
+				return symbols.intern(buffer, start, pos - start);
+			}
+
+			if (ch == '\\') {
+				break;
+			}
+		}
+
+		return symbols.intern(parseString());
+	}
+
+	/**
+	 * Consumes an attribute's name if its characters, up to the closing double
+	 * quote, are <code>name</code>'s. The opening double quote must be already
+	 * consumed.
+	 * 
+	 * @param name The expected name.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if
+	 *         matches; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 * @throws JsonException Error reading the input.
+	 */
+	boolean matchName(String name) throws JsonException {
+		int length = name.length();
+
+		if (position + length >= limit && !fill(length + 1)) {
+			return false;
+		}
+
+		char[] buffer = this.buffer;
+		int start = position;
+
+		if (buffer[start + length] != '"') {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			char ch = buffer[start + i];
+
+			if (ch != name.charAt(i) || ch == '"' || ch == '\\') {
+				return false;
+			}
+		}
+
+		position = start + length + 1;
+
+		return true;
+	}
+
+	/**
+	 * Parse String. The opening double quote must be already consumed.
+	 * 
+	 * @return The String.
+	 * @throws JsonException Error reading the input or unterminated string.
+	 */
+	String parseString() throws JsonException {
+		char[] buffer = this.buffer;
+		int limit = this.limit;
+		int start = position;
+		int pos = start;
+
+		// One char at a time: ByteScanner's word-at-a-time search only applies to bytes
+		while (pos < limit && buffer[pos] != '"' && buffer[pos] != '\\') {
+			pos++;
+		}
+
+		// Fast path: no escapes, the string is copied at once
+		if (pos < limit && buffer[pos] == '"') {
+			checkStringLength(pos - start);
+
+			position = pos + 1;
+
+			return new String(buffer, start, pos - start);
+		}
+
+		StringBuilder builder = builder();
+
+		while (true) {
+			builder.append(buffer, start, pos - start);
+
+			checkStringLength(builder.length());
+
+			position = pos;
+
+			if (pos == limit) {
+				if (!fill(1)) {
+					if (lenient) {
+						return builder.toString();
+					}
+
+					throw syntaxError("Unterminated string");
+				}
+			} else if (buffer[pos] == '"') {
+				position = pos + 1;
+
+				return builder.toString();
+			} else {
+				position = pos + 1;
+
+				appendEscape(builder);
+			}
+
+			buffer = this.buffer;
+			limit = this.limit;
+			start = position;
+			pos = start;
+
+			while (pos < limit && buffer[pos] != '"' && buffer[pos] != '\\') {
+				pos++;
+			}
+		}
+	}
+
+	/**
+	 * Skips a string. The opening double quote must be already consumed.
+	 * 
+	 * @throws JsonException Error reading the input or unterminated string.
+	 */
+	void skipString() throws JsonException {
+		while (true) {
+			char[] buffer = this.buffer;
+			int pos = position;
+			int limit = this.limit;
+
+			while (pos < limit) {
+				char ch = buffer[pos++];
+
+				if (ch == '"') {
+					position = pos;
+
+					return;
+				}
+
+				if (ch == '\\') {
+					position = pos;
+
+					readEscapeCharacter();
+
+					buffer = this.buffer;
+					pos = position;
+					limit = this.limit;
+				}
+			}
+
+			position = pos;
+
+			if (!fill(1)) {
+				if (lenient) {
+					return;
+				}
+
+				throw syntaxError("Unterminated string");
+			}
+		}
+	}
+
+	/**
+	 * Reads an escape sequence. The backslash must be already consumed.
+	 * 
+	 * @return The escaped character, or <code>-1</code> if the escape sequence is
+	 *         malformed and dropped, when lenient.
+	 * @throws JsonException Error reading the input or malformed escape sequence.
+	 */
+	private int readEscapeCharacter() throws JsonException {
+		if (position == limit && !fill(1)) {
+			if (lenient) {
+				return -1;
+			}
+
+			throw syntaxError("Unterminated escape sequence");
+		}
+
+		char ch = buffer[position++];
+
+		switch (ch) {
+		case '"':
+		case '\\':
+		case '/':
+			return ch;
+		case 'b':
+			return '\b';
+		case 'r':
+			return '\r';
+		case 'n':
+			return '\n';
+		case 'f':
+			return '\f';
+		case 't':
+			return '\t';
+		case 'u':
+			int value = position + 4 <= limit || fill(4) ? hexValue(buffer, position) : -1;
+
+			if (value != -1) {
+				position += 4;
+
+				return value;
+			}
+
+			if (lenient) {
+				return -1;
+			}
+
+			if (position + 4 > limit) {
+				throw syntaxError("Unterminated escape sequence");
+			}
+
+			throw syntaxError("Malformed escape sequence \\u" + new String(buffer, position, 4));
+		default:
+			if (lenient) {
+				return -1;
+			}
+
+			throw syntaxError("Invalid escape sequence \\" + ch);
+		}
+	}
+
+	/**
+	 * Reads an escape sequence into <code>builder</code>. The backslash must be
+	 * already consumed. A high surrogate is kept only when followed by a low
+	 * surrogate, escaped as well; an unpaired surrogate is read as
+	 * <code>U+FFFD</code>, like malformed UTF-8.
+	 * 
+	 * @param builder The string read so far.
+	 * @throws JsonException Error reading the input or malformed escape sequence.
+	 */
+	private void appendEscape(StringBuilder builder) throws JsonException {
+		int c = readEscapeCharacter();
+
+		if (c == -1) {
+			return;
+		}
+
+		char ch = (char) c;
+
+		if (!Character.isSurrogate(ch)) {
+			builder.append(ch);
+
+			return;
+		}
+
+		if (Character.isHighSurrogate(ch) && (position + 6 <= limit || fill(6)) && buffer[position] == '\\'
+				&& buffer[position + 1] == 'u') {
+			int low = hexValue(buffer, position + 2);
+
+			if (low != -1 && Character.isLowSurrogate((char) low)) {
+				position += 6;
+
+				builder.append(ch).append((char) low);
+
+				return;
+			}
+		}
+
+		builder.append('\uFFFD');
+	}
+
+	/**
+	 * Decodes the four hexadecimal digits of a <code>&#92;u</code> escape
+	 * sequence.
+	 * 
+	 * @param chars The characters.
+	 * @param index The index of the first digit.
+	 * @return The value, or <code>-1</code> if any digit is invalid.
+	 */
+	private static int hexValue(char[] chars, int index) {
+		int value = 0;
+
+		for (int i = index; i < index + 4; i++) {
+			int digit = hexDigit(chars[i]);
+
+			if (digit == -1) {
+				return -1;
+			}
+
+			value = (value << 4) | digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * @param c The character or byte.
+	 * @return The value of the hexadecimal digit <code>c</code>, or
+	 *         <code>-1</code> if is not one.
+	 */
+	static int hexDigit(int c) {
+		return c >= 0 && c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+	}
+
+	/**
+	 * Consumes the next word, up to the first word break. Its characters remain
+	 * available, ending at the current position, until more input is read.
+	 * 
+	 * @return The length of the word.
+	 * @throws JsonException Error reading the input.
+	 */
+	int skipWord() throws JsonException {
+		int length = 0;
+
+		while (true) {
+			if (position + length == limit && !fill(length + 1)) {
+				break;
+			}
+
+			if (isWordBreak(buffer[position + length])) {
+				break;
+			}
+
+			length++;
+		}
+
+		position += length;
+
+		return length;
+	}
+
+	/**
+	 * @param length The length of the word just consumed by {@link #skipWord()}.
+	 * @return The word.
+	 */
+	String lastWord(int length) {
+		return new String(buffer, position - length, length);
+	}
+
+	/**
+	 * @param length The length of the word just consumed by {@link #skipWord()}.
+	 * @param word   The word to compare with.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if equals;
+	 *         <strong><span style="color:#7f0055">false</span></strong> otherwise.
+	 */
+	boolean lastWordEquals(int length, String word) {
+		if (length != word.length()) {
+			return false;
+		}
+
+		int start = position - length;
+
+		for (int i = 0; i < length; i++) {
+			if (buffer[start + i] != word.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param length The length of the word just consumed by {@link #skipWord()}.
+	 * @return The number, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if malformed.
+	 * @see NumberParser
+	 */
+	Number parseLastNumber(int length) {
+		return NumberParser.parse(buffer, position - length, position);
+	}
+
+	/**
+	 * @param length The length of the word just consumed by {@link #skipWord()}.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         word is a well-formed number; <strong><span style=
+	 *         "color:#7f0055">false</span></strong> otherwise.
+	 * @see NumberParser
+	 */
+	boolean isLastNumberWellFormed(int length) {
+		return NumberParser.isWellFormed(buffer, position - length, position);
+	}
+
+	/**
+	 * Consumes whitespace and the character after it.
+	 * 
+	 * @return The next character that isn't whitespace, or <code>-1</code> at the
+	 *         end of the input.
+	 * @throws JsonException Error reading the input.
+	 */
+	int nextNonWhitespace() throws JsonException {
+		char[] buffer = this.buffer;
+		int pos = position;
+		int limit = this.limit;
+
+		while (true) {
+			if (pos == limit) {
+				position = pos;
+
+				if (!fill(1)) {
+					return -1;
+				}
+
+				buffer = this.buffer;
+				pos = position;
+				limit = this.limit;
+			}
+
+			char ch = buffer[pos++];
+
+			if (!isWhitespace(ch)) {
+				position = pos;
+
+				return ch;
+			}
+		}
+	}
+
+	/**
+	 * Steps back over the character returned by {@link #nextNonWhitespace()}.
+	 */
+	void unread() {
+		position--;
+	}
+
+	/**
+	 * Refills the buffer from the input, keeping the characters not consumed yet,
+	 * until at least <code>minimum</code> characters are available. Does nothing
+	 * when parsing a <code>char[]</code> in place.
+	 * 
+	 * @param minimum The minimum amount of characters available.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if there
+	 *         are enough characters available;
+	 *         <strong><span style="color:#7f0055">false</span></strong> otherwise.
+	 * @throws JsonException Error reading the input.
+	 */
+	private boolean fill(int minimum) throws JsonException {
+		if (in == null) {
+			return false;
+		}
+
+		char[] buffer = this.buffer;
+
+		base += position;
+
+		if (limit != position) {
+			limit -= position;
+			System.arraycopy(buffer, position, buffer, 0, limit);
+		} else {
+			limit = 0;
+		}
+
+		position = 0;
+
+		if (minimum > buffer.length) {
+			buffer = this.buffer = Arrays.copyOf(buffer, Math.max(minimum, buffer.length * 2));
+		}
+
+		try {
+			int total = 0;
+			while ((total = in.read(buffer, limit, buffer.length - limit)) != -1) {
+				limit += total;
+
+				if (limit >= minimum) {
+					return true;
+				}
+			}
+		} catch (IOException e) {
+			throw new JsonException("Error reading input.", e);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Pushes a new level into the nesting stack.
+	 * 
+	 * @param scope The scope of the new level.
+	 */
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+			members = Arrays.copyOf(members, stackSize * 2);
+		}
+
+		members[stackSize] = 0;
+		stack[stackSize++] = scope;
+	}
+
+	/**
+	 * Pushes the level of an object or array into the nesting stack.
+	 * 
+	 * @param scope The scope of the new level.
+	 * @throws JsonException Nesting depth exceeds the limit.
+	 */
+	private void open(int scope) throws JsonException {
+		if (stackSize > limits.getMaxDepth()) {
+			throw syntaxError("Nesting depth exceeds the maximum of " + limits.getMaxDepth());
+		}
+
+		push(scope);
+	}
+
+	/**
+	 * Checks the length of a string or attribute name.
+	 * 
+	 * @param length The length, in characters.
+	 * @throws JsonException Length exceeds the limit.
+	 */
+	void checkStringLength(int length) throws JsonException {
+		if (length > limits.getMaxStringLength()) {
+			throw syntaxError("String length exceeds the maximum of " + limits.getMaxStringLength());
+		}
+	}
+
+	/**
+	 * Checks that the next token is <code>expected</code>.
+	 * 
+	 * @param expected The expected token.
+	 * @throws JsonException Error reading the input or next token isn't
+	 *                       <code>expected</code>.
+	 */
+	private void expect(JsonToken expected) throws JsonException {
+		JsonToken token = peek();
+
+		if (token != expected) {
+			throw unexpected(expected, token);
+		}
+	}
+
+	/**
+	 * @param expected The expected token.
+	 * @param actual   The actual token.
+	 * @return The exception to be thrown.
+	 */
+	JsonException unexpected(JsonToken expected, JsonToken actual) {
+		return new JsonException("Expected " + expected + " but was " + actual + " at position " + getPosition() + ".");
+	}
+
+	/**
+	 * @param message The detail message.
+	 * @return The exception to be thrown.
+	 */
+	JsonException syntaxError(String message) {
+		return new JsonException(message + " at position " + getPosition() + ".");
+	}
+
+	/**
+	 * Checks if character is whitespace, following
+	 * {@link Character#isWhitespace(char)}.
+	 * 
+	 * @param c The character.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is
+	 *         whitespace; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWhitespace(char c) {
+		if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+			return true;
+		}
+
+		return (c < ' ' || c > '~') && Character.isWhitespace(c);
+	}
+
+	/**
+	 * Checks if character is word break.
+	 * 
+	 * @param c The character.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is word
+	 *         break; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWordBreak(char c) {
+		switch (c) {
+		case '{':
+		case '}':
+		case '[':
+		case ']':
+		case ',':
+		case ':':
+		case '"':
+			return true;
+		default:
+			return isWhitespace(c);
+		}
+	}
+
+}
\ No newline at end of file
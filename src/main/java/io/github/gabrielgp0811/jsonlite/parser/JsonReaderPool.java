@@ -0,0 +1,222 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of {@link JsonReader} and {@link Utf8JsonReader} instances,
+ * reset for each document, so that their nesting stacks and scratch buffers are
+ * reused instead of allocated per parse.
+ * <p>
+ * The pool is a fixed array of slots, taken and returned with atomic
+ * operations, so it is thread-safe without locks. It isn't tied to threads:
+ * virtual threads, which are many and short-lived, share the same few readers
+ * instead of each keeping its own, as a <code>java.lang.ThreadLocal</code>
+ * would. When the pool is empty a new reader is created, and when it is full a
+ * released reader is left to the garbage collector.
+ * </p>
+ * 
+ * <pre>
+ * JsonReader reader = JsonReaderPool.SHARED.acquire(json);
+ * try {
+ * 	// read the tokens
+ * } finally {
+ * 	JsonReaderPool.SHARED.release(reader);
+ * }
+ * </pre>
+ * 
+ * @author gabrielgp0811
+ */
+public final class JsonReaderPool {
+
+	/**
+	 * The default amount of readers of each kind kept.
+	 */
+	public static final int DEFAULT_CAPACITY = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * The pool shared by the deserializers.
+	 */
+	public static final JsonReaderPool SHARED = new JsonReaderPool(DEFAULT_CAPACITY);
+
+	/**
+	 * The idle readers of <code>char[]</code> input.
+	 */
+	private final AtomicReferenceArray<JsonReader> readers;
+
+	/**
+	 * The idle readers of UTF-8 input.
+	 */
+	private final AtomicReferenceArray<Utf8JsonReader> utf8Readers;
+
+	/**
+	 * @param capacity The amount of readers of each kind kept.
+	 */
+	public JsonReaderPool(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity=" + capacity);
+		}
+
+		this.readers = new AtomicReferenceArray<>(capacity);
+		this.utf8Readers = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Takes a reader, reset to parse the JSON string <code>json</code>.
+	 * 
+	 * @param json The JSON string.
+	 * @return The reader, to be passed to {@link #release(JsonReader)} once
+	 *         done.
+	 */
+	public JsonReader acquire(String json) {
+		JsonReader reader = take(readers);
+
+		return (reader != null ? reader : new JsonReader()).reset(json);
+	}
+
+	/**
+	 * Takes a reader, reset to parse the JSON characters between the position
+	 * and the limit of <code>json</code>.
+	 * 
+	 * @param json The JSON characters.
+	 * @return The reader, to be passed to {@link #release(JsonReader)} once
+	 *         done.
+	 * @see JsonReader#reset(CharSequence)
+	 */
+	public JsonReader acquire(CharSequence json) {
+		JsonReader reader = take(readers);
+
+		return (reader != null ? reader : new JsonReader()).reset(json);
+	}
+
+	/**
+	 * Takes a reader, reset to parse the JSON characters read from
+	 * <code>in</code>. The input is not closed.
+	 * 
+	 * @param in The input.
+	 * @return The reader, to be passed to {@link #release(JsonReader)} once
+	 *         done.
+	 */
+	public JsonReader acquire(Reader in) {
+		JsonReader reader = take(readers);
+
+		return (reader != null ? reader : new JsonReader()).reset(in);
+	}
+
+	/**
+	 * Takes a reader, reset to parse the JSON characters in <code>json</code>,
+	 * starting at <code>offset</code> and spanning <code>length</code>
+	 * characters, in place.
+	 * 
+	 * @param json   The JSON characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The reader, to be passed to {@link #release(JsonReader)} once
+	 *         done.
+	 */
+	public JsonReader acquire(char[] json, int offset, int length) {
+		JsonReader reader = take(readers);
+
+		return (reader != null ? reader : new JsonReader()).reset(json, offset, length);
+	}
+
+	/**
+	 * Takes a reader, reset to parse the JSON bytes in <code>json</code>, encoded
+	 * in UTF-8, starting at <code>offset</code> and spanning <code>length</code>
+	 * bytes, in place.
+	 * 
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The reader, to be passed to {@link #release(JsonReader)} once
+	 *         done.
+	 */
+	public Utf8JsonReader acquire(byte[] json, int offset, int length) {
+		Utf8JsonReader reader = take(utf8Readers);
+
+		return (reader != null ? reader : new Utf8JsonReader()).reset(json, offset, length);
+	}
+
+	/**
+	 * Returns a reader taken by one of the <code>acquire</code> methods. It must
+	 * not be used afterwards.
+	 * 
+	 * @param reader The reader, ignored if <strong><span style=
+	 *               "color:#7f0055">null</span></strong>.
+	 */
+	public void release(JsonReader reader) {
+		if (reader == null) {
+			return;
+		}
+
+		reader.recycle();
+
+		if (reader instanceof Utf8JsonReader) {
+			put(utf8Readers, (Utf8JsonReader) reader);
+		} else if (reader.getClass() == JsonReader.class) {
+			put(readers, reader);
+		}
+	}
+
+	/**
+	 * Takes an idle reader from <code>slots</code>.
+	 * 
+	 * @param <R>   The class of the readers.
+	 * @param slots The slots.
+	 * @return The reader, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if none is idle.
+	 */
+	private static <R> R take(AtomicReferenceArray<R> slots) {
+		int length = slots.length();
+		int start = probe(length);
+
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+
+			if (slots.get(index) != null) {
+				R reader = slots.getAndSet(index, null);
+
+				if (reader != null) {
+					return reader;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Puts an idle reader into an empty slot of <code>slots</code>, if any.
+	 * 
+	 * @param <R>    The class of the readers.
+	 * @param slots  The slots.
+	 * @param reader The reader.
+	 */
+	private static <R> void put(AtomicReferenceArray<R> slots, R reader) {
+		int length = slots.length();
+		int start = probe(length);
+
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+
+			if (slots.get(index) == null && slots.compareAndSet(index, null, reader)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @param length The amount of slots.
+	 * @return The slot where the current thread starts looking, spreading threads
+	 *         over the slots to lower contention.
+	 */
+	private static int probe(int length) {
+		long id = Thread.currentThread().getId();
+
+		return (int) ((id ^ (id >>> 16)) & Integer.MAX_VALUE) % length;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+/**
+ * JSON document that can be read again from any span, so that values can be
+ * decoded only when needed.
+ * 
+ * @author gabrielgp0811
+ */
+public interface JsonSource {
+
+	/**
+	 * Creates a reader for the span from <code>start</code>, inclusive, to
+	 * <code>end</code>, exclusive.
+	 * 
+	 * @param start The position of the first character or byte.
+	 * @param end   The position after the last character or byte.
+	 * @return The reader.
+	 */
+	JsonReader newReader(long start, long end);
+
+}
\ No newline at end of file
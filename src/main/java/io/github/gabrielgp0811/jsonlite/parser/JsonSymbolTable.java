@@ -0,0 +1,206 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bounded table of canonical <code>java.lang.String</code>s for attribute
+ * names, so that documents sharing the same schema share the same name
+ * instances instead of allocating a copy of each name for every object.
+ * <p>
+ * Names are looked up straight from the characters or bytes being parsed,
+ * hashed as {@link String#hashCode()} does, and a new
+ * <code>java.lang.String</code> is only created when the name is not in the
+ * table. The table is direct-mapped: each name has a single slot, and a name
+ * replaces whatever was in its slot, so the memory used never grows past the
+ * capacity. Names longer than {@link #MAX_LENGTH} are never stored.
+ * </p>
+ * <p>
+ * The table is thread-safe without locking: slots are read and written
+ * racily, which is harmless because <code>java.lang.String</code>s are
+ * immutable, and at worst a name is created twice. A table can thus be used by
+ * a single {@link JsonReader} or shared by many, as {@link #SHARED} is.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonSymbolTable {
+
+	/**
+	 * The default capacity.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * The maximum length of the names stored.
+	 */
+	public static final int MAX_LENGTH = 64;
+
+	/**
+	 * The table shared by default among deserializers.
+	 */
+	public static final JsonSymbolTable SHARED = new JsonSymbolTable(4 * DEFAULT_CAPACITY);
+
+	/**
+	 * The slots, whose length is a power of two.
+	 */
+	private final String[] symbols;
+
+	/**
+	 * 
+	 */
+	public JsonSymbolTable() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity The maximum amount of names stored, rounded up to a power
+	 *                 of two.
+	 */
+	public JsonSymbolTable(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+		}
+
+		int size = Integer.highestOneBit(capacity);
+
+		this.symbols = new String[size < capacity ? size << 1 : size];
+	}
+
+	/**
+	 * @return The maximum amount of names stored.
+	 */
+	public int capacity() {
+		return symbols.length;
+	}
+
+	/**
+	 * Returns the canonical instance of the name in <code>chars</code>.
+	 * 
+	 * @param chars  The characters.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @return The name.
+	 */
+	public String intern(char[] chars, int offset, int length) {
+		if (length > MAX_LENGTH) {
+			return new String(chars, offset, length);
+		}
+
+		int hash = 0;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+
+		int index = index(hash);
+		String symbol = symbols[index];
+
+		if (symbol != null && symbol.length() == length && symbol.hashCode() == hash) {
+			int i = 0;
+			while (i < length && symbol.charAt(i) == chars[offset + i]) {
+				i++;
+			}
+
+			if (i == length) {
+				return symbol;
+			}
+		}
+
+		symbol = new String(chars, offset, length);
+		symbols[index] = symbol;
+
+		return symbol;
+	}
+
+	/**
+	 * Returns the canonical instance of the name in <code>bytes</code>, which
+	 * must be all ASCII.
+	 * 
+	 * @param bytes  The bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The name.
+	 */
+	public String intern(byte[] bytes, int offset, int length) {
+		if (length > MAX_LENGTH) {
+			return newString(bytes, offset, length);
+		}
+
+		int hash = 0;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			hash = 31 * hash + bytes[i];
+		}
+
+		int index = index(hash);
+		String symbol = symbols[index];
+
+		if (symbol != null && symbol.length() == length && symbol.hashCode() == hash) {
+			int i = 0;
+			while (i < length && symbol.charAt(i) == bytes[offset + i]) {
+				i++;
+			}
+
+			if (i == length) {
+				return symbol;
+			}
+		}
+
+		symbol = newString(bytes, offset, length);
+		symbols[index] = symbol;
+
+		return symbol;
+	}
+
+	/**
+	 * Returns the canonical instance of <code>name</code>.
+	 * 
+	 * @param name The name.
+	 * @return The name.
+	 */
+	public String intern(String name) {
+		if (name == null || name.length() > MAX_LENGTH) {
+			return name;
+		}
+
+		int index = index(name.hashCode());
+		String symbol = symbols[index];
+
+		if (name.equals(symbol)) {
+			return symbol;
+		}
+
+		symbols[index] = name;
+
+		return name;
+	}
+
+	/**
+	 * Removes every name.
+	 */
+	public void clear() {
+		for (int i = 0; i < symbols.length; i++) {
+			symbols[i] = null;
+		}
+	}
+
+	/**
+	 * @param hash The hash of the name.
+	 * @return The index of its slot.
+	 */
+	private int index(int hash) {
+		return (hash ^ (hash >>> 16)) & (symbols.length - 1);
+	}
+
+	/**
+	 * @param bytes  The ASCII bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return The <code>java.lang.String</code>.
+	 */
+	private static String newString(byte[] bytes, int offset, int length) {
+		return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,637 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.util.Arrays;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * Structural index of a JSON document, built in a single pass over its
+ * characters.
+ * <p>
+ * Each token is recorded as an entry of a <code>long[]</code> tape, holding its
+ * {@link JsonToken} and either the offsets of its characters (names, strings
+ * and numbers, which take two entries) or the index of the matching entry
+ * (objects and arrays). The end of an object or array can thus be reached
+ * without looking at its contents, and nothing is decoded until asked for.
+ * </p>
+ * <p>
+ * The structure is validated while indexing; the syntax of strings and numbers
+ * is only checked when they are decoded.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class JsonTape implements JsonSource {
+
+	/**
+	 * The tokens, by ordinal.
+	 */
+	private static final JsonToken[] TOKENS = JsonToken.values();
+
+	/**
+	 * The bits holding the ordinal of the token.
+	 */
+	private static final int TOKEN_SHIFT = 56;
+
+	/**
+	 * The bit set for names and strings holding escape sequences.
+	 */
+	private static final long ESCAPED = 1L << 55;
+
+	/**
+	 * The bits holding the offset or index.
+	 */
+	private static final long PAYLOAD = ESCAPED - 1;
+
+	/**
+	 * The characters being indexed.
+	 */
+	private final char[] buffer;
+
+	/**
+	 * The position of the first character.
+	 */
+	private final int offset;
+
+	/**
+	 * The position after the last character.
+	 */
+	private final int limit;
+
+	/**
+	 * The tape.
+	 */
+	private long[] tape = null;
+
+	/**
+	 * The amount of entries in {@link #tape}.
+	 */
+	private int size = 0;
+
+	/**
+	 * The position of the next character to be read while indexing.
+	 */
+	private int position = 0;
+
+	/**
+	 * The table of canonical attribute names used by {@link #getName(int)}, or
+	 * <strong><span style="color:#7f0055">null</span></strong> to create a new
+	 * <code>java.lang.String</code> for every name.
+	 */
+	private JsonSymbolTable symbols = null;
+
+	/**
+	 * @param json   The JSON characters, which are indexed in place.
+	 * @param offset The offset of the first character.
+	 * @param length The amount of characters.
+	 * @throws JsonException Malformed JSON.
+	 */
+	public JsonTape(char[] json, int offset, int length) throws JsonException {
+		if (offset < 0 || length < 0 || offset + length > json.length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length);
+		}
+
+		this.buffer = json;
+		this.offset = offset;
+		this.position = offset;
+		this.limit = offset + length;
+		this.tape = new long[Math.max(16, length / 8)];
+
+		index();
+	}
+
+	/**
+	 * @return The amount of entries.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if the
+	 *         document has no value;
+	 *         <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param index The index of the entry.
+	 * @return The token of the entry, or {@link JsonToken#NONE} past the last
+	 *         entry.
+	 */
+	public JsonToken getToken(int index) {
+		if (index >= size) {
+			return JsonToken.NONE;
+		}
+
+		return TOKENS[(int) (tape[index] >>> TOKEN_SHIFT)];
+	}
+
+	/**
+	 * Returns the index of the entry after the value at <code>index</code>,
+	 * skipping the contents of objects and arrays. For names, the index of their
+	 * value is returned.
+	 * 
+	 * @param index The index of the entry.
+	 * @return The index of the next entry.
+	 */
+	public int next(int index) {
+		switch (getToken(index)) {
+		case CURLY_OPEN:
+		case SQUARED_OPEN:
+			return (int) (tape[index] & PAYLOAD);
+		case NAME:
+		case STRING:
+		case NUMBER:
+			return index + 2;
+		default:
+			return index + 1;
+		}
+	}
+
+	/**
+	 * @param index The index of a name, string or number entry.
+	 * @return The position of its first character, including the opening double
+	 *         quote of names and strings.
+	 */
+	public long getStart(int index) {
+		return tape[index] & PAYLOAD;
+	}
+
+	/**
+	 * @param index The index of a name, string or number entry.
+	 * @return The position after its last character, including the closing
+	 *         double quote of names and strings.
+	 */
+	public long getEnd(int index) {
+		return tape[index + 1];
+	}
+
+	/**
+	 * Decodes the name, string or number at <code>index</code>.
+	 * 
+	 * @param index The index of the entry.
+	 * @return The name or string, or the characters of the number.
+	 * @throws JsonException Malformed string.
+	 */
+	public String getText(int index) throws JsonException {
+		int start = (int) getStart(index);
+		int end = (int) getEnd(index);
+
+		if (getToken(index) == JsonToken.NUMBER) {
+			return new String(buffer, start, end - start);
+		}
+
+		if ((tape[index] & ESCAPED) == 0) {
+			return new String(buffer, start + 1, end - start - 2);
+		}
+
+		return newReader(start, end).nextString();
+	}
+
+	/**
+	 * Decodes the name at <code>index</code>, looking it up in the symbol table.
+	 * 
+	 * @param index The index of the entry.
+	 * @return The name.
+	 * @throws JsonException Malformed string.
+	 */
+	public String getName(int index) throws JsonException {
+		JsonSymbolTable symbols = this.symbols;
+
+		if (symbols == null) {
+			return getText(index);
+		}
+
+		if ((tape[index] & ESCAPED) == 0) {
+			int start = (int) getStart(index) + 1;
+
+			return symbols.intern(buffer, start, (int) getEnd(index) - start - 1);
+		}
+
+		return symbols.intern(getText(index));
+	}
+
+	/**
+	 * @return The table of canonical attribute names, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if not set.
+	 */
+	public JsonSymbolTable getSymbolTable() {
+		return symbols;
+	}
+
+	/**
+	 * @param symbols The table of canonical attribute names used by
+	 *                {@link #getName(int)}, or <strong><span style=
+	 *                "color:#7f0055">null</span></strong> to create a new
+	 *                <code>java.lang.String</code> for every name.
+	 */
+	public void setSymbolTable(JsonSymbolTable symbols) {
+		this.symbols = symbols;
+	}
+
+	/**
+	 * Checks if the name at <code>index</code> equals <code>name</code>, without
+	 * decoding it unless it holds escape sequences.
+	 * 
+	 * @param index The index of the entry.
+	 * @param name  The name to compare with.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if equals;
+	 *         <strong><span style="color:#7f0055">false</span></strong> otherwise.
+	 */
+	public boolean nameEquals(int index, String name) {
+		int start = (int) getStart(index) + 1;
+		int length = (int) getEnd(index) - start - 1;
+
+		if ((tape[index] & ESCAPED) != 0) {
+			try {
+				return name.equals(getText(index));
+			} catch (JsonException e) {
+				return false;
+			}
+		}
+
+		if (length != name.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (buffer[start + i] != name.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Creates a reader for the whole document.
+	 * 
+	 * @return The reader.
+	 */
+	public JsonReader newReader() {
+		return new JsonReader(buffer, offset, limit - offset);
+	}
+
+	@Override
+	public JsonReader newReader(long start, long end) {
+		return new JsonReader(buffer, (int) start, (int) (end - start));
+	}
+
+	/**
+	 * Indexes the document.
+	 * 
+	 * @throws JsonException Malformed JSON.
+	 */
+	private void index() throws JsonException {
+		int[] stack = new int[32];
+		int depth = 0;
+
+		int c = nextNonWhitespace();
+
+		if (c == -1) {
+			return;
+		}
+
+		while (true) {
+			// A value starts at c
+			switch (c) {
+			case '{':
+			case '[':
+				if (depth == stack.length) {
+					stack = Arrays.copyOf(stack, depth * 2);
+				}
+
+				stack[depth++] = add(c == '{' ? JsonToken.CURLY_OPEN : JsonToken.SQUARED_OPEN, 0);
+
+				int first = nextNonWhitespace();
+
+				if (first == (c == '{' ? '}' : ']')) {
+					c = first;
+					break;
+				}
+
+				c = c == '{' ? name(first) : first;
+				continue;
+			case '"':
+				string(JsonToken.STRING);
+				c = nextNonWhitespace();
+				break;
+			case -1:
+				throw syntaxError("Unexpected end of input");
+			default:
+				word(c);
+				c = nextNonWhitespace();
+				break;
+			}
+
+			// A value ended and c is the character after it
+			while (true) {
+				if (depth == 0) {
+					// Anything after the first value is ignored
+					return;
+				}
+
+				int open = stack[depth - 1];
+				boolean object = getToken(open) == JsonToken.CURLY_OPEN;
+
+				if (c == (object ? '}' : ']')) {
+					int close = add(object ? JsonToken.CURLY_CLOSE : JsonToken.SQUARED_CLOSE, open);
+
+					tape[open] |= close + 1;
+					depth--;
+
+					c = depth == 0 ? -1 : nextNonWhitespace();
+					continue;
+				}
+
+				if (c != ',') {
+					throw syntaxError(object ? "Expected ',' or '}'" : "Expected ',' or ']'");
+				}
+
+				c = nextNonWhitespace();
+
+				if (object) {
+					c = name(c);
+				}
+
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Indexes an object's attribute name and the colon after it.
+	 * 
+	 * @param c The character after the start of the object or the comma.
+	 * @return The first character of the attribute's value.
+	 * @throws JsonException Malformed JSON.
+	 */
+	private int name(int c) throws JsonException {
+		if (c != '"') {
+			throw syntaxError("Expected name");
+		}
+
+		string(JsonToken.NAME);
+
+		if (nextNonWhitespace() != ':') {
+			throw syntaxError("Expected ':'");
+		}
+
+		return nextNonWhitespace();
+	}
+
+	/**
+	 * Indexes a name or string. The opening double quote must be already
+	 * consumed.
+	 * 
+	 * @param token {@link JsonToken#NAME} or {@link JsonToken#STRING}.
+	 * @throws JsonException Unterminated string.
+	 */
+	private void string(JsonToken token) throws JsonException {
+		final char[] buffer = this.buffer;
+		final int limit = this.limit;
+
+		int start = position - 1;
+		int pos = position;
+		long escaped = 0;
+
+		while (pos < limit) {
+			char ch = buffer[pos++];
+
+			if (ch == '"') {
+				position = pos;
+
+				int index = add(token, start);
+
+				tape[index] |= escaped;
+
+				add(pos);
+
+				return;
+			}
+
+			if (ch == '\\') {
+				escaped = ESCAPED;
+				pos = escape(pos);
+			}
+		}
+
+		position = limit;
+
+		throw syntaxError("Unterminated string");
+	}
+
+	/**
+	 * Checks an escape sequence, as strings are decoded lazily. The backslash
+	 * must be already consumed.
+	 * 
+	 * @param pos The position after the backslash.
+	 * @return The position after the escape sequence.
+	 * @throws JsonException Malformed escape sequence.
+	 */
+	private int escape(int pos) throws JsonException {
+		final char[] buffer = this.buffer;
+
+		if (pos == limit) {
+			position = pos;
+
+			throw syntaxError("Unterminated escape sequence");
+		}
+
+		char ch = buffer[pos++];
+
+		switch (ch) {
+		case '"':
+		case '\\':
+		case '/':
+		case 'b':
+		case 'r':
+		case 'n':
+		case 'f':
+		case 't':
+			return pos;
+		case 'u':
+			if (pos + 4 > limit) {
+				position = limit;
+
+				throw syntaxError("Unterminated escape sequence");
+			}
+
+			for (int i = pos; i < pos + 4; i++) {
+				if (JsonReader.hexDigit(buffer[i]) == -1) {
+					position = pos;
+
+					throw syntaxError("Malformed escape sequence \\u" + new String(buffer, pos, 4));
+				}
+			}
+
+			return pos + 4;
+		default:
+			position = pos;
+
+			throw syntaxError("Invalid escape sequence \\" + ch);
+		}
+	}
+
+	/**
+	 * Indexes a number or a literal (<code>true</code>, <code>false</code>,
+	 * <code>null</code> or <code>undefined</code>). Its first character must be
+	 * already consumed.
+	 * 
+	 * @param first The first character.
+	 * @throws JsonException Unexpected word.
+	 */
+	private void word(int first) throws JsonException {
+		final char[] buffer = this.buffer;
+		final int limit = this.limit;
+
+		int start = position - 1;
+		int pos = position;
+
+		while (pos < limit && !isWordBreak(buffer[pos])) {
+			pos++;
+		}
+
+		position = pos;
+
+		if ((first >= '0' && first <= '9') || first == '-') {
+			// Numbers are converted lazily, so their syntax is checked now
+			if (!NumberParser.isWellFormed(buffer, start, pos)) {
+				throw new JsonException(
+						"Error parsing number " + new String(buffer, start, pos - start) + " at position " + start + ".");
+			}
+
+			add(JsonToken.NUMBER, start);
+			add(pos);
+
+			return;
+		}
+
+		String word = new String(buffer, start, pos - start);
+
+		switch (word) {
+		case "true":
+			add(JsonToken.TRUE, start);
+			break;
+		case "false":
+			add(JsonToken.FALSE, start);
+			break;
+		case "null":
+		case "undefined":
+			add(JsonToken.NULL, start);
+			break;
+		default:
+			throw new JsonException("Unexpected value " + word + " at position " + start + ".");
+		}
+	}
+
+	/**
+	 * Adds an entry.
+	 * 
+	 * @param token   The token.
+	 * @param payload The offset or index.
+	 * @return The index of the entry.
+	 */
+	private int add(JsonToken token, long payload) {
+		return add(((long) token.ordinal() << TOKEN_SHIFT) | payload);
+	}
+
+	/**
+	 * Adds an entry.
+	 * 
+	 * @param entry The entry.
+	 * @return The index of the entry.
+	 */
+	private int add(long entry) {
+		if (size == tape.length) {
+			tape = Arrays.copyOf(tape, size * 2);
+		}
+
+		tape[size] = entry;
+
+		return size++;
+	}
+
+	/**
+	 * Consumes whitespace and the character after it.
+	 * 
+	 * @return The next character that isn't whitespace, or <code>-1</code> at the
+	 *         end of the input.
+	 */
+	private int nextNonWhitespace() {
+		final char[] buffer = this.buffer;
+		final int limit = this.limit;
+
+		int pos = position;
+
+		while (pos < limit) {
+			char ch = buffer[pos++];
+
+			if (!isWhitespace(ch)) {
+				position = pos;
+
+				return ch;
+			}
+		}
+
+		position = limit;
+
+		return -1;
+	}
+
+	/**
+	 * @param message The detail message.
+	 * @return The exception to be thrown.
+	 */
+	private JsonException syntaxError(String message) {
+		return new JsonException(message + " at position " + position + ".");
+	}
+
+	/**
+	 * Checks if character is whitespace, following
+	 * {@link Character#isWhitespace(char)}.
+	 * 
+	 * @param c The character.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is
+	 *         whitespace; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWhitespace(char c) {
+		if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+			return true;
+		}
+
+		return (c < ' ' || c > '~') && Character.isWhitespace(c);
+	}
+
+	/**
+	 * Checks if character is word break.
+	 * 
+	 * @param c The character.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is word
+	 *         break; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWordBreak(char c) {
+		switch (c) {
+		case '{':
+		case '}':
+		case '[':
+		case ']':
+		case ',':
+		case ':':
+		case '"':
+			return true;
+		default:
+			return isWhitespace(c);
+		}
+	}
+
+}
\ No newline at end of file
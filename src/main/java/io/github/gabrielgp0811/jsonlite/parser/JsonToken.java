@@ -0,0 +1,75 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+/**
+ * Tokens of a JSON document, as reported by {@link JsonReader} and
+ * {@link NonBlockingJsonReader}.
+ * 
+ * @author gabrielgp0811
+ */
+public enum JsonToken {
+
+	/**
+	 * End of the JSON document.
+	 */
+	NONE,
+
+	/**
+	 * Start of an object (<code>{</code>).
+	 */
+	CURLY_OPEN,
+
+	/**
+	 * End of an object (<code>}</code>).
+	 */
+	CURLY_CLOSE,
+
+	/**
+	 * Start of an array (<code>[</code>).
+	 */
+	SQUARED_OPEN,
+
+	/**
+	 * End of an array (<code>]</code>).
+	 */
+	SQUARED_CLOSE,
+
+	/**
+	 * Name of an object's attribute.
+	 */
+	NAME,
+
+	/**
+	 * String value.
+	 */
+	STRING,
+
+	/**
+	 * Number value.
+	 */
+	NUMBER,
+
+	/**
+	 * <strong><span style="color:#7f0055">true</span></strong> value.
+	 */
+	TRUE,
+
+	/**
+	 * <strong><span style="color:#7f0055">false</span></strong> value.
+	 */
+	FALSE,
+
+	/**
+	 * <strong><span style="color:#7f0055">null</span></strong> value.
+	 */
+	NULL,
+
+	/**
+	 * More input is needed to read the next token, as reported by
+	 * {@link NonBlockingJsonReader}.
+	 */
+	NEED_MORE_INPUT
+
+}
\ No newline at end of file
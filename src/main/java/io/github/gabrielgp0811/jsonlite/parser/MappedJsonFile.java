@@ -0,0 +1,146 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * UTF-8 encoded JSON file mapped into memory with
+ * {@link FileChannel#map(MapMode, long, long)}.
+ * <p>
+ * Files larger than a single mapping can hold (2 GB) are mapped in consecutive
+ * segments, which are read as a single document by {@link #newReader()}. Any
+ * span of the file can be read again later by {@link #newReader(long, long)},
+ * which allows strings to be decoded only when needed.
+ * </p>
+ * <p>
+ * The mappings remain valid after the file is closed and are released once
+ * this object and the readers created by it are garbage collected.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class MappedJsonFile implements JsonSource {
+
+	/**
+	 * The default size of each mapped segment.
+	 */
+	public static final int SEGMENT_SIZE = 1 << 30;
+
+	/**
+	 * The mapped segments.
+	 */
+	private final ByteBuffer[] segments;
+
+	/**
+	 * The size of each segment, except for the last one.
+	 */
+	private final long segmentSize;
+
+	/**
+	 * The size of the file.
+	 */
+	private final long size;
+
+	/**
+	 * @param path The file's path.
+	 * @throws JsonException Error mapping the file.
+	 */
+	public MappedJsonFile(Path path) throws JsonException {
+		this(path, SEGMENT_SIZE);
+	}
+
+	/**
+	 * @param path        The file's path.
+	 * @param segmentSize The size of each mapped segment.
+	 * @throws JsonException Error mapping the file.
+	 */
+	public MappedJsonFile(Path path, int segmentSize) throws JsonException {
+		if (segmentSize <= 0) {
+			throw new IllegalArgumentException("segmentSize must be positive");
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			this.size = channel.size();
+			this.segmentSize = segmentSize;
+			this.segments = new ByteBuffer[(int) ((size + segmentSize - 1) / segmentSize)];
+
+			for (int i = 0; i < segments.length; i++) {
+				long position = i * this.segmentSize;
+
+				segments[i] = channel.map(MapMode.READ_ONLY, position, Math.min(this.segmentSize, size - position));
+			}
+		} catch (IOException e) {
+			throw new JsonException("Error mapping file " + path + ".", e);
+		}
+	}
+
+	/**
+	 * @return The size of the file.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * @return The mapped segments.
+	 */
+	ByteBuffer[] segments() {
+		return segments;
+	}
+
+	/**
+	 * Creates a reader for the whole file.
+	 * 
+	 * @return The reader.
+	 */
+	public JsonReader newReader() {
+		return new Utf8JsonReader(segments);
+	}
+
+	/**
+	 * The span is read directly from its segment, unless it crosses segments, in
+	 * which case it is copied.
+	 */
+	@Override
+	public JsonReader newReader(long start, long end) {
+		if (start < 0 || end < start || end > size) {
+			throw new IndexOutOfBoundsException("start=" + start + ", end=" + end);
+		}
+
+		int index = (int) (start / segmentSize);
+		int offset = (int) (start - index * segmentSize);
+
+		if (end <= (index + 1) * segmentSize) {
+			ByteBuffer span = segments[index].duplicate();
+
+			span.position(offset);
+			span.limit(offset + (int) (end - start));
+
+			return new Utf8JsonReader(span.slice());
+		}
+
+		byte[] bytes = new byte[(int) (end - start)];
+
+		for (int copied = 0; copied < bytes.length; index++, offset = 0) {
+			ByteBuffer segment = segments[index].duplicate();
+			int total = Math.min(segment.limit() - offset, bytes.length - copied);
+
+			segment.position(offset);
+			segment.get(bytes, copied, total);
+
+			copied += total;
+		}
+
+		return new Utf8JsonReader(bytes, 0, bytes.length);
+	}
+
+}
\ No newline at end of file
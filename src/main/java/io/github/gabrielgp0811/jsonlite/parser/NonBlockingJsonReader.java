@@ -0,0 +1,865 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * Reader of UTF-8 encoded JSON that never blocks waiting for input: the input
+ * is pushed through {@link #feed(ByteBuffer)} as it arrives, and
+ * {@link #nextToken()} returns {@link JsonToken#NEED_MORE_INPUT} whenever the
+ * bytes fed so far end before the next token does.
+ * <p>
+ * The nesting stack and any partially read string, escape sequence, UTF-8
+ * sequence or number are kept between calls, so a document can be split at
+ * any byte. Once all of the input was fed, {@link #endOfInput()} must be
+ * called, which allows a number at the end of the input to be completed.
+ * </p>
+ * <p>
+ * Heap buffers are read in place, so their contents must not change until
+ * {@link #nextToken()} returns {@link JsonToken#NEED_MORE_INPUT}; direct
+ * buffers are copied.
+ * </p>
+ * 
+ * <pre>
+ * NonBlockingJsonReader reader = new NonBlockingJsonReader();
+ * 
+ * reader.feed(chunk);
+ * 
+ * JsonToken token = null;
+ * while ((token = reader.nextToken()) != JsonToken.NEED_MORE_INPUT &amp;&amp; token != JsonToken.NONE) {
+ * 	// handle token, reader.getText() and reader.getNumber()
+ * }
+ * </pre>
+ * 
+ * @author gabrielgp0811
+ */
+public class NonBlockingJsonReader {
+
+	private static final int EMPTY_DOCUMENT = 0;
+
+	private static final int NONEMPTY_DOCUMENT = 1;
+
+	private static final int EMPTY_ARRAY = 2;
+
+	private static final int NONEMPTY_ARRAY = 3;
+
+	private static final int ARRAY_VALUE = 4;
+
+	private static final int EMPTY_OBJECT = 5;
+
+	private static final int OBJECT_NAME = 6;
+
+	private static final int DANGLING_NAME = 7;
+
+	private static final int OBJECT_VALUE = 8;
+
+	private static final int NONEMPTY_OBJECT = 9;
+
+	/**
+	 * The UTF-8 byte order mark.
+	 */
+	private static final byte[] BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+	/**
+	 * No token being read.
+	 */
+	private static final int PARTIAL_NONE = 0;
+
+	/**
+	 * Reading an attribute's name.
+	 */
+	private static final int PARTIAL_NAME = 1;
+
+	/**
+	 * Reading a string value.
+	 */
+	private static final int PARTIAL_STRING = 2;
+
+	/**
+	 * Reading a number or literal.
+	 */
+	private static final int PARTIAL_WORD = 3;
+
+	/**
+	 * The bytes being read.
+	 */
+	private byte[] buffer = new byte[0];
+
+	/**
+	 * The position of the next byte to be read.
+	 */
+	private int position = 0;
+
+	/**
+	 * The position after the last byte to be read.
+	 */
+	private int limit = 0;
+
+	/**
+	 * The position in the document of <code>buffer[0]</code>.
+	 */
+	private long base = 0;
+
+	/**
+	 * The copy of the last direct buffer fed.
+	 */
+	private byte[] copy = null;
+
+	/**
+	 * Whether all of the input was fed.
+	 */
+	private boolean ended = false;
+
+	/**
+	 * The amount of bytes of the byte order mark already read, or
+	 * <code>-1</code> once it was checked.
+	 */
+	private int bom = 0;
+
+	/**
+	 * The nesting stack, holding the scope of each level.
+	 */
+	private int[] stack = new int[32];
+
+	/**
+	 * The amount of levels in {@link #stack}.
+	 */
+	private int stackSize = 0;
+
+	/**
+	 * The kind of token partially read.
+	 */
+	private int partial = PARTIAL_NONE;
+
+	/**
+	 * The characters of the string partially read.
+	 */
+	private StringBuilder builder = new StringBuilder();
+
+	/**
+	 * The state of the escape sequence partially read: <code>0</code> outside of
+	 * escape sequences, <code>1</code> after the backslash and <code>2</code> to
+	 * <code>5</code> while reading the hexadecimal digits of <code>&#92;u</code>.
+	 */
+	private int escape = 0;
+
+	/**
+	 * The value of the escape sequence partially read.
+	 */
+	private int escaped = 0;
+
+	/**
+	 * The index in {@link #builder} of an escaped high surrogate waiting for its
+	 * low surrogate, or <code>-1</code>.
+	 */
+	private int surrogate = -1;
+
+	/**
+	 * The amount of continuation bytes missing from the UTF-8 sequence partially
+	 * read.
+	 */
+	private int utf8Missing = 0;
+
+	/**
+	 * The code point of the UTF-8 sequence partially read.
+	 */
+	private int utf8CodePoint = 0;
+
+	/**
+	 * The minimum code point for the length of the UTF-8 sequence partially
+	 * read.
+	 */
+	private int utf8Minimum = 0;
+
+	/**
+	 * The characters of the number or literal partially read.
+	 */
+	private char[] word = new char[32];
+
+	/**
+	 * The amount of characters in {@link #word}.
+	 */
+	private int wordLength = 0;
+
+	/**
+	 * The position of the token partially read.
+	 */
+	private long tokenStart = 0;
+
+	/**
+	 * The table of canonical attribute names, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> to create a new
+	 * <code>java.lang.String</code> for every name.
+	 */
+	private JsonSymbolTable symbols = null;
+
+	/**
+	 * The name or string of the last token read.
+	 */
+	private String text = null;
+
+	/**
+	 * The number of the last token read.
+	 */
+	private Number number = null;
+
+	/**
+	 * 
+	 */
+	public NonBlockingJsonReader() {
+		stack[stackSize++] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * Feeds the bytes between the buffer's position and limit, advancing its
+	 * position to its limit. The bytes fed before must have been read already,
+	 * that is, {@link #nextToken()} must have returned
+	 * {@link JsonToken#NEED_MORE_INPUT}.
+	 * 
+	 * @param bytes The next bytes of the document, encoded in UTF-8.
+	 * @throws IllegalStateException The bytes fed before weren't read yet, or
+	 *                               {@link #endOfInput()} was already called.
+	 */
+	public void feed(ByteBuffer bytes) {
+		if (ended) {
+			throw new IllegalStateException("endOfInput() was already called");
+		}
+
+		if (position < limit) {
+			throw new IllegalStateException("The input fed before wasn't read yet");
+		}
+
+		base += limit;
+
+		int length = bytes.remaining();
+
+		if (bytes.hasArray()) {
+			buffer = bytes.array();
+			position = bytes.arrayOffset() + bytes.position();
+		} else {
+			if (copy == null || copy.length < length) {
+				copy = new byte[Math.max(length, 1024)];
+			}
+
+			bytes.duplicate().get(copy, 0, length);
+
+			buffer = copy;
+			position = 0;
+		}
+
+		limit = position + length;
+		base -= position;
+
+		bytes.position(bytes.limit());
+	}
+
+	/**
+	 * Feeds the bytes in <code>bytes</code>, starting at <code>offset</code> and
+	 * spanning <code>length</code> bytes, which are read in place.
+	 * 
+	 * @param bytes  The next bytes of the document, encoded in UTF-8.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @throws IllegalStateException The bytes fed before weren't read yet, or
+	 *                               {@link #endOfInput()} was already called.
+	 * @see #feed(ByteBuffer)
+	 */
+	public void feed(byte[] bytes, int offset, int length) {
+		feed(ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	/**
+	 * Signals that all of the input was fed.
+	 */
+	public void endOfInput() {
+		ended = true;
+	}
+
+	/**
+	 * Consumes the next token and returns its type. The name or string of
+	 * {@link JsonToken#NAME} and {@link JsonToken#STRING} tokens is available
+	 * through {@link #getText()}, and the value of {@link JsonToken#NUMBER}
+	 * tokens through {@link #getNumber()}.
+	 * 
+	 * @return The token consumed, {@link JsonToken#NEED_MORE_INPUT} if all of the
+	 *         bytes fed were read before the token ended, or
+	 *         {@link JsonToken#NONE} at the end of the document.
+	 * @throws JsonException Malformed JSON.
+	 */
+	public JsonToken nextToken() throws JsonException {
+		text = null;
+		number = null;
+
+		switch (partial) {
+		case PARTIAL_NAME:
+		case PARTIAL_STRING:
+			return readString();
+		case PARTIAL_WORD:
+			return readWord();
+		default:
+			break;
+		}
+
+		while (true) {
+			int scope = stack[stackSize - 1];
+
+			if (scope == NONEMPTY_DOCUMENT) {
+				// Anything after the first value is ignored
+				return JsonToken.NONE;
+			}
+
+			int c = nextNonWhitespace();
+
+			if (c == -1) {
+				if (!ended) {
+					return JsonToken.NEED_MORE_INPUT;
+				}
+
+				if (scope == EMPTY_DOCUMENT) {
+					return JsonToken.NONE;
+				}
+
+				throw syntaxError("Unexpected end of input");
+			}
+
+			switch (scope) {
+			case EMPTY_ARRAY:
+			case NONEMPTY_ARRAY:
+				if (c == ']') {
+					stackSize--;
+
+					return JsonToken.SQUARED_CLOSE;
+				}
+
+				if (scope == NONEMPTY_ARRAY) {
+					if (c != ',') {
+						throw syntaxError("Expected ',' or ']'");
+					}
+
+					stack[stackSize - 1] = ARRAY_VALUE;
+
+					continue;
+				}
+
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+
+				return startValue(c);
+			case ARRAY_VALUE:
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+
+				return startValue(c);
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				if (c == '}') {
+					stackSize--;
+
+					return JsonToken.CURLY_CLOSE;
+				}
+
+				if (scope == NONEMPTY_OBJECT) {
+					if (c != ',') {
+						throw syntaxError("Expected ',' or '}'");
+					}
+
+					stack[stackSize - 1] = OBJECT_NAME;
+
+					continue;
+				}
+
+				return startName(c);
+			case OBJECT_NAME:
+				return startName(c);
+			case DANGLING_NAME:
+				if (c != ':') {
+					throw syntaxError("Expected ':'");
+				}
+
+				stack[stackSize - 1] = OBJECT_VALUE;
+
+				continue;
+			case OBJECT_VALUE:
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+
+				return startValue(c);
+			default:
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+
+				return startValue(c);
+			}
+		}
+	}
+
+	/**
+	 * @return The name or string characters of the last token read, or the
+	 *         characters of the last number read.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @return The number of the last token read.
+	 */
+	public Number getNumber() {
+		return number;
+	}
+
+	/**
+	 * @return The nesting depth of the current position. The depth is
+	 *         <code>0</code> outside of any object or array.
+	 */
+	public int getDepth() {
+		return stackSize - 1;
+	}
+
+	/**
+	 * @return The position, in bytes, of the next byte to be read.
+	 */
+	public long getPosition() {
+		return base + position;
+	}
+
+	/**
+	 * @return The table of canonical attribute names, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if not set.
+	 */
+	public JsonSymbolTable getSymbolTable() {
+		return symbols;
+	}
+
+	/**
+	 * @param symbols The table of canonical attribute names, or
+	 *                <strong><span style="color:#7f0055">null</span></strong> to
+	 *                create a new <code>java.lang.String</code> for every name.
+	 */
+	public void setSymbolTable(JsonSymbolTable symbols) {
+		this.symbols = symbols;
+	}
+
+	/**
+	 * Starts reading a value.
+	 * 
+	 * @param c The first character of the value, already consumed.
+	 * @return The token, or {@link JsonToken#NEED_MORE_INPUT}.
+	 * @throws JsonException Malformed JSON.
+	 */
+	private JsonToken startValue(int c) throws JsonException {
+		switch (c) {
+		case '{':
+			push(EMPTY_OBJECT);
+			return JsonToken.CURLY_OPEN;
+		case '[':
+			push(EMPTY_ARRAY);
+			return JsonToken.SQUARED_OPEN;
+		case '"':
+			return startString(PARTIAL_STRING);
+		case '}':
+		case ']':
+		case ',':
+		case ':':
+			throw syntaxError("Unexpected character '" + (char) c + "'");
+		default:
+			// Only ASCII characters are unread
+			position--;
+			tokenStart = getPosition();
+			partial = PARTIAL_WORD;
+			wordLength = 0;
+
+			return readWord();
+		}
+	}
+
+	/**
+	 * Starts reading an attribute's name.
+	 * 
+	 * @param c The first character of the name, already consumed.
+	 * @return The token, or {@link JsonToken#NEED_MORE_INPUT}.
+	 * @throws JsonException Malformed JSON.
+	 */
+	private JsonToken startName(int c) throws JsonException {
+		if (c != '"') {
+			throw syntaxError("Expected name");
+		}
+
+		stack[stackSize - 1] = DANGLING_NAME;
+
+		return startString(PARTIAL_NAME);
+	}
+
+	/**
+	 * Starts reading a name or string. The opening double quote must be already
+	 * consumed.
+	 * 
+	 * @param kind {@link #PARTIAL_NAME} or {@link #PARTIAL_STRING}.
+	 * @return The token, or {@link JsonToken#NEED_MORE_INPUT}.
+	 * @throws JsonException Malformed string.
+	 */
+	private JsonToken startString(int kind) throws JsonException {
+		tokenStart = getPosition() - 1;
+		partial = kind;
+		builder.setLength(0);
+		surrogate = -1;
+
+		// ASCII fast path: the whole string is in the bytes fed
+		byte[] buffer = this.buffer;
+		int start = position;
+		int pos = ByteScanner.indexOfQuoteBackslashOrNonAscii(buffer, start, limit);
+
+		if (pos < limit && buffer[pos] == '"') {
+			position = pos + 1;
+			partial = PARTIAL_NONE;
+
+			if (kind == PARTIAL_NAME) {
+				text = symbols != null ? symbols.intern(buffer, start, pos - start)
+						: new String(buffer, start, pos - start, StandardCharsets.ISO_8859_1);
+
+				return JsonToken.NAME;
+			}
+
+			text = new String(buffer, start, pos - start, StandardCharsets.ISO_8859_1);
+
+			return JsonToken.STRING;
+		}
+
+		return readString();
+	}
+
+	/**
+	 * Continues reading a name or string.
+	 * 
+	 * @return The token, or {@link JsonToken#NEED_MORE_INPUT}.
+	 * @throws JsonException Malformed string.
+	 */
+	private JsonToken readString() throws JsonException {
+		final byte[] buffer = this.buffer;
+		final StringBuilder builder = this.builder;
+
+		while (position < limit) {
+			byte b = buffer[position++];
+
+			if (surrogate != -1 && escape < 2 && b != (escape == 0 ? '\\' : 'u')) {
+				// Unpaired high surrogate, read as U+FFFD like malformed UTF-8
+				builder.setCharAt(surrogate, '\uFFFD');
+				surrogate = -1;
+			}
+
+			if (utf8Missing > 0) {
+				if ((b & 0xC0) != 0x80) {
+					// Malformed sequence, the byte is read again on its own
+					builder.append('\uFFFD');
+					utf8Missing = 0;
+					position--;
+
+					continue;
+				}
+
+				utf8CodePoint = (utf8CodePoint << 6) | (b & 0x3F);
+
+				if (--utf8Missing == 0) {
+					appendCodePoint(utf8CodePoint);
+				}
+
+				continue;
+			}
+
+			if (escape == 1) {
+				readEscapeCharacter(b);
+
+				continue;
+			}
+
+			if (escape > 1) {
+				int digit = JsonReader.hexDigit(b);
+
+				if (digit == -1) {
+					throw syntaxError("Malformed escape sequence \\u");
+				}
+
+				escaped = (escaped << 4) | digit;
+
+				if (++escape == 6) {
+					appendEscaped((char) escaped);
+					escape = 0;
+				}
+
+				continue;
+			}
+
+			if (b == '"') {
+				JsonToken token = partial == PARTIAL_NAME ? JsonToken.NAME : JsonToken.STRING;
+
+				text = builder.toString();
+				partial = PARTIAL_NONE;
+
+				if (token == JsonToken.NAME && symbols != null) {
+					text = symbols.intern(text);
+				}
+
+				return token;
+			}
+
+			if (b == '\\') {
+				escape = 1;
+			} else if (b >= 0) {
+				builder.append((char) b);
+			} else if ((b & 0xE0) == 0xC0) {
+				startCodePoint(b & 0x1F, 1, 0x80);
+			} else if ((b & 0xF0) == 0xE0) {
+				startCodePoint(b & 0x0F, 2, 0x800);
+			} else if ((b & 0xF8) == 0xF0) {
+				startCodePoint(b & 0x07, 3, 0x10000);
+			} else {
+				builder.append('\uFFFD');
+			}
+		}
+
+		if (ended) {
+			throw syntaxError("Unterminated string");
+		}
+
+		return JsonToken.NEED_MORE_INPUT;
+	}
+
+	/**
+	 * Appends the character of a <code>&#92;u</code> escape sequence, pairing
+	 * surrogates. An unpaired surrogate is read as <code>U+FFFD</code>.
+	 * 
+	 * @param ch The character.
+	 */
+	private void appendEscaped(char ch) {
+		if (surrogate != -1 && !Character.isLowSurrogate(ch)) {
+			builder.setCharAt(surrogate, '\uFFFD');
+		}
+
+		if (surrogate == -1 && Character.isLowSurrogate(ch)) {
+			ch = '\uFFFD';
+		}
+
+		builder.append(ch);
+		surrogate = Character.isHighSurrogate(ch) ? builder.length() - 1 : -1;
+	}
+
+	/**
+	 * Reads the character after a backslash.
+	 * 
+	 * @param b The character.
+	 * @throws JsonException Invalid escape sequence.
+	 */
+	private void readEscapeCharacter(byte b) throws JsonException {
+		escape = 0;
+
+		switch (b) {
+		case '"':
+		case '\\':
+		case '/':
+			builder.append((char) b);
+			break;
+		case 'b':
+			builder.append('\b');
+			break;
+		case 'r':
+			builder.append('\r');
+			break;
+		case 'n':
+			builder.append('\n');
+			break;
+		case 'f':
+			builder.append('\f');
+			break;
+		case 't':
+			builder.append('\t');
+			break;
+		case 'u':
+			escape = 2;
+			escaped = 0;
+			break;
+		default:
+			throw syntaxError("Invalid escape sequence \\" + (char) (b & 0xFF));
+		}
+	}
+
+	/**
+	 * Starts a multi-byte UTF-8 sequence.
+	 * 
+	 * @param bits    The bits of the leading byte.
+	 * @param missing The amount of continuation bytes.
+	 * @param minimum The minimum code point for the length of the sequence.
+	 */
+	private void startCodePoint(int bits, int missing, int minimum) {
+		utf8CodePoint = bits;
+		utf8Missing = missing;
+		utf8Minimum = minimum;
+	}
+
+	/**
+	 * Appends a decoded code point. Malformed code points are appended as
+	 * <code>U+FFFD</code>, like <code>java.io.InputStreamReader</code> does.
+	 * 
+	 * @param codePoint The code point.
+	 */
+	private void appendCodePoint(int codePoint) {
+		if (codePoint < utf8Minimum || codePoint > Character.MAX_CODE_POINT
+				|| (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+			builder.append('\uFFFD');
+		} else if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+			builder.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+		} else {
+			builder.append((char) codePoint);
+		}
+	}
+
+	/**
+	 * Continues reading a number or a literal (<code>true</code>,
+	 * <code>false</code>, <code>null</code> or <code>undefined</code>), which
+	 * ends at the first word break or at the end of the input.
+	 * 
+	 * @return The token, or {@link JsonToken#NEED_MORE_INPUT}.
+	 * @throws JsonException Malformed number or unexpected word.
+	 */
+	private JsonToken readWord() throws JsonException {
+		final byte[] buffer = this.buffer;
+
+		while (position < limit && !isWordBreak(buffer[position])) {
+			if (wordLength == word.length) {
+				word = Arrays.copyOf(word, wordLength * 2);
+			}
+
+			// Non-ASCII bytes are never valid, so are copied undecoded
+			word[wordLength++] = (char) (buffer[position++] & 0xFF);
+		}
+
+		if (position == limit && !ended) {
+			return JsonToken.NEED_MORE_INPUT;
+		}
+
+		partial = PARTIAL_NONE;
+
+		String value = new String(word, 0, wordLength);
+		char first = word[0];
+
+		if ((first >= '0' && first <= '9') || first == '-') {
+			number = NumberParser.parse(word, 0, wordLength);
+
+			if (number == null) {
+				throw new JsonException("Error parsing number " + value + " at position " + tokenStart + ".");
+			}
+
+			text = value;
+
+			return JsonToken.NUMBER;
+		}
+
+		switch (value) {
+		case "true":
+			return JsonToken.TRUE;
+		case "false":
+			return JsonToken.FALSE;
+		case "null":
+		case "undefined":
+			return JsonToken.NULL;
+		default:
+			throw new JsonException("Unexpected value " + value + " at position " + tokenStart + ".");
+		}
+	}
+
+	/**
+	 * Consumes whitespace and the character after it.
+	 * 
+	 * @return The next character that isn't whitespace, or <code>-1</code> when
+	 *         all of the bytes fed were read. Non-ASCII bytes are returned
+	 *         undecoded.
+	 */
+	private int nextNonWhitespace() {
+		final byte[] buffer = this.buffer;
+
+		// The byte order mark may be split across the bytes fed
+		while (bom >= 0 && position < limit) {
+			if (buffer[position] != BOM[bom]) {
+				bom = -1;
+			} else if (++bom == BOM.length) {
+				bom = -1;
+				position++;
+			} else {
+				position++;
+			}
+		}
+
+		while (position < limit) {
+			byte b = buffer[position++];
+
+			if (!isWhitespace(b)) {
+				return b & 0xFF;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Pushes a new level to the nesting stack.
+	 * 
+	 * @param scope The scope of the level.
+	 */
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		}
+
+		stack[stackSize++] = scope;
+	}
+
+	/**
+	 * @param message The detail message.
+	 * @return The exception to be thrown.
+	 */
+	private JsonException syntaxError(String message) {
+		return new JsonException(message + " at position " + getPosition() + ".");
+	}
+
+	/**
+	 * Checks if byte is whitespace. Only ASCII whitespace is accepted between
+	 * tokens.
+	 * 
+	 * @param b The byte.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is
+	 *         whitespace; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWhitespace(byte b) {
+		if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+			return true;
+		}
+
+		return b >= 0 && b < ' ' && Character.isWhitespace((char) b);
+	}
+
+	/**
+	 * Checks if byte is word break.
+	 * 
+	 * @param b The byte.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is word
+	 *         break; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWordBreak(byte b) {
+		switch (b) {
+		case '{':
+		case '}':
+		case '[':
+		case ']':
+		case ',':
+		case ':':
+		case '"':
+			return true;
+		default:
+			return isWhitespace(b);
+		}
+	}
+
+}
\ No newline at end of file
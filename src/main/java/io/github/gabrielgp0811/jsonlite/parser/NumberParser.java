@@ -0,0 +1,309 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Single-pass number parser, which never throws exceptions.
+ * <p>
+ * Integers are returned as the smallest of <code>java.lang.Byte</code>,
+ * <code>java.lang.Short</code>, <code>java.lang.Integer</code> and
+ * <code>java.lang.Long</code> that fits them, or as a
+ * <code>java.math.BigInteger</code> otherwise. Decimals are returned as a
+ * <code>java.lang.Float</code> when a <code>float</code> holds them exactly
+ * and prints them back the same, as the original parser returned them, as a
+ * <code>java.lang.Double</code> otherwise, or as a
+ * <code>java.math.BigDecimal</code> when out of its range. Exponents beyond
+ * {@link #MAX_EXPONENT} are rejected.
+ * </p>
+ * <p>
+ * The digits are accumulated into a <code>long</code>. Decimals with up to 15
+ * significant digits and a power of ten up to 22 are converted exactly with a
+ * single floating-point operation (Clinger's fast path), as both operands are
+ * exact doubles; any other decimal is handed to
+ * {@link Double#parseDouble(String)}.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+final class NumberParser {
+
+	/**
+	 * The powers of ten exactly representable as doubles.
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * The maximum amount of significant digits accumulated into the
+	 * <code>long</code>.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * The maximum amount of significant digits for the fast path.
+	 */
+	private static final int MAX_FAST_DIGITS = 15;
+
+	/**
+	 * The maximum magnitude of the exponent, small enough for a
+	 * <code>java.math.BigDecimal</code> to hold any number out of the range of
+	 * <code>double</code>.
+	 */
+	private static final long MAX_EXPONENT = 999999999;
+
+	/**
+	 * 
+	 */
+	private NumberParser() {
+
+	}
+
+	/**
+	 * Parses the number in <code>buffer</code>, from <code>start</code>,
+	 * inclusive, to <code>end</code>, exclusive.
+	 * 
+	 * @param buffer The characters.
+	 * @param start  The position of the first character.
+	 * @param end    The position after the last character.
+	 * @return The number, or <strong><span style=
+	 *         "color:#7f0055">null</span></strong> if malformed.
+	 */
+	static Number parse(char[] buffer, int start, int end) {
+		int pos = start;
+
+		boolean negative = pos < end && buffer[pos] == '-';
+		if (negative) {
+			pos++;
+		}
+
+		long mantissa = 0;
+		int significant = 0;
+		int exponent = 0;
+		int digits = 0;
+		boolean truncated = false;
+		boolean decimal = false;
+
+		// Integer part
+		for (; pos < end && isDigit(buffer[pos]); pos++, digits++) {
+			int digit = buffer[pos] - '0';
+
+			if (significant < MAX_DIGITS) {
+				mantissa = mantissa * 10 + digit;
+
+				if (mantissa != 0) {
+					significant++;
+				}
+			} else {
+				exponent++;
+				truncated = true;
+			}
+		}
+
+		// Fraction part
+		if (pos < end && buffer[pos] == '.') {
+			decimal = true;
+
+			for (pos++; pos < end && isDigit(buffer[pos]); pos++, digits++) {
+				int digit = buffer[pos] - '0';
+
+				if (significant < MAX_DIGITS) {
+					mantissa = mantissa * 10 + digit;
+					exponent--;
+
+					if (mantissa != 0) {
+						significant++;
+					}
+				} else if (digit != 0) {
+					truncated = true;
+				}
+			}
+		}
+
+		if (digits == 0) {
+			return null;
+		}
+
+		// Exponent part
+		if (pos < end && (buffer[pos] == 'e' || buffer[pos] == 'E')) {
+			decimal = true;
+
+			pos++;
+
+			boolean negativeExponent = pos < end && buffer[pos] == '-';
+			if (negativeExponent || (pos < end && buffer[pos] == '+')) {
+				pos++;
+			}
+
+			long value = 0;
+			int exponentStart = pos;
+
+			for (; pos < end && isDigit(buffer[pos]); pos++) {
+				value = value * 10 + (buffer[pos] - '0');
+
+				if (value > MAX_EXPONENT) {
+					return null;
+				}
+			}
+
+			if (pos == exponentStart) {
+				return null;
+			}
+
+			exponent += (int) (negativeExponent ? -value : value);
+		}
+
+		if (pos != end) {
+			return null;
+		}
+
+		if (!decimal) {
+			if (truncated) {
+				BigInteger result = new BigInteger(new String(buffer, start, end - start));
+
+				return result.bitLength() < Long.SIZE ? toSmallest(result.longValue()) : result;
+			}
+
+			return toSmallest(negative ? -mantissa : mantissa);
+		}
+
+		if (!truncated && significant <= MAX_FAST_DIGITS && exponent >= -22 && exponent <= 22) {
+			double result = mantissa;
+
+			if (exponent < 0) {
+				result /= POWERS_OF_TEN[-exponent];
+			} else {
+				result *= POWERS_OF_TEN[exponent];
+			}
+
+			return toSmallest(negative ? -result : result);
+		}
+
+		String text = new String(buffer, start, end - start);
+		double result = Double.parseDouble(text);
+
+		// Beyond the range of double, the exact value is kept instead of an
+		// infinity or zero
+		if (Double.isInfinite(result) || (result == 0 && mantissa != 0)) {
+			return new BigDecimal(text);
+		}
+
+		return toSmallest(result);
+	}
+
+	/**
+	 * Checks the syntax of the number in <code>buffer</code>, from
+	 * <code>start</code>, inclusive, to <code>end</code>, exclusive, without
+	 * converting it. Exactly the numbers {@link #parse(char[], int, int)} doesn't
+	 * return <strong><span style="color:#7f0055">null</span></strong> for are
+	 * well-formed.
+	 * 
+	 * @param buffer The characters.
+	 * @param start  The position of the first character.
+	 * @param end    The position after the last character.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if
+	 *         well-formed; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	static boolean isWellFormed(char[] buffer, int start, int end) {
+		int pos = start;
+
+		if (pos < end && buffer[pos] == '-') {
+			pos++;
+		}
+
+		int digits = 0;
+
+		for (; pos < end && isDigit(buffer[pos]); pos++) {
+			digits++;
+		}
+
+		if (pos < end && buffer[pos] == '.') {
+			for (pos++; pos < end && isDigit(buffer[pos]); pos++) {
+				digits++;
+			}
+		}
+
+		if (digits == 0) {
+			return false;
+		}
+
+		if (pos < end && (buffer[pos] == 'e' || buffer[pos] == 'E')) {
+			pos++;
+
+			if (pos < end && (buffer[pos] == '-' || buffer[pos] == '+')) {
+				pos++;
+			}
+
+			long value = 0;
+			int exponentStart = pos;
+
+			for (; pos < end && isDigit(buffer[pos]); pos++) {
+				value = value * 10 + (buffer[pos] - '0');
+
+				if (value > MAX_EXPONENT) {
+					return false;
+				}
+			}
+
+			if (pos == exponentStart) {
+				return false;
+			}
+		}
+
+		return pos == end;
+	}
+
+	/**
+	 * @param value The value.
+	 * @return The smallest of <code>java.lang.Byte</code>,
+	 *         <code>java.lang.Short</code>, <code>java.lang.Integer</code> and
+	 *         <code>java.lang.Long</code> that fits <code>value</code>.
+	 */
+	private static Number toSmallest(long value) {
+		if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			return Byte.valueOf((byte) value);
+		}
+
+		if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			return Short.valueOf((short) value);
+		}
+
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+			return Integer.valueOf((int) value);
+		}
+
+		return Long.valueOf(value);
+	}
+
+	/**
+	 * @param value The value.
+	 * @return A <code>java.lang.Float</code> if a <code>float</code> holds
+	 *         <code>value</code> exactly and prints it back the same; a
+	 *         <code>java.lang.Double</code> otherwise.
+	 */
+	static Number toSmallest(double value) {
+		float result = (float) value;
+
+		// Checking the printed value keeps 0.100000001490116... from becoming 0.1
+		if (result == value && Double.parseDouble(Float.toString(result)) == value) {
+			return Float.valueOf(result);
+		}
+
+		return Double.valueOf(value);
+	}
+
+	/**
+	 * @param c The character.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is an
+	 *         ASCII digit; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+/**
+ * Limits on the documents accepted by {@link JsonReader}, so that untrusted
+ * input can be parsed with bounded cost. A document exceeding a limit fails as
+ * soon as the limit is crossed, with a
+ * {@link io.github.gabrielgp0811.jsonlite.exception.JsonException} giving the
+ * position.
+ * <p>
+ * Instances are immutable; each <code>with</code> method returns a copy with
+ * one limit changed:
+ * </p>
+ * 
+ * <pre>
+ * ParserLimits limits = ParserLimits.DEFAULT.withMaxDocumentLength(1 &lt;&lt; 20).withMaxDepth(64);
+ * </pre>
+ * 
+ * @author gabrielgp0811
+ */
+public final class ParserLimits {
+
+	/**
+	 * The default maximum nesting depth of objects and arrays.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 1000;
+
+	/**
+	 * The default maximum length, in characters, of strings and attribute names.
+	 */
+	public static final int DEFAULT_MAX_STRING_LENGTH = 20_000_000;
+
+	/**
+	 * The default maximum length, in characters, of numbers.
+	 */
+	public static final int DEFAULT_MAX_NUMBER_LENGTH = 1000;
+
+	/**
+	 * No limit at all.
+	 */
+	public static final ParserLimits NONE = new ParserLimits(Integer.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE,
+			Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+	/**
+	 * The limits used by default: {@link #DEFAULT_MAX_DEPTH},
+	 * {@link #DEFAULT_MAX_STRING_LENGTH} and {@link #DEFAULT_MAX_NUMBER_LENGTH},
+	 * with no limit on the document's length nor on the amount of attributes.
+	 */
+	public static final ParserLimits DEFAULT = new ParserLimits(DEFAULT_MAX_DEPTH, Long.MAX_VALUE,
+			DEFAULT_MAX_STRING_LENGTH, DEFAULT_MAX_NUMBER_LENGTH, Integer.MAX_VALUE);
+
+	/**
+	 * The maximum nesting depth of objects and arrays.
+	 */
+	private final int maxDepth;
+
+	/**
+	 * The maximum length of the document.
+	 */
+	private final long maxDocumentLength;
+
+	/**
+	 * The maximum length of strings and attribute names.
+	 */
+	private final int maxStringLength;
+
+	/**
+	 * The maximum length of numbers.
+	 */
+	private final int maxNumberLength;
+
+	/**
+	 * The maximum amount of attributes of each object.
+	 */
+	private final int maxObjectMembers;
+
+	/**
+	 * @param maxDepth          The maximum nesting depth of objects and arrays.
+	 * @param maxDocumentLength The maximum length of the document.
+	 * @param maxStringLength   The maximum length of strings and attribute names.
+	 * @param maxNumberLength   The maximum length of numbers.
+	 * @param maxObjectMembers  The maximum amount of attributes of each object.
+	 */
+	private ParserLimits(int maxDepth, long maxDocumentLength, int maxStringLength, int maxNumberLength,
+			int maxObjectMembers) {
+		this.maxDepth = positive(maxDepth, "maxDepth");
+		this.maxDocumentLength = positive(maxDocumentLength, "maxDocumentLength");
+		this.maxStringLength = positive(maxStringLength, "maxStringLength");
+		this.maxNumberLength = positive(maxNumberLength, "maxNumberLength");
+		this.maxObjectMembers = positive(maxObjectMembers, "maxObjectMembers");
+	}
+
+	/**
+	 * @return The maximum nesting depth of objects and arrays.
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * @param maxDepth The maximum nesting depth of objects and arrays.
+	 * @return A copy of these limits with <code>maxDepth</code>.
+	 */
+	public ParserLimits withMaxDepth(int maxDepth) {
+		return new ParserLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+	}
+
+	/**
+	 * @return The maximum length of the document, in characters, or in bytes for
+	 *         UTF-8 input.
+	 */
+	public long getMaxDocumentLength() {
+		return maxDocumentLength;
+	}
+
+	/**
+	 * @param maxDocumentLength The maximum length of the document, in characters,
+	 *                          or in bytes for UTF-8 input.
+	 * @return A copy of these limits with <code>maxDocumentLength</code>.
+	 */
+	public ParserLimits withMaxDocumentLength(long maxDocumentLength) {
+		return new ParserLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+	}
+
+	/**
+	 * @return The maximum length, in characters, of strings and attribute names,
+	 *         once unescaped.
+	 */
+	public int getMaxStringLength() {
+		return maxStringLength;
+	}
+
+	/**
+	 * @param maxStringLength The maximum length, in characters, of strings and
+	 *                        attribute names, once unescaped.
+	 * @return A copy of these limits with <code>maxStringLength</code>.
+	 */
+	public ParserLimits withMaxStringLength(int maxStringLength) {
+		return new ParserLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+	}
+
+	/**
+	 * @return The maximum length, in characters, of numbers.
+	 */
+	public int getMaxNumberLength() {
+		return maxNumberLength;
+	}
+
+	/**
+	 * @param maxNumberLength The maximum length, in characters, of numbers.
+	 * @return A copy of these limits with <code>maxNumberLength</code>.
+	 */
+	public ParserLimits withMaxNumberLength(int maxNumberLength) {
+		return new ParserLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+	}
+
+	/**
+	 * @return The maximum amount of attributes of each object.
+	 */
+	public int getMaxObjectMembers() {
+		return maxObjectMembers;
+	}
+
+	/**
+	 * @param maxObjectMembers The maximum amount of attributes of each object.
+	 * @return A copy of these limits with <code>maxObjectMembers</code>.
+	 */
+	public ParserLimits withMaxObjectMembers(int maxObjectMembers) {
+		return new ParserLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+	}
+
+	/**
+	 * @param value The limit.
+	 * @param name  The limit's name.
+	 * @return The limit.
+	 */
+	private static int positive(int value, String name) {
+		return (int) positive((long) value, name);
+	}
+
+	/**
+	 * @param value The limit.
+	 * @param name  The limit's name.
+	 * @return The limit.
+	 */
+	private static long positive(long value, String name) {
+		if (value < 1) {
+			throw new IllegalArgumentException(name + "=" + value);
+		}
+
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return "ParserLimits [maxDepth=" + maxDepth + ", maxDocumentLength=" + maxDocumentLength
+				+ ", maxStringLength=" + maxStringLength + ", maxNumberLength=" + maxNumberLength
+				+ ", maxObjectMembers=" + maxObjectMembers + "]";
+	}
+
+}
\ No newline at end of file
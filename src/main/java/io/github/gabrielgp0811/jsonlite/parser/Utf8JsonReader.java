@@ -0,0 +1,831 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.github.gabrielgp0811.jsonlite.exception.JsonException;
+
+/**
+ * {@link JsonReader} that scans UTF-8 encoded bytes directly, without decoding
+ * the whole input into characters first.
+ * <p>
+ * Only the bytes inside strings are decoded, and runs of ASCII bytes are
+ * copied straight into the resulting <code>java.lang.String</code>. Structural
+ * characters, numbers and literals are recognized byte by byte. A leading
+ * UTF-8 byte order mark is skipped, and the positions reported are byte
+ * offsets.
+ * </p>
+ * <p>
+ * A <code>byte[]</code> or heap <code>java.nio.ByteBuffer</code> is parsed in
+ * place. Direct <code>java.nio.ByteBuffer</code>s, such as memory-mapped file
+ * segments, and <code>java.io.InputStream</code>s are copied into a bounded
+ * buffer as the document is consumed.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+public class Utf8JsonReader extends JsonReader {
+
+	/**
+	 * The size of the internal buffer used for streaming input.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The input, or <strong><span style="color:#7f0055">null</span></strong> when
+	 * not reading from a <code>java.io.InputStream</code>.
+	 */
+	private InputStream in = null;
+
+	/**
+	 * The direct buffers being copied from, one after the other.
+	 */
+	private ByteBuffer[] sources = null;
+
+	/**
+	 * The index in {@link #sources} of {@link #source}.
+	 */
+	private int sourceIndex = 0;
+
+	/**
+	 * The direct buffer being copied from, or <strong><span style=
+	 * "color:#7f0055">null</span></strong> when not reading from direct
+	 * <code>java.nio.ByteBuffer</code>s.
+	 */
+	private ByteBuffer source = null;
+
+	/**
+	 * The bytes being parsed.
+	 */
+	private byte[] buffer = null;
+
+	/**
+	 * The position of the next byte to be read.
+	 */
+	private int position = 0;
+
+	/**
+	 * The position after the last byte to be read.
+	 */
+	private int limit = 0;
+
+	/**
+	 * The position in the document of <code>buffer[0]</code>.
+	 */
+	private long base = 0;
+
+	/**
+	 * The characters of the last number parsed, reused between numbers.
+	 */
+	private char[] chars = new char[32];
+
+	/**
+	 * Whether the byte order mark was already checked.
+	 */
+	private boolean started = false;
+
+	/**
+	 * Constructor for {@link JsonReaderPool}, which resets the reader before use.
+	 */
+	Utf8JsonReader() {
+
+	}
+
+	/**
+	 * @param in The input, encoded in UTF-8.
+	 */
+	public Utf8JsonReader(InputStream in) {
+		if (in == null) {
+			throw new NullPointerException("in is null");
+		}
+
+		this.in = in;
+		this.buffer = new byte[BUFFER_SIZE];
+	}
+
+	/**
+	 * @param json   The JSON bytes, encoded in UTF-8, which are parsed in place.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 */
+	public Utf8JsonReader(byte[] json, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > json.length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length);
+		}
+
+		this.buffer = json;
+		this.position = offset;
+		this.limit = offset + length;
+		this.base = -offset;
+	}
+
+	/**
+	 * Reads the bytes between the buffer's position and limit. The buffer's
+	 * position is not changed.
+	 * 
+	 * @param json The JSON bytes, encoded in UTF-8.
+	 */
+	public Utf8JsonReader(ByteBuffer json) {
+		if (json.hasArray()) {
+			this.buffer = json.array();
+			this.position = json.arrayOffset() + json.position();
+			this.limit = json.arrayOffset() + json.limit();
+			this.base = -this.position;
+		} else {
+			this.sources = new ByteBuffer[] { json };
+			this.source = json.duplicate();
+			this.buffer = new byte[Math.min(BUFFER_SIZE, Math.max(json.remaining(), 16))];
+		}
+	}
+
+	/**
+	 * Reads the bytes between the position and limit of each buffer, one after
+	 * the other, as a single document. The buffers' positions are not changed.
+	 * 
+	 * @param segments The JSON bytes, encoded in UTF-8.
+	 */
+	public Utf8JsonReader(ByteBuffer[] segments) {
+		this.sources = segments.clone();
+		this.buffer = new byte[BUFFER_SIZE];
+
+		if (segments.length > 0) {
+			this.source = segments[0].duplicate();
+		}
+	}
+
+	/**
+	 * Resets this reader to parse the JSON bytes in <code>json</code>, encoded in
+	 * UTF-8, starting at <code>offset</code> and spanning <code>length</code>
+	 * bytes, in place.
+	 * 
+	 * @param json   The JSON bytes.
+	 * @param offset The offset of the first byte.
+	 * @param length The amount of bytes.
+	 * @return This reader.
+	 */
+	public Utf8JsonReader reset(byte[] json, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > json.length) {
+			throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length);
+		}
+
+		this.in = null;
+		this.sources = null;
+		this.sourceIndex = 0;
+		this.source = null;
+		this.buffer = json;
+		this.position = offset;
+		this.limit = offset + length;
+		this.base = -offset;
+		this.started = false;
+
+		resetState();
+
+		return this;
+	}
+
+	/**
+	 * Not supported, as this reader parses bytes.
+	 * 
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public JsonReader reset(char[] json, int offset, int length) {
+		throw new UnsupportedOperationException("Utf8JsonReader parses bytes");
+	}
+
+	/**
+	 * Not supported, as this reader parses bytes.
+	 * 
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public JsonReader reset(String json) {
+		throw new UnsupportedOperationException("Utf8JsonReader parses bytes");
+	}
+
+	/**
+	 * Not supported, as this reader parses bytes.
+	 * 
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public JsonReader reset(CharSequence json) {
+		throw new UnsupportedOperationException("Utf8JsonReader parses bytes");
+	}
+
+	/**
+	 * Not supported, as this reader parses bytes.
+	 * 
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public JsonReader reset(Reader in) {
+		throw new UnsupportedOperationException("Utf8JsonReader parses bytes");
+	}
+
+	@Override
+	void recycle() {
+		super.recycle();
+
+		in = null;
+		sources = null;
+		sourceIndex = 0;
+		source = null;
+		buffer = null;
+		position = 0;
+		limit = 0;
+		base = 0;
+		started = false;
+
+		if (chars.length > MAX_RETAINED_CAPACITY) {
+			chars = new char[32];
+		}
+	}
+
+	@Override
+	public long getPosition() {
+		return base + position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		super.close();
+
+		source = null;
+		sources = null;
+
+		if (in != null) {
+			in.close();
+		}
+	}
+
+	@Override
+	int nextNonWhitespace() throws JsonException {
+		if (!started) {
+			started = true;
+
+			if ((limit - position >= 3 || fill(3)) && buffer[position] == (byte) 0xEF
+					&& buffer[position + 1] == (byte) 0xBB && buffer[position + 2] == (byte) 0xBF) {
+				position += 3;
+			}
+		}
+
+		byte[] buffer = this.buffer;
+		int pos = position;
+		int limit = this.limit;
+
+		while (true) {
+			if (pos == limit) {
+				position = pos;
+
+				if (!fill(1)) {
+					return -1;
+				}
+
+				buffer = this.buffer;
+				pos = position;
+				limit = this.limit;
+			}
+
+			byte b = buffer[pos++];
+
+			if (!isWhitespace(b)) {
+				position = pos;
+
+				// Non-ASCII bytes are never structural, so are returned undecoded
+				return b & 0xFF;
+			}
+		}
+	}
+
+	@Override
+	void unread() {
+		// Only ASCII characters are unread
+		position--;
+	}
+
+	@Override
+	int skipWord() throws JsonException {
+		int length = 0;
+
+		while (true) {
+			if (position + length == limit && !fill(length + 1)) {
+				break;
+			}
+
+			if (isWordBreak(buffer[position + length])) {
+				break;
+			}
+
+			length++;
+		}
+
+		position += length;
+
+		return length;
+	}
+
+	@Override
+	String lastWord(int length) {
+		return new String(buffer, position - length, length, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	boolean lastWordEquals(int length, String word) {
+		if (length != word.length()) {
+			return false;
+		}
+
+		int start = position - length;
+
+		for (int i = 0; i < length; i++) {
+			if (buffer[start + i] != word.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	Number parseLastNumber(int length) {
+		return NumberParser.parse(lastWordChars(length), 0, length);
+	}
+
+	@Override
+	boolean isLastNumberWellFormed(int length) {
+		return NumberParser.isWellFormed(lastWordChars(length), 0, length);
+	}
+
+	/**
+	 * @param length The length of the word just consumed by {@link #skipWord()}.
+	 * @return The reused array of characters starting with the word's bytes.
+	 */
+	private char[] lastWordChars(int length) {
+		char[] chars = this.chars;
+
+		if (chars.length < length) {
+			chars = this.chars = new char[Math.max(length, chars.length * 2)];
+		}
+
+		int start = position - length;
+
+		// Non-ASCII bytes are never digits, so are copied undecoded
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char) (buffer[start + i] & 0xFF);
+		}
+
+		return chars;
+	}
+
+	@Override
+	String parseName() throws JsonException {
+		JsonSymbolTable symbols = getSymbolTable();
+
+		if (symbols == null) {
+			return parseString();
+		}
+
+		byte[] buffer = this.buffer;
+		int start = position;
+		int pos = ByteScanner.indexOfQuoteBackslashOrNonAscii(buffer, start, limit);
+
+		if (pos < limit && buffer[pos] == '"') {
+			checkStringLength(pos - start);
+
+			position = pos + 1;
+
+			return symbols.intern(buffer, start, pos - start);
+		}
+
+		return symbols.intern(parseString());
+	}
+
+	@Override
+	boolean matchName(String name) throws JsonException {
+		int length = name.length();
+
+		if (position + length >= limit && !fill(length + 1)) {
+			return false;
+		}
+
+		byte[] buffer = this.buffer;
+		int start = position;
+
+		if (buffer[start + length] != '"') {
+			return false;
+		}
+
+		// Only ASCII names match byte by byte
+		for (int i = 0; i < length; i++) {
+			byte b = buffer[start + i];
+
+			if (b != name.charAt(i) || b == '"' || b == '\\' || b < 0) {
+				return false;
+			}
+		}
+
+		position = start + length + 1;
+
+		return true;
+	}
+
+	@Override
+	String parseString() throws JsonException {
+		// ASCII fast path: copy the bytes when there are no escapes
+		byte[] buffer = this.buffer;
+		int start = position;
+		int pos = ByteScanner.indexOfQuoteBackslashOrNonAscii(buffer, start, limit);
+
+		if (pos < limit && buffer[pos] == '"') {
+			checkStringLength(pos - start);
+
+			position = pos + 1;
+
+			return new String(buffer, start, pos - start, StandardCharsets.ISO_8859_1);
+		}
+
+		StringBuilder builder = builder();
+
+		while (true) {
+			// ASCII runs are copied in one go, up to the next escape or multi-byte sequence
+			for (int i = start; i < pos; i++) {
+				builder.append((char) buffer[i]);
+			}
+
+			checkStringLength(builder.length());
+
+			position = pos;
+
+			if (position == this.limit && !fill(1)) {
+				if (isLenient()) {
+					return builder.toString();
+				}
+
+				throw syntaxError("Unterminated string");
+			}
+
+			buffer = this.buffer;
+
+			byte b = buffer[position++];
+
+			if (b == '"') {
+				return builder.toString();
+			}
+
+			if (b == '\\') {
+				appendEscape(builder);
+			} else if (b >= 0) {
+				builder.append((char) b);
+			} else {
+				int codePoint = decode(b);
+
+				if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+					builder.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+				} else {
+					builder.append((char) codePoint);
+				}
+			}
+
+			buffer = this.buffer;
+			start = position;
+			pos = ByteScanner.indexOfQuoteBackslashOrNonAscii(buffer, start, this.limit);
+		}
+	}
+
+	@Override
+	void skipString() throws JsonException {
+		while (true) {
+			byte[] buffer = this.buffer;
+			int pos = position;
+			int limit = this.limit;
+
+			while ((pos = ByteScanner.indexOfQuoteOrBackslash(buffer, pos, limit)) < limit) {
+				byte b = buffer[pos++];
+
+				if (b == '"') {
+					position = pos;
+
+					return;
+				}
+
+				if (b == '\\') {
+					position = pos;
+
+					readEscapeCharacter();
+
+					buffer = this.buffer;
+					pos = position;
+					limit = this.limit;
+				}
+			}
+
+			position = pos;
+
+			if (!fill(1)) {
+				if (isLenient()) {
+					return;
+				}
+
+				throw syntaxError("Unterminated string");
+			}
+		}
+	}
+
+	/**
+	 * Reads an escape sequence. The backslash must be already consumed.
+	 * 
+	 * @return The escaped character, or <code>-1</code> if the escape sequence is
+	 *         malformed and dropped, when lenient.
+	 * @throws JsonException Error reading the input or malformed escape sequence.
+	 */
+	private int readEscapeCharacter() throws JsonException {
+		if (position == limit && !fill(1)) {
+			if (isLenient()) {
+				return -1;
+			}
+
+			throw syntaxError("Unterminated escape sequence");
+		}
+
+		byte b = buffer[position++];
+
+		switch (b) {
+		case '"':
+		case '\\':
+		case '/':
+			return (char) b;
+		case 'b':
+			return '\b';
+		case 'r':
+			return '\r';
+		case 'n':
+			return '\n';
+		case 'f':
+			return '\f';
+		case 't':
+			return '\t';
+		case 'u':
+			int value = position + 4 <= limit || fill(4) ? hexValue(buffer, position) : -1;
+
+			if (value != -1) {
+				position += 4;
+
+				return value;
+			}
+
+			if (isLenient()) {
+				return -1;
+			}
+
+			if (position + 4 > limit) {
+				throw syntaxError("Unterminated escape sequence");
+			}
+
+			throw syntaxError(
+					"Malformed escape sequence \\u" + new String(buffer, position, 4, StandardCharsets.ISO_8859_1));
+		default:
+			if (isLenient()) {
+				return -1;
+			}
+
+			throw syntaxError("Invalid escape sequence \\" + (char) (b & 0xFF));
+		}
+	}
+
+	/**
+	 * Reads an escape sequence into <code>builder</code>. The backslash must be
+	 * already consumed. An unpaired surrogate is read as <code>U+FFFD</code>.
+	 * 
+	 * @param builder The string read so far.
+	 * @throws JsonException Error reading the input or malformed escape sequence.
+	 * @see JsonReader#parseString()
+	 */
+	private void appendEscape(StringBuilder builder) throws JsonException {
+		int c = readEscapeCharacter();
+
+		if (c == -1) {
+			return;
+		}
+
+		char ch = (char) c;
+
+		if (!Character.isSurrogate(ch)) {
+			builder.append(ch);
+
+			return;
+		}
+
+		if (Character.isHighSurrogate(ch) && (position + 6 <= limit || fill(6)) && buffer[position] == '\\'
+				&& buffer[position + 1] == 'u') {
+			int low = hexValue(buffer, position + 2);
+
+			if (low != -1 && Character.isLowSurrogate((char) low)) {
+				position += 6;
+
+				builder.append(ch).append((char) low);
+
+				return;
+			}
+		}
+
+		builder.append('\uFFFD');
+	}
+
+	/**
+	 * Decodes the four hexadecimal digits of a <code>&#92;u</code> escape
+	 * sequence.
+	 * 
+	 * @param bytes The bytes.
+	 * @param index The index of the first digit.
+	 * @return The value, or <code>-1</code> if any digit is invalid.
+	 */
+	private static int hexValue(byte[] bytes, int index) {
+		int value = 0;
+
+		for (int i = index; i < index + 4; i++) {
+			int digit = hexDigit(bytes[i]);
+
+			if (digit == -1) {
+				return -1;
+			}
+
+			value = (value << 4) | digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Decodes a multi-byte UTF-8 sequence. The leading byte must be already
+	 * consumed. Malformed sequences are decoded as <code>U+FFFD</code>, like
+	 * <code>java.io.InputStreamReader</code> does.
+	 * 
+	 * @param lead The leading byte.
+	 * @return The code point.
+	 * @throws JsonException Error reading the input.
+	 */
+	private int decode(byte lead) throws JsonException {
+		int count = 0;
+		int codePoint = 0;
+		int minimum = 0;
+
+		if ((lead & 0xE0) == 0xC0) {
+			count = 1;
+			codePoint = lead & 0x1F;
+			minimum = 0x80;
+		} else if ((lead & 0xF0) == 0xE0) {
+			count = 2;
+			codePoint = lead & 0x0F;
+			minimum = 0x800;
+		} else if ((lead & 0xF8) == 0xF0) {
+			count = 3;
+			codePoint = lead & 0x07;
+			minimum = 0x10000;
+		} else {
+			return 0xFFFD;
+		}
+
+		if (position + count > limit && !fill(count)) {
+			position = limit;
+
+			return 0xFFFD;
+		}
+
+		for (int i = 0; i < count; i++) {
+			byte b = buffer[position];
+
+			if ((b & 0xC0) != 0x80) {
+				return 0xFFFD;
+			}
+
+			codePoint = (codePoint << 6) | (b & 0x3F);
+			position++;
+		}
+
+		if (codePoint < minimum || codePoint > Character.MAX_CODE_POINT
+				|| (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+			return 0xFFFD;
+		}
+
+		return codePoint;
+	}
+
+	/**
+	 * Refills the buffer from the input, keeping the bytes not consumed yet,
+	 * until at least <code>minimum</code> bytes are available. Does nothing when
+	 * parsing in place.
+	 * 
+	 * @param minimum The minimum amount of bytes available.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if there
+	 *         are enough bytes available;
+	 *         <strong><span style="color:#7f0055">false</span></strong> otherwise.
+	 * @throws JsonException Error reading the input.
+	 */
+	private boolean fill(int minimum) throws JsonException {
+		if (in == null && source == null) {
+			return false;
+		}
+
+		byte[] buffer = this.buffer;
+
+		base += position;
+
+		if (limit != position) {
+			limit -= position;
+			System.arraycopy(buffer, position, buffer, 0, limit);
+		} else {
+			limit = 0;
+		}
+
+		position = 0;
+
+		if (minimum > buffer.length) {
+			buffer = this.buffer = Arrays.copyOf(buffer, Math.max(minimum, buffer.length * 2));
+		}
+
+		if (source != null) {
+			while (limit < buffer.length) {
+				if (!source.hasRemaining()) {
+					if (sourceIndex + 1 == sources.length) {
+						break;
+					}
+
+					source = sources[++sourceIndex].duplicate();
+
+					continue;
+				}
+
+				int total = Math.min(source.remaining(), buffer.length - limit);
+
+				source.get(buffer, limit, total);
+				limit += total;
+			}
+
+			return limit >= minimum;
+		}
+
+		try {
+			int total = 0;
+			while ((total = in.read(buffer, limit, buffer.length - limit)) != -1) {
+				limit += total;
+
+				if (limit >= minimum) {
+					return true;
+				}
+			}
+		} catch (IOException e) {
+			throw new JsonException("Error reading input.", e);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks if byte is whitespace. Only ASCII whitespace is accepted between
+	 * tokens.
+	 * 
+	 * @param b The byte.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is
+	 *         whitespace; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWhitespace(byte b) {
+		if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+			return true;
+		}
+
+		return b >= 0 && b < ' ' && Character.isWhitespace((char) b);
+	}
+
+	/**
+	 * Checks if byte is word break.
+	 * 
+	 * @param b The byte.
+	 * @return <strong><span style="color:#7f0055">true</span></strong> if is word
+	 *         break; <strong><span style="color:#7f0055">false</span></strong>
+	 *         otherwise.
+	 */
+	private static boolean isWordBreak(byte b) {
+		switch (b) {
+		case '{':
+		case '}':
+		case '[':
+		case ']':
+		case ',':
+		case ':':
+		case '"':
+			return true;
+		default:
+			return isWhitespace(b);
+		}
+	}
+
+}
\ No newline at end of file
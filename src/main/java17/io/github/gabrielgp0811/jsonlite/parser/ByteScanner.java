@@ -0,0 +1,151 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite.parser;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Searches for the bytes that end a run of string contents.
+ * <p>
+ * This is the multi-release implementation for JDK 17 and newer. It reads the
+ * bytes as <code>long</code> words and tests 16 bytes per iteration with SWAR
+ * (SIMD within a register) arithmetic, falling back to one byte at a time for
+ * the tail.
+ * </p>
+ * 
+ * @author gabrielgp0811
+ */
+final class ByteScanner {
+
+	/**
+	 * View of a <code>byte[]</code> as little-endian <code>long</code> words.
+	 */
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * Each byte set to <code>0x01</code>.
+	 */
+	private static final long ONES = 0x0101010101010101L;
+
+	/**
+	 * Each byte set to <code>0x7F</code>.
+	 */
+	private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+	/**
+	 * Each byte set to <code>0x80</code>.
+	 */
+	private static final long HIGH_BITS = 0x8080808080808080L;
+
+	/**
+	 * Each byte set to a double quote.
+	 */
+	private static final long QUOTES = ONES * '"';
+
+	/**
+	 * Each byte set to a backslash.
+	 */
+	private static final long BACKSLASHES = ONES * '\\';
+
+	/**
+	 * 
+	 */
+	private ByteScanner() {
+
+	}
+
+	/**
+	 * Returns the index of the first double quote or backslash.
+	 * 
+	 * @param bytes The bytes.
+	 * @param from  The index to start from, inclusive.
+	 * @param to    The index to stop at, exclusive.
+	 * @return The index found, or <code>to</code> if none.
+	 */
+	static int indexOfQuoteOrBackslash(byte[] bytes, int from, int to) {
+		int i = from;
+
+		for (; i + 16 <= to; i += 16) {
+			long first = (long) LONGS.get(bytes, i);
+			long second = (long) LONGS.get(bytes, i + 8);
+
+			long found = zeros(first ^ QUOTES) | zeros(first ^ BACKSLASHES);
+
+			if (found != 0) {
+				return i + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+
+			found = zeros(second ^ QUOTES) | zeros(second ^ BACKSLASHES);
+
+			if (found != 0) {
+				return i + 8 + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+		}
+
+		for (; i < to; i++) {
+			byte b = bytes[i];
+
+			if (b == '"' || b == '\\') {
+				return i;
+			}
+		}
+
+		return to;
+	}
+
+	/**
+	 * Returns the index of the first double quote, backslash or non-ASCII byte.
+	 * 
+	 * @param bytes The bytes.
+	 * @param from  The index to start from, inclusive.
+	 * @param to    The index to stop at, exclusive.
+	 * @return The index found, or <code>to</code> if none.
+	 */
+	static int indexOfQuoteBackslashOrNonAscii(byte[] bytes, int from, int to) {
+		int i = from;
+
+		for (; i + 16 <= to; i += 16) {
+			long first = (long) LONGS.get(bytes, i);
+			long second = (long) LONGS.get(bytes, i + 8);
+
+			long found = zeros(first ^ QUOTES) | zeros(first ^ BACKSLASHES) | (first & HIGH_BITS);
+
+			if (found != 0) {
+				return i + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+
+			found = zeros(second ^ QUOTES) | zeros(second ^ BACKSLASHES) | (second & HIGH_BITS);
+
+			if (found != 0) {
+				return i + 8 + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+		}
+
+		for (; i < to; i++) {
+			byte b = bytes[i];
+
+			if (b == '"' || b == '\\' || b < 0) {
+				return i;
+			}
+		}
+
+		return to;
+	}
+
+	/**
+	 * Sets the high bit of each zero byte of <code>word</code>, and clears every
+	 * other bit. Unlike the usual <code>(x - 0x01..) &amp; ~x</code> trick, there
+	 * are no false positives, so the lowest bit set always marks the first zero
+	 * byte.
+	 * 
+	 * @param word The word.
+	 * @return The mask.
+	 */
+	private static long zeros(long word) {
+		return ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+	}
+
+}
\ No newline at end of file
@@ -1,17 +1,40 @@
 package io.github.gabrielgp0811.jsonlite;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -19,14 +42,38 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import io.github.gabrielgp0811.jsonlite.constants.JsonStrings;
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonBindingDeserializerImpl;
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonDeserializerImpl;
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonNonBlockingDeserializerImpl;
+import io.github.gabrielgp0811.jsonlite.converter.impl.JsonParallelDeserializerImpl;
 import io.github.gabrielgp0811.jsonlite.exception.JsonException;
 import io.github.gabrielgp0811.jsonlite.impl.JsonBoolean;
+import io.github.gabrielgp0811.jsonlite.impl.JsonCollection;
+import io.github.gabrielgp0811.jsonlite.impl.JsonDoubleArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonIntArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyCollection;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyNumber;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyObject;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLazyString;
 import io.github.gabrielgp0811.jsonlite.impl.JsonLocalDate;
 import io.github.gabrielgp0811.jsonlite.impl.JsonLocalDateTime;
 import io.github.gabrielgp0811.jsonlite.impl.JsonLocalTime;
+import io.github.gabrielgp0811.jsonlite.impl.JsonLongArray;
+import io.github.gabrielgp0811.jsonlite.impl.JsonNull;
 import io.github.gabrielgp0811.jsonlite.impl.JsonNumber;
 import io.github.gabrielgp0811.jsonlite.impl.JsonObject;
+import io.github.gabrielgp0811.jsonlite.impl.JsonPackedArray;
 import io.github.gabrielgp0811.jsonlite.impl.JsonString;
+import io.github.gabrielgp0811.jsonlite.parser.JsonHandler;
+import io.github.gabrielgp0811.jsonlite.parser.JsonPathFilter;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReader;
+import io.github.gabrielgp0811.jsonlite.parser.JsonReaderPool;
+import io.github.gabrielgp0811.jsonlite.parser.JsonSymbolTable;
+import io.github.gabrielgp0811.jsonlite.parser.JsonTape;
+import io.github.gabrielgp0811.jsonlite.parser.JsonToken;
+import io.github.gabrielgp0811.jsonlite.parser.MappedJsonFile;
+import io.github.gabrielgp0811.jsonlite.parser.ParserLimits;
+import io.github.gabrielgp0811.jsonlite.parser.Utf8JsonReader;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class JsonTest {
@@ -323,4 +370,1544 @@ public class JsonTest {
 		LOGGER.info(Json.fromJson(jsonUser).toJavaObject(User.class).toString());
 	}
 
+	@Test
+	@Order(18)
+	public void testDeserializerCharArray() throws JsonException {
+		char[] chars = "xx {\"name\":\"Gabriel \\u0041\\n\",\"age\":35,\"tags\":[true,false,null]} xx".toCharArray();
+
+		JsonEntry<?> json = new JsonDeserializerImpl().convert(chars, 2, chars.length - 4);
+
+		Assertions.assertEquals("Gabriel A\n", json.getChild("name").getValue());
+		Assertions.assertEquals((byte) 35, json.getChild("age").getValue());
+		Assertions.assertEquals(3, json.getChild("tags").childrenSize());
+		Assertions.assertNull(Json.fromJson("   "));
+
+		LOGGER.info("jsonObject:" + json);
+	}
+
+	@Test
+	@Order(19)
+	public void testDeserializerTree() {
+		JsonEntry<?> json = Json.fromJson("{\"b\":\"x\",\"a\":[1,{\"c\":null}],\"d\":{\"e\":true}}");
+
+		Assertions.assertTrue(json instanceof JsonObject);
+		Assertions.assertEquals("b", json.getChild(0).getName());
+		Assertions.assertEquals("a", json.getChild(1).getName());
+		Assertions.assertTrue(json.getChild("a") instanceof JsonCollection);
+		Assertions.assertEquals(JsonStrings.NUMBER_NAME, json.getChild("a").getChild(0).getName());
+		Assertions.assertEquals(JsonStrings.OBJECT_NAME, json.getChild("a").getChild(1).getName());
+		Assertions.assertEquals("{b=x, a=[1, {c=null}], d={e=true}}", json.toJavaObject().toString());
+
+		LOGGER.info("jsonObject:" + json);
+	}
+
+	@Test
+	@Order(20)
+	public void testJsonReader() throws JsonException, IOException {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 2000; i++) {
+			builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"skip\":[\"a\\\"]\",{\"b\":null}]}");
+		}
+		builder.append("]");
+
+		long sum = 0;
+		try (JsonReader reader = new JsonReader(new StringReader(builder.toString()))) {
+			reader.beginArray();
+			while (reader.hasNext()) {
+				reader.beginObject();
+				while (reader.hasNext()) {
+					if (reader.nextName().equals("id")) {
+						sum += reader.nextLong();
+					} else {
+						reader.skipValue();
+					}
+				}
+				reader.endObject();
+			}
+			reader.endArray();
+			Assertions.assertEquals(JsonToken.NONE, reader.peek());
+		}
+		Assertions.assertEquals(1999L * 2000L / 2L, sum);
+
+		byte[] bytes = "{\"name\":\"José €\",\"n\":[1.5,true]}".getBytes(StandardCharsets.UTF_8);
+		try (JsonReader reader = new JsonReader(new ByteArrayInputStream(bytes))) {
+			Assertions.assertEquals(JsonToken.CURLY_OPEN, reader.nextToken());
+			Assertions.assertEquals(JsonToken.NAME, reader.nextToken());
+			Assertions.assertEquals("name", reader.getText());
+			Assertions.assertEquals(JsonToken.STRING, reader.nextToken());
+			Assertions.assertEquals("José €", reader.getText());
+			Assertions.assertEquals(JsonToken.NAME, reader.nextToken());
+			Assertions.assertEquals(JsonToken.SQUARED_OPEN, reader.nextToken());
+			Assertions.assertEquals(JsonToken.NUMBER, reader.nextToken());
+			Assertions.assertEquals(1.5d, reader.getNumber().doubleValue());
+			Assertions.assertEquals(JsonToken.TRUE, reader.nextToken());
+			Assertions.assertEquals(JsonToken.SQUARED_CLOSE, reader.nextToken());
+			Assertions.assertEquals(JsonToken.CURLY_CLOSE, reader.nextToken());
+			Assertions.assertEquals(JsonToken.NONE, reader.nextToken());
+		}
+
+		JsonEntry<?> json = new JsonDeserializerImpl().convert(new JsonReader(new StringReader(builder.toString())));
+		Assertions.assertEquals(2000, json.getChildren().size());
+
+		Assertions.assertThrows(JsonException.class, () -> new JsonReader(new StringReader("[1 2]")).skipValue());
+
+		LOGGER.info("sum:" + sum);
+	}
+
+	@Test
+	@Order(21)
+	public void testDeserializerUtf8() {
+		String text = "﻿{\"name\":\"José € 😀\",\"ascii\":\"plain\",\"escaped\":\"a\\u0041\\n\",\"n\":[1,-2.5,true,null]}";
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+		JsonEntry<?> json = Json.fromJsonBytes(bytes);
+		Assertions.assertEquals("José € 😀", json.getChild("name").getValue());
+		Assertions.assertEquals("plain", json.getChild("ascii").getValue());
+		Assertions.assertEquals("aA\n", json.getChild("escaped").getValue());
+		Assertions.assertEquals(4, json.getChild("n").getChildren().size());
+
+		byte[] padded = new byte[bytes.length + 4];
+		System.arraycopy(bytes, 0, padded, 2, bytes.length);
+		Assertions.assertEquals(json.toString(), Json.fromJsonBytes(padded, 2, bytes.length).toString());
+
+		ByteBuffer heap = ByteBuffer.wrap(padded, 2, bytes.length);
+		Assertions.assertEquals(json.toString(), Json.fromJsonBuffer(heap).toString());
+		Assertions.assertEquals(2, heap.position());
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		Assertions.assertEquals(json.toString(), Json.fromJsonBuffer(direct).toString());
+		Assertions.assertEquals(0, direct.position());
+
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 3000; i++) {
+			builder.append(i == 0 ? "" : ",").append("\"é😀\\\"").append(i).append('"');
+		}
+		bytes = builder.append("]").toString().getBytes(StandardCharsets.UTF_8);
+
+		direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		JsonEntry<?> array = Json.fromJsonBuffer(direct);
+		Assertions.assertEquals(3000, array.getChildren().size());
+		Assertions.assertEquals("é😀\"2999", array.getChild(2999).getValue());
+
+		Assertions.assertNull(Json.fromJsonBytes(new byte[] { ' ', '\n' }));
+		Assertions.assertEquals("{\"a\":null}", Json.fromJsonBytes("{\"a\":tru}".getBytes(StandardCharsets.UTF_8)).toString());
+		Assertions.assertThrows(JsonException.class,
+				() -> new JsonDeserializerImpl().convert("{\"a\":tru}".getBytes(StandardCharsets.UTF_8), 0, 9));
+
+		LOGGER.info("jsonObject:" + json);
+	}
+
+	@Test
+	@Order(22)
+	public void testDeserializerMappedFile() throws IOException, JsonException {
+		StringBuilder builder = new StringBuilder("{\"items\":[");
+		for (int i = 0; i < 200; i++) {
+			builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"item \\\"").append(i).append("\\\" ção\"}");
+		}
+		builder.append("],\"total\":200}");
+
+		Path path = Files.createTempFile("json-lite", ".json");
+		try {
+			Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_8));
+
+			JsonEntry<?> json = Json.fromJsonFile(path);
+			Assertions.assertTrue(json.getChild("total") instanceof JsonLazyNumber);
+			Assertions.assertEquals(Short.valueOf((short) 200), json.getChild("total").getValue());
+			Assertions.assertEquals(Json.fromJson(builder.toString()).toString(), json.toString());
+
+			// Small segments, so that tokens cross segment boundaries
+			JsonEntry<?> segmented = new JsonDeserializerImpl().convert(new MappedJsonFile(path, 64));
+			JsonEntry<?> item = segmented.getChild("items").getChild(199);
+			Assertions.assertTrue(item.getChild("name") instanceof JsonLazyString);
+			Assertions.assertEquals("item \"199\" ção", item.getChild("name").getValue());
+			Assertions.assertEquals(json.toString(), segmented.toString());
+		} finally {
+			Files.delete(path);
+		}
+
+		Assertions.assertNull(Json.fromJsonFile(Paths.get("does-not-exist.json")));
+	}
+
+	@Test
+	@Order(23)
+	public void testHandler() {
+		String json = "{\"id\":7,\"tags\":[\"a\",\"b\",\"c\"],\"skip\":{\"x\":[1,2]},\"active\":true,\"rest\":[1,2,3,4],\"none\":null}";
+
+		List<String> events = new ArrayList<>();
+		boolean parsed = Json.parse(json, new JsonHandler() {
+
+			@Override
+			public Signal startObject() {
+				events.add("{");
+				return Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal endObject() {
+				events.add("}");
+				return Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal startArray() {
+				events.add("[");
+				return Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal endArray() {
+				events.add("]");
+				return Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal name(String name) {
+				events.add(name + ":");
+				return name.equals("skip") ? Signal.SKIP : Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal stringValue(String value) {
+				events.add(value);
+				return value.equals("b") ? Signal.SKIP : Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal numberValue(Number value) {
+				events.add(String.valueOf(value));
+				return value.intValue() == 1 ? Signal.SKIP : Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal booleanValue(boolean value) {
+				events.add(String.valueOf(value));
+				return Signal.CONTINUE;
+			}
+
+			@Override
+			public Signal nullValue() {
+				events.add("null");
+				return Signal.CONTINUE;
+			}
+
+		});
+
+		Assertions.assertTrue(parsed);
+		Assertions.assertEquals("[{, id:, 7, tags:, [, a, b, ], skip:, active:, true, rest:, [, 1, ], none:, null, }]", events.toString());
+
+		parsed = Json.parse(json.replace(':', ' ').getBytes(StandardCharsets.UTF_8), new JsonHandler() {
+		});
+		Assertions.assertFalse(parsed);
+
+		long[] sum = new long[1];
+		Json.parse("[[1,2],[3,{\"a\":[4]}],5]".getBytes(StandardCharsets.UTF_8), new JsonHandler() {
+
+			@Override
+			public Signal numberValue(Number value) {
+				sum[0] += value.longValue();
+				return Signal.CONTINUE;
+			}
+
+		});
+		Assertions.assertEquals(15L, sum[0]);
+
+		LOGGER.info("events:" + events);
+	}
+
+	@Test
+	@Order(24)
+	public void testDeserializerLazy() {
+		StringBuilder builder = new StringBuilder("{");
+		for (int i = 0; i < 200; i++) {
+			builder.append("\"field").append(i).append("\":").append(i % 2 == 0 ? "\"v" + i + "\"" : String.valueOf(i)).append(",");
+		}
+		builder.append("\"esc\\u0061ped\":{\"list\":[1,\"two\",[3],{\"four\":4},true,null]},\"last\":false}");
+
+		JsonEntry<?> json = Json.fromJsonLazy(builder.toString());
+		Assertions.assertTrue(json instanceof JsonLazyObject);
+		Assertions.assertEquals("v198", json.getChild("field198").getValue());
+		Assertions.assertEquals((short) 199, json.getChild("field199").getValue());
+		Assertions.assertTrue(json.isChildPresent("escaped"));
+		Assertions.assertFalse(json.isChildPresent("missing"));
+		Assertions.assertNull(json.getChild("missing"));
+
+		JsonEntry<?> list = json.getChild("escaped").getChild("list");
+		Assertions.assertTrue(list instanceof JsonLazyCollection);
+		Assertions.assertEquals(6, list.childrenSize());
+		Assertions.assertEquals("two", list.getChild(1).getValue());
+		Assertions.assertEquals(4, ((Number) list.getChild(3).getChild("four").getValue()).intValue());
+		Assertions.assertSame(list.getChild(1), list.getChild(1));
+
+		Assertions.assertEquals(Json.fromJson(builder.toString()).toString(), json.toString());
+		Assertions.assertEquals(202, json.childrenSize());
+
+		User user = Json.fromJsonLazy("{\"id\":3,\"ignored\":[1,2,{\"deep\":[]}],\"username\":\"lazy\",\"Address\":{\"number\":10}}").toJavaObject(User.class);
+		Assertions.assertEquals(3, user.getId());
+		Assertions.assertEquals("lazy", user.getUsername());
+
+		Assertions.assertNull(Json.fromJsonLazy("{\"a\":1,}"));
+		Assertions.assertNull(Json.fromJsonLazy("[1 2]"));
+		Assertions.assertEquals("x", Json.fromJsonLazy(" \"x\" ").getValue());
+		Assertions.assertNull(Json.fromJsonLazy("  "));
+
+		LOGGER.info("jsonObject:" + json.getChild("escaped"));
+	}
+
+	@Test
+	@Order(25)
+	public void testDeserializerUtf8LongStrings() {
+		for (int length = 0; length < 40; length++) {
+			for (int at = 0; at <= length; at++) {
+				StringBuilder value = new StringBuilder();
+				for (int i = 0; i < length; i++) {
+					value.append(i == at ? "\\\"" : "a");
+				}
+				value.append(at % 3 == 0 ? "é" : "");
+
+				String json = "{\"value\":\"" + value + "\",\"next\":\"" + value + "\"}";
+				JsonEntry<?> expected = Json.fromJson(json);
+				JsonEntry<?> actual = Json.fromJsonBytes(json.getBytes(StandardCharsets.UTF_8));
+
+				Assertions.assertEquals(expected.toString(), actual.toString());
+				Assertions.assertEquals(expected.getChild("next").getValue(), actual.getChild("next").getValue());
+			}
+		}
+	}
+
+	@Test
+	@Order(26)
+	public void testNumbers() throws JsonException {
+		String json = "[127,128,-32769,2147483648,-9223372036854775808,9223372036854775808,0.1,-2.5e-3,1E22,1e400,123456789012345678901.5,-0]";
+		Object[] expected = { (byte) 127, (short) 128, -32769, 2147483648L, Long.MIN_VALUE,
+				new BigInteger("9223372036854775808"), 0.1, -2.5e-3, 1e22, new BigDecimal("1e400"),
+				123456789012345678901.5, (byte) 0 };
+
+		for (String variant : new String[] { "chars", "bytes" }) {
+			JsonEntry<?> array = "chars".equals(variant) ? Json.fromJson(json)
+					: Json.fromJsonBytes(json.getBytes(StandardCharsets.UTF_8));
+
+			for (int i = 0; i < expected.length; i++) {
+				Assertions.assertEquals(expected[i], array.getChild(i).getValue(), variant + " " + i);
+			}
+		}
+
+		JsonReader reader = new JsonReader(new StringReader("[\"42\",1e3,2.0,1.5,\" 7.25 \",1.2.3]"));
+		reader.beginArray();
+		Assertions.assertEquals(42, reader.nextInt());
+		Assertions.assertEquals(1000L, reader.nextLong());
+		Assertions.assertEquals(2L, reader.nextLong());
+		Assertions.assertThrows(JsonException.class, () -> reader.nextLong());
+		Assertions.assertEquals(7.25, reader.nextDouble());
+		Assertions.assertThrows(JsonException.class, () -> reader.nextNumber());
+
+		Assertions.assertThrows(JsonException.class, () -> new JsonDeserializerImpl().convert("[-]"));
+		Assertions.assertThrows(JsonException.class, () -> new JsonDeserializerImpl().convert("[1e+]"));
+		Assertions.assertThrows(JsonException.class, () -> new JsonDeserializerImpl().convert("[0x10]"));
+		Assertions.assertEquals("[null]", Json.fromJson("[-]").toString());
+		Assertions.assertEquals("[null]", Json.fromJson("[1e+]").toString());
+		Assertions.assertEquals("[null]", Json.fromJson("[0x10]").toString());
+	}
+
+	@Test
+	@Order(27)
+	public void testSymbolTable() throws JsonException {
+		String first = "{\"id\":1,\"username\":\"a\",\"escaped\\u0041\":true}";
+		String second = "{\"id\":2,\"username\":\"b\",\"escaped\\u0041\":false}";
+
+		JsonSymbolTable symbols = new JsonSymbolTable(100);
+		Assertions.assertEquals(128, symbols.capacity());
+
+		JsonDeserializerImpl deserializer = new JsonDeserializerImpl(symbols);
+		JsonEntry<?> a = deserializer.convert(first);
+		JsonEntry<?> b = deserializer.convert(second.getBytes(StandardCharsets.UTF_8), 0, second.length());
+		JsonEntry<?> c = deserializer.convert(new JsonTape(second.toCharArray(), 0, second.length()));
+
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertSame(a.getChild(i).getName(), b.getChild(i).getName());
+			Assertions.assertSame(a.getChild(i).getName(), new ArrayList<>(c.getChildren()).get(i).getName());
+		}
+		Assertions.assertEquals("escapedA", a.getChild(2).getName());
+		Assertions.assertEquals(2, ((Number) c.getChild("id").getValue()).intValue());
+
+		JsonEntry<?> plain = new JsonDeserializerImpl(null).convert(first);
+		Assertions.assertNotSame(a.getChild(1).getName(), plain.getChild(1).getName());
+		Assertions.assertEquals(a.toString(), plain.toString());
+
+		Assertions.assertSame(Json.fromJson(first).getChild(1).getName(), Json.fromJson(second).getChild(1).getName());
+
+		char[] chars = "username".toCharArray();
+		Assertions.assertSame(symbols.intern("username"), symbols.intern(chars, 0, chars.length));
+		symbols.clear();
+		Assertions.assertNotSame(a.getChild(1).getName(), symbols.intern(chars, 0, chars.length));
+	}
+
+	@Test
+	@Order(28)
+	public void testNonBlockingDeserializer() throws JsonException {
+		String text = "﻿{\"name\":\"José € 😀\",\"escaped\":\"a\\u0041\\n\\\"\",\"n\":[1,-2.5e3,123456789012,true,false,null],\"empty\":{},\"list\":[[],{\"x\":\"y\"}],\"last\":10}";
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		String expected = Json.fromJson(text.substring(1)).toString();
+
+		for (int size = 1; size <= 7; size++) {
+			JsonNonBlockingDeserializerImpl deserializer = new JsonNonBlockingDeserializerImpl();
+
+			JsonToken status = JsonToken.NEED_MORE_INPUT;
+			for (int offset = 0; offset < bytes.length; offset += size) {
+				ByteBuffer chunk = ByteBuffer.allocateDirect(Math.min(size, bytes.length - offset));
+				chunk.put(bytes, offset, chunk.capacity()).flip();
+
+				Assertions.assertEquals(JsonToken.NEED_MORE_INPUT, status);
+				status = deserializer.feed(chunk);
+				Assertions.assertFalse(chunk.hasRemaining());
+			}
+
+			Assertions.assertEquals(JsonToken.NONE, status);
+			Assertions.assertTrue(deserializer.isComplete());
+			Assertions.assertEquals(expected, deserializer.endOfInput().toString());
+		}
+
+		JsonNonBlockingDeserializerImpl number = new JsonNonBlockingDeserializerImpl();
+		Assertions.assertEquals(JsonToken.NEED_MORE_INPUT, number.feed("12".getBytes(StandardCharsets.UTF_8), 0, 2));
+		Assertions.assertEquals(JsonToken.NEED_MORE_INPUT, number.feed("34".getBytes(StandardCharsets.UTF_8), 0, 2));
+		Assertions.assertEquals((short) 1234, number.endOfInput().getValue());
+
+		Assertions.assertNull(new JsonNonBlockingDeserializerImpl().endOfInput());
+
+		JsonNonBlockingDeserializerImpl incomplete = new JsonNonBlockingDeserializerImpl();
+		incomplete.feed("{\"a\":[1,".getBytes(StandardCharsets.UTF_8), 0, 8);
+		Assertions.assertThrows(JsonException.class, () -> incomplete.endOfInput());
+
+		JsonNonBlockingDeserializerImpl malformed = new JsonNonBlockingDeserializerImpl();
+		Assertions.assertThrows(JsonException.class, () -> malformed.feed("[1 2]".getBytes(StandardCharsets.UTF_8), 0, 5));
+	}
+
+	@Test
+	@Order(29)
+	public void testJsonLines() throws JsonException, IOException {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			builder.append("{\"id\":").append(i).append(",\"username\":\"user").append(i).append("\"}");
+			builder.append(i % 100 == 0 ? "\r\n\n" : "\n");
+		}
+		builder.append("{\"id\":5000,\"username\":\"").append(new String(new char[3000]).replace('\0', 'x')).append("\"}");
+		byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+		try (Stream<JsonEntry<?>> lines = new JsonLines(bytes).setBatchSize(1024).stream()) {
+			List<JsonEntry<?>> list = lines.collect(Collectors.toList());
+
+			Assertions.assertEquals(5001, list.size());
+			for (int i = 0; i < list.size(); i++) {
+				Assertions.assertEquals(i, ((Number) list.get(i).getChild("id").getValue()).intValue());
+			}
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try (Stream<User> users = new JsonLines(new StringReader(builder.toString())).setExecutor(executor, 3)
+				.setOrdered(false).setBatchSize(512).stream(User.class)) {
+			Set<Integer> ids = users.map(User::getId).collect(Collectors.toSet());
+
+			Assertions.assertEquals(5001, ids.size());
+			Assertions.assertTrue(ids.contains(0) && ids.contains(5000));
+		} finally {
+			executor.shutdown();
+		}
+
+		Path path = Files.createTempFile("json-lite", ".jsonl");
+		try {
+			Files.write(path, "{\"id\":1}\n[1,\n\"x\"".getBytes(StandardCharsets.UTF_8));
+
+			try (Stream<JsonEntry<?>> lines = new JsonLines(path).stream()) {
+				List<JsonEntry<?>> list = lines.collect(Collectors.toList());
+
+				Assertions.assertEquals(3, list.size());
+				Assertions.assertNull(list.get(1));
+				Assertions.assertEquals("x", list.get(2).getValue());
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	@Order(30)
+	public void testParallelDeserializer() throws JsonException, IOException {
+		StringBuilder builder = new StringBuilder(" [");
+		for (int i = 0; i < 5000; i++) {
+			builder.append(i == 0 ? "" : ", ").append("{\"id\":").append(i).append(",\"tags\":[\"a,]\",\"b\\\"[\"],\"nested\":{\"x\":[")
+					.append(i % 7).append("]}}");
+		}
+		builder.append(",\"é\",12.5,null,[] ]");
+		String json = builder.toString();
+		String expected = Json.fromJson(json).toString();
+
+		Assertions.assertEquals(expected, Json.fromJsonParallel(json).toString());
+		Assertions.assertEquals(expected, new JsonParallelDeserializerImpl()
+				.convert(json.getBytes(StandardCharsets.UTF_8), 0, json.getBytes(StandardCharsets.UTF_8).length).toString());
+
+		Path path = Files.createTempFile("json-lite", ".json");
+		try {
+			Files.write(path, json.getBytes(StandardCharsets.UTF_8));
+
+			Assertions.assertEquals(expected, Json.fromJsonFileParallel(path).toString());
+		} finally {
+			Files.delete(path);
+		}
+
+		Assertions.assertEquals("[]", Json.fromJsonParallel("[]").toString().replaceAll("\\s", ""));
+		Assertions.assertEquals(Json.fromJson("{\"a\":[1]}").toString(), Json.fromJsonParallel("{\"a\":[1]}").toString());
+		Assertions.assertNull(Json.fromJsonParallel("[1 2]"));
+		Assertions.assertNull(Json.fromJsonParallel("[1,,2]"));
+		Assertions.assertNull(Json.fromJsonParallel("[1,2,]"));
+		Assertions.assertNull(Json.fromJsonParallel("[{\"a\":1]"));
+		Assertions.assertNull(Json.fromJsonParallel("[1,[2]"));
+	}
+
+	@Test
+	@Order(31)
+	public void testPathFilter() throws JsonException {
+		String json = "{\"meta\":{\"skip\":[1,{\"id\":\"no\"}],\"s\":\"a\\\"}\"},\"payload\":{\"items\":[{\"id\":1,\"name\":\"a\"},"
+				+ "{\"id\":2,\"tags\":[\"x\"]},{\"name\":\"c\"}],\"a/b\":{\"c~d\":true}}}";
+
+		Assertions.assertEquals(Json.fromJson("{\"payload\":{\"items\":[{\"id\":1},{\"id\":2}]}}").toString(),
+				Json.fromJsonPaths(json, "$.payload.items[*].id").toString());
+		Assertions.assertEquals(Json.fromJson("{\"payload\":{\"items\":[{\"id\":2,\"tags\":[\"x\"]}]}}").toString(),
+				Json.fromJsonPaths(json, "/payload/items/1").toString());
+		Assertions.assertEquals(Json.fromJson("{\"meta\":{\"s\":\"a\\\"}\"},\"payload\":{\"a/b\":{\"c~d\":true}}}").toString(),
+				Json.fromJsonPaths(json, "/payload/a~1b/c~0d", "$['meta'].s").toString());
+		Assertions.assertEquals(Json.fromJson(json).toString(), Json.fromJsonPaths(json, "").toString());
+		Assertions.assertEquals(Json.fromJson(json).toString(), Json.fromJsonPaths(json, new String[0]).toString());
+		Assertions.assertEquals(0, Json.fromJsonPaths(json, "$.missing").childrenSize());
+		Assertions.assertEquals(0, Json.fromJsonPaths("[1,2]", "$.a").childrenSize());
+		Assertions.assertEquals("2", Json.fromJsonPaths("[1,[2,3]]", "$[1][0]").getChild(0).getChild(0).getValue().toString());
+		Assertions.assertNull(Json.fromJsonPaths("1", "$.a"));
+		Assertions.assertNull(Json.fromJsonPaths(json, "payload"));
+		Assertions.assertNull(Json.fromJsonPaths(json, "$..id"));
+		Assertions.assertEquals("{}", Json.fromJsonPaths("{\"a\":[1,}", "$.b").toString());
+		Assertions.assertThrows(JsonException.class, () -> new JsonDeserializerImpl()
+				.convert(new JsonReader("{\"a\":[1,}".toCharArray(), 0, 9), JsonPathFilter.compile("$.b")));
+	}
+
+	@Test
+	@Order(32)
+	public void testBindingDeserializer() throws JsonException {
+		String json = "{\"id\":7,\"skip\":{\"deep\":[1,{\"x\":\"y\"}]},\"username\":\"bind\",\"birthDate\":\"1990-01-01\","
+				+ "\"BirthDate\":\"1987-11-08\",\"Address\":{\"name\":\"Some Street\",\"number\":\"12\"},\"password\":null}";
+		User expected = Json.fromJson(json).toJavaObject(User.class);
+		User user = Json.toJavaObject(json, User.class);
+
+		Assertions.assertEquals(expected.toString(), user.toString());
+		Assertions.assertEquals(Integer.valueOf(7), user.getId());
+		Assertions.assertEquals("bind", user.getUsername());
+		Assertions.assertNotNull(user.getBirthDate());
+		Assertions.assertEquals(Json.toJavaObject("\"1987-11-08\"", Date.class, "yyyy-MM-dd"), user.getBirthDate());
+		Assertions.assertEquals("Some Street", user.getAddress().getName());
+		Assertions.assertEquals(Integer.valueOf(12), user.getAddress().getNumber());
+		Assertions.assertNull(user.getPassword());
+
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		Assertions.assertEquals(expected.toString(),
+				new JsonBindingDeserializerImpl<>(User.class).convert(bytes, 0, bytes.length).toString());
+		Assertions.assertEquals(expected.toString(), Json.toJavaObject(json, new User()).toString());
+
+		Assertions.assertEquals("Some Street", Json.toJavaObject("[{\"name\":\"Some Street\"},{}]", Address.class).getName());
+		Assertions.assertNull(Json.toJavaObject("[{\"name\":\"Some Street\"}]", new Address()));
+		Assertions.assertEquals(Integer.valueOf(1), Json.toJavaObject("{\"id\":1", User.class).getId());
+		Assertions.assertThrows(JsonException.class,
+				() -> new JsonBindingDeserializerImpl<>(User.class).convert("{\"id\":1"));
+		Assertions.assertNull(Json.toJavaObject("{\"id\":1}", String.class));
+	}
+
+	@Test
+	@Order(33)
+	public void testReaderPool() throws Exception {
+		JsonReaderPool pool = new JsonReaderPool(1);
+		JsonReader reader = pool.acquire("{\"a\":\"x\\ty\"}");
+
+		Assertions.assertEquals("x\ty", new JsonDeserializerImpl().convert(reader).getChild("a").getValue());
+		pool.release(reader);
+
+		JsonReader reused = pool.acquire("[1,\"\\u00e9\"]");
+		Assertions.assertSame(reader, reused);
+		Assertions.assertEquals(0, reused.getPosition());
+		reused.beginArray();
+		Assertions.assertEquals(1, reused.nextInt());
+		Assertions.assertEquals("\u00e9", reused.nextString());
+		reused.endArray();
+		reused.endDocument();
+		pool.release(reused);
+
+		byte[] bytes = "{\"b\":[true]}".getBytes(StandardCharsets.UTF_8);
+		Utf8JsonReader utf8 = pool.acquire(bytes, 0, bytes.length);
+		Assertions.assertEquals(Json.fromJsonBytes(bytes).toString(), new JsonDeserializerImpl().convert(utf8).toString());
+		pool.release(utf8);
+		Assertions.assertSame(utf8, pool.acquire(bytes, 0, bytes.length));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				String json = "{\"id\":" + i + ",\"name\":\"user\\n" + i + "\",\"tags\":[\"a\",{\"b\":" + i + ".5}]}";
+				String expected = new JsonDeserializerImpl().convert(new JsonReader(json.toCharArray(), 0, json.length())).toString();
+				results.add(executor.submit(() -> {
+					for (int j = 0; j < 100; j++) {
+						if (!expected.equals(Json.fromJson(json).toString())) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				Assertions.assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@Order(34)
+	void testParserLimits() throws JsonException {
+		StringBuilder deep = new StringBuilder();
+
+		for (int i = 0; i < 100000; i++) {
+			deep.append('[');
+		}
+
+		Assertions.assertNull(Json.fromJson(deep.toString()));
+
+		JsonException exception = Assertions.assertThrows(JsonException.class,
+				() -> new JsonDeserializerImpl().convert(deep.toString()));
+
+		Assertions.assertTrue(exception.getMessage().contains("depth"));
+		Assertions.assertTrue(exception.getMessage().contains("position"));
+
+		StringBuilder nested = new StringBuilder();
+
+		for (int i = 0; i < 5000; i++) {
+			nested.append("{\"a\":[");
+		}
+
+		nested.append("1");
+
+		for (int i = 0; i < 5000; i++) {
+			nested.append("]}");
+		}
+
+		JsonEntry<?> json = Json.fromJsonWithLimits(nested.toString(), ParserLimits.NONE);
+
+		Assertions.assertNotNull(json);
+		Assertions.assertNull(Json.fromJson(nested.toString()));
+
+		ParserLimits limits = ParserLimits.DEFAULT;
+		String document = "{\"name\": \"abcdef\", \"numbers\": [123456, 1], \"child\": {\"a\": 1}}";
+
+		Assertions.assertNotNull(Json.fromJsonWithLimits(document, limits));
+		Assertions.assertNull(Json.fromJsonWithLimits(document, limits.withMaxDepth(1)));
+		Assertions.assertNull(Json.fromJsonWithLimits(document, limits.withMaxStringLength(5)));
+		Assertions.assertNull(Json.fromJsonWithLimits(document, limits.withMaxNumberLength(5)));
+		Assertions.assertNull(Json.fromJsonWithLimits(document, limits.withMaxObjectMembers(2)));
+		Assertions.assertNull(Json.fromJsonWithLimits(document, limits.withMaxDocumentLength(20)));
+		Assertions.assertNotNull(Json.fromJsonWithLimits(document, limits.withMaxDepth(2).withMaxStringLength(7).withMaxNumberLength(6)
+				.withMaxObjectMembers(3).withMaxDocumentLength(document.length())));
+
+		exception = Assertions.assertThrows(JsonException.class,
+				() -> new JsonDeserializerImpl(null, ParserLimits.DEFAULT.withMaxNumberLength(5)).convert(document));
+
+		Assertions.assertEquals("Number length exceeds the maximum of 5 at position 31.", exception.getMessage());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> ParserLimits.DEFAULT.withMaxDepth(0));
+	}
+
+	@Test
+	@Order(35)
+	void testStringEscapes() throws JsonException {
+		StringBuilder builder = new StringBuilder("{\"long\":\"");
+
+		for (int i = 0; i < 3000; i++) {
+			builder.append("abc\\u00e9\\t");
+		}
+
+		builder.append("\",\"pair\":\"\\uD83D\\ude00!\",\"lone\":\"a\\uD83Db\",\"end\":\"\\uD83D\",\"low\":\"\\uDE00\"}");
+
+		String text = builder.toString();
+		StringBuilder expected = new StringBuilder();
+
+		for (int i = 0; i < 3000; i++) {
+			expected.append("abc\u00e9\t");
+		}
+
+		List<JsonEntry<?>> results = new ArrayList<>();
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+		results.add(Json.fromJson(text));
+		results.add(new JsonDeserializerImpl().convert(new JsonReader(new StringReader(text))));
+		results.add(new JsonDeserializerImpl().convert(new Utf8JsonReader(new ByteArrayInputStream(bytes))));
+		results.add(Json.fromJsonBytes(bytes));
+
+		JsonNonBlockingDeserializerImpl deserializer = new JsonNonBlockingDeserializerImpl();
+
+		for (int offset = 0; offset < bytes.length; offset += 5) {
+			deserializer.feed(bytes, offset, Math.min(5, bytes.length - offset));
+		}
+
+		results.add(deserializer.endOfInput());
+
+		for (JsonEntry<?> json : results) {
+			Assertions.assertEquals(expected.toString(), json.getChild("long").getValue());
+			Assertions.assertEquals("\uD83D\uDE00!", json.getChild("pair").getValue());
+			Assertions.assertEquals("a\uFFFDb", json.getChild("lone").getValue());
+			Assertions.assertEquals("\uFFFD", json.getChild("end").getValue());
+			Assertions.assertEquals("\uFFFD", json.getChild("low").getValue());
+		}
+
+		Assertions.assertThrows(JsonException.class, () -> new JsonDeserializerImpl().convert("{\"bad\":\"\\u00G0\"}"));
+		Assertions.assertThrows(JsonException.class,
+				() -> new JsonDeserializerImpl().convert("{\"bad\":\"\\u00".getBytes(StandardCharsets.UTF_8), 0, 12));
+		Assertions.assertEquals("00G0", Json.fromJson("{\"bad\":\"\\u00G0\"}").getChild("bad").getValue());
+		Assertions.assertEquals("00",
+				Json.fromJsonBytes("{\"bad\":\"\\u00".getBytes(StandardCharsets.UTF_8)).getChild("bad").getValue());
+	}
+
+	@Test
+	@Order(36)
+	public void testCharacterInputs() throws JsonException {
+		String json = "{\"id\":7,\"username\":\"chars\",\"Address\":{\"name\":\"Some \\\"Street\\\"\",\"number\":12}}";
+		String expected = Json.fromJson(json).toString();
+		char[] padded = ("  xx" + json + "yy").toCharArray();
+
+		Assertions.assertEquals(expected, Json.fromJson(new StringBuilder(json)).toString());
+		Assertions.assertEquals(expected, Json.fromJson(new StringBuffer(json)).toString());
+		Assertions.assertEquals(expected, Json.fromJson(CharBuffer.wrap(padded, 4, json.length())).toString());
+		Assertions.assertEquals(expected, Json.fromJson(CharBuffer.wrap(json)).toString());
+		Assertions.assertEquals(expected, Json.fromJson(padded, 4, json.length()).toString());
+		Assertions.assertEquals(expected, Json.fromJsonReader(new StringReader(json)).toString());
+		Assertions.assertEquals("{\"id\":null}", Json.fromJson(new StringBuilder("{\"id\":")).toString());
+		Assertions.assertThrows(JsonException.class,
+				() -> new JsonDeserializerImpl().convert(new StringBuilder("{\"id\":")));
+		Assertions.assertNull(Json.fromJsonReader(null));
+
+		// A null argument resolves to the String overloads
+		Assertions.assertNull(Json.fromJson(null));
+		Assertions.assertNull(Json.fromJsonPaths(null, "$.id"));
+		Assertions.assertEquals(expected, Json.fromJsonWithLimits(json, null).toString());
+
+		User user = Json.toJavaObject(json, User.class);
+
+		Assertions.assertEquals(user.toString(), Json.toJavaObject(new StringBuilder(json), User.class).toString());
+		Assertions.assertEquals(user.toString(),
+				Json.toJavaObject(CharBuffer.wrap(padded, 4, json.length()), User.class).toString());
+		Assertions.assertEquals(user.toString(), Json.toJavaObject(padded, 4, json.length(), User.class).toString());
+		Assertions.assertEquals(user.toString(), Json.toJavaObject(new StringReader(json), User.class).toString());
+		Assertions.assertEquals("Some \"Street\"", Json.toJavaObject(new StringReader(json), User.class).getAddress().getName());
+
+		StringBuilder large = new StringBuilder("[");
+
+		for (int i = 0; i < 5000; i++) {
+			large.append(i == 0 ? "" : ",").append(json);
+		}
+
+		large.append(']');
+
+		JsonEntry<?> array = Json.fromJsonReader(new StringReader(large.toString()));
+
+		Assertions.assertEquals(5000, array.childrenSize());
+		Assertions.assertEquals(expected, array.getChild(4999).toString());
+	}
+
+	@Test
+	@Order(37)
+	public void testKeyOrderPrediction() throws Exception {
+		JsonReader reader = new JsonReader(new StringReader("{\"id\":1,\"na\\u006De\":2}"));
+
+		reader.beginObject();
+		Assertions.assertFalse(reader.nextNameEquals("i"));
+		Assertions.assertFalse(reader.nextNameEquals("idx"));
+		Assertions.assertTrue(reader.nextNameEquals("id"));
+		Assertions.assertEquals(1, reader.nextInt());
+		Assertions.assertFalse(reader.nextNameEquals("name"));
+		Assertions.assertEquals("name", reader.nextName());
+		reader.close();
+
+		String ordered = "{\"id\":7,\"username\":\"bind\",\"extra\":[1,2],\"BirthDate\":\"1987-11-08\","
+				+ "\"Address\":{\"name\":\"Some Street\",\"number\":12}}";
+		String shuffled = "{\"Address\":{\"number\":12,\"name\":\"Some Street\"},\"username\":\"bind\","
+				+ "\"BirthDate\":\"1987-11-08\",\"id\":7}";
+		String expected = Json.fromJson(ordered).toJavaObject(User.class).toString();
+
+		JsonBindingDeserializerImpl.registerKeyOrder(User.class, "id", "username", "extra", "BirthDate", "Address");
+
+		try {
+			Assertions.assertArrayEquals(new String[] { "id", "username", "extra", "BirthDate", "Address" },
+					JsonBindingDeserializerImpl.getKeyOrder(User.class));
+			Assertions.assertEquals(expected, Json.toJavaObject(ordered, User.class).toString());
+			Assertions.assertEquals(expected, Json.toJavaObject(shuffled, User.class).toString());
+			Assertions.assertEquals(expected, new JsonBindingDeserializerImpl<>(User.class)
+					.convert(ordered.getBytes(StandardCharsets.UTF_8), 0, ordered.length()).toString());
+
+			JsonBindingDeserializerImpl.learnKeyOrder(Address.class, 3);
+
+			Json.toJavaObject("{\"name\":\"A\",\"number\":1}", Address.class);
+			Assertions.assertNull(JsonBindingDeserializerImpl.getKeyOrder(Address.class));
+			Json.toJavaObject("{\"number\":2,\"name\":\"B\"}", Address.class);
+			Json.toJavaObject("{\"name\":\"C\",\"number\":3}", Address.class);
+
+			Assertions.assertArrayEquals(new String[] { "name", "number" },
+					JsonBindingDeserializerImpl.getKeyOrder(Address.class));
+			Assertions.assertEquals(Integer.valueOf(4),
+					Json.toJavaObject("{\"number\":4,\"name\":\"D\"}", Address.class).getNumber());
+			Assertions.assertEquals("E", Json.toJavaObject("{\"name\":\"E\",\"number\":5}", Address.class).getName());
+		} finally {
+			JsonBindingDeserializerImpl.registerKeyOrder(User.class);
+			JsonBindingDeserializerImpl.registerKeyOrder(Address.class);
+		}
+
+		Assertions.assertNull(JsonBindingDeserializerImpl.getKeyOrder(User.class));
+	}
+
+	@Test
+	@Order(38)
+	public void testIndexedChildren() {
+		JsonObject json = new JsonObject("config");
+
+		for (int i = 0; i < 5000; i++) {
+			json.addChild(new JsonNumber("key" + i, i));
+		}
+
+		Assertions.assertEquals(5000, json.childrenSize());
+		Assertions.assertEquals(4321, json.getChild("key4321").getValue());
+		Assertions.assertTrue(json.isChildPresent("key0"));
+		Assertions.assertFalse(json.isChildPresent("key5000"));
+		Assertions.assertEquals("key17", json.getChild(17).getName());
+
+		json.removeChild("key17");
+		json.removeChild(0);
+
+		Assertions.assertNull(json.getChild("key17"));
+		Assertions.assertNull(json.getChild("key0"));
+		Assertions.assertEquals("key1", json.getChild(0).getName());
+		Assertions.assertEquals("key18", json.getChild(16).getName());
+		Assertions.assertEquals(4998, json.childrenSize());
+
+		json.getChildren().removeIf(child -> ((Number) child.getValue()).intValue() % 2 == 1);
+
+		Assertions.assertEquals(2499, json.childrenSize());
+		Assertions.assertNull(json.getChild("key4321"));
+		Assertions.assertEquals(4322, json.getChild("key4322").getValue());
+		Assertions.assertEquals("key2", json.getChildren().iterator().next().getName());
+
+		json.addChild(new JsonString("key17", "back"));
+
+		Assertions.assertEquals("back", json.getChild("key17").getValue());
+		Assertions.assertEquals("key17", json.getChild(json.childrenSize() - 1).getName());
+
+		JsonObject small = new JsonObject("small");
+
+		small.addChild(new JsonObject("nested").addChild(new JsonString("a", "1")));
+		small.addChild(new JsonObject("nested").addChild(new JsonString("b", "2")));
+		small.addChild(new JsonString("c", "3"));
+
+		Assertions.assertEquals(2, small.childrenSize());
+		Assertions.assertEquals("{\"a\":\"1\",\"b\":\"2\"}", small.getChild("nested").toString());
+
+		small.removeChild("nested");
+
+		Assertions.assertEquals("{\"c\":\"3\"}", small.toString());
+		Assertions.assertNull(small.getChild(5));
+		Assertions.assertNull(small.getChild(-1));
+
+		JsonEntry<?> parsed = Json.fromJson(json.toString());
+
+		Assertions.assertEquals(json.toString(), parsed.toString());
+		Assertions.assertEquals(4322, ((Number) parsed.getChild("key4322").getValue()).intValue());
+	}
+
+	@Test
+	@Order(39)
+	public void testArrayBackedCollection() {
+		JsonCollection array = new JsonCollection("numbers", 10000);
+		List<JsonEntry<?>> elements = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			elements.add(new JsonNumber(i));
+		}
+
+		array.addChildren(elements);
+		array.trimToSize();
+
+		Assertions.assertEquals(10000, array.childrenSize());
+		Assertions.assertEquals(9999, array.getChild(9999).getValue());
+		Assertions.assertNull(array.getChild(10000));
+		Assertions.assertNull(array.getChild(-1));
+
+		array.removeChild(0);
+
+		Assertions.assertEquals(9999, array.childrenSize());
+		Assertions.assertEquals(1, array.getChild(0).getValue());
+
+		array.removeChild(10000);
+		array.removeChild(-1);
+
+		Assertions.assertEquals(9999, array.childrenSize());
+
+		array.ensureCapacity(20000);
+		array.addChild(new JsonString("last"));
+
+		Assertions.assertEquals("last", array.getChild(9999).getValue());
+
+		JsonEntry<?> parsed = Json.fromJson("[1,[2,3],{\"a\":4}]");
+
+		Assertions.assertEquals((byte) 3, parsed.getChild(1).getChild(1).getValue());
+		Assertions.assertEquals((byte) 4, parsed.getChild(2).getChild("a").getValue());
+		Assertions.assertEquals("[2,3]", Json.fromJsonLazy("[1,[2,3]]").getChild(1).toString());
+	}
+
+	@Test
+	@Order(40)
+	public void testPackedArrays() {
+		JsonEntry<?> ints = Json.fromJson("[1,-2,300,70000]");
+
+		Assertions.assertTrue(ints instanceof JsonIntArray);
+		Assertions.assertEquals(4, ints.childrenSize());
+		Assertions.assertEquals("[1,-2,300,70000]", ints.toString());
+		Assertions.assertArrayEquals(new int[] { 1, -2, 300, 70000 }, ints.toJavaObject(int[].class));
+		Assertions.assertArrayEquals(new double[] { 1, -2, 300, 70000 },
+				(double[]) ((JsonIntArray) ints).toArray(double.class));
+		Assertions.assertEquals((byte) 1, ints.getChild(0).getValue());
+		Assertions.assertEquals((short) 300, ints.getChild(2).getValue());
+		Assertions.assertEquals(70000, ints.getChild(3).getValue());
+		Assertions.assertNull(ints.getChild(4));
+		Assertions.assertArrayEquals(new int[] { 1, -2, 300, 70000 }, ints.toJavaObject(int[].class));
+
+		JsonEntry<?> longs = Json.fromJson("[1,5000000000]");
+
+		Assertions.assertTrue(longs instanceof JsonLongArray);
+		Assertions.assertEquals(5000000000L, longs.getChild(1).getValue());
+		Assertions.assertEquals("[1,5000000000]", longs.toString());
+
+		JsonEntry<?> doubles = Json.fromJson("[0.5,-2.5e-3]");
+
+		Assertions.assertTrue(doubles instanceof JsonDoubleArray);
+		Assertions.assertEquals(-2.5e-3, doubles.getChild(1).getValue());
+		Assertions.assertEquals("[0.5,-0.0025]", doubles.toString());
+
+		JsonEntry<?> mixed = Json.fromJson("[1,2.5,\"a\"]");
+
+		Assertions.assertFalse(mixed instanceof JsonPackedArray);
+		Assertions.assertEquals((byte) 1, mixed.getChild(0).getValue());
+		Assertions.assertEquals(2.5f, mixed.getChild(1).getValue());
+		Assertions.assertEquals("[1,2.5,\"a\"]", mixed.toString());
+
+		Assertions.assertEquals("{\"a\":[1,2],\"b\":[3,\"c\"]}",
+				Json.fromJson("{\"a\":[1,2],\"b\":[3,\"c\"]}").toString());
+
+		JsonEntry<?> packed = Json.toJson(new int[] { 1, 2, 3 });
+
+		Assertions.assertTrue(packed instanceof JsonIntArray);
+		Assertions.assertEquals(Json.toJson(new Integer[] { 1, 2, 3 }).toString(), packed.toString());
+		Assertions.assertEquals(Json.toJson(new Integer[] { 1, 2, 3 }).toPrettyString(), packed.toPrettyString());
+		Assertions.assertEquals(1, packed.getChild(0).getValue());
+		Assertions.assertTrue(Json.toJson(new long[] { 1L }) instanceof JsonLongArray);
+		Assertions.assertTrue(Json.toJson(new double[] { 1.5 }) instanceof JsonDoubleArray);
+
+		packed.addChild(new JsonString("four"));
+
+		Assertions.assertFalse(((JsonPackedArray) packed).isPacked());
+		Assertions.assertEquals(4, packed.childrenSize());
+		Assertions.assertEquals("[1,2,3,\"four\"]", packed.toString());
+	}
+
+	@Test
+	@Order(41)
+	public void testFrozenRendering() throws Exception {
+		String text = "{\"id\":1,\"tags\":[\"a\",\"b\"],\"points\":[1,2,3],\"address\":{\"name\":\"x\",\"number\":2}}";
+		JsonEntry<?> json = Json.fromJson(text);
+
+		Assertions.assertSame(json, json.freeze());
+		Assertions.assertTrue(json.isFrozen());
+		Assertions.assertTrue(json.getChild("address").getChild("name").isFrozen());
+		Assertions.assertEquals(text, json.toString());
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			List<Future<String>> renders = new ArrayList<>();
+
+			for (int i = 0; i < 16; i++) {
+				renders.add(executor.submit(() -> json.toString()));
+			}
+
+			for (Future<String> render : renders) {
+				Assertions.assertEquals(text, render.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> json.addChild(new JsonString("s", "v")));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> json.removeChild("id"));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> json.getChildren().clear());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> json.getChild("tags").removeChild(0));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> json.setObjectChild(true));
+
+		JsonEntry<?> points = json.getChild("points");
+
+		Assertions.assertEquals(3, points.getChildren().size());
+		Assertions.assertTrue(((JsonPackedArray) points).isPacked());
+
+		StringBuilder builder = new StringBuilder();
+
+		json.getChild("address").appendTo(builder, true, false, 0, null);
+
+		Assertions.assertEquals("\"address\":{\"name\":\"x\",\"number\":2}", builder.toString());
+		Assertions.assertFalse(json.getChild("address").isObjectChild());
+
+		JsonObject object = new JsonObject("root");
+
+		object.addChild(new JsonString("s", "v") {
+
+			@Override
+			public JsonEntry<String> clone() {
+				throw new AssertionError("Rendering must not copy");
+			}
+
+		});
+
+		Assertions.assertEquals("{\"s\":\"v\"}", object.toString());
+		Assertions.assertEquals(Json.fromJson(text).toPrettyString(), json.toPrettyString());
+		Assertions.assertEquals(text, Json.fromJsonLazy(text).freeze().toString());
+	}
+
+	@Test
+	@Order(42)
+	public void testSharedElements() throws JsonException {
+		JsonEntry<?> parsed = Json.fromJson("[true,false,null,1,1,300,{\"a\":true}]");
+
+		// Until the array is frozen, its elements are its own and can be changed
+		Assertions.assertNotSame(JsonBoolean.TRUE, parsed.getChild(0));
+		Assertions.assertNotSame(JsonNull.NULL, parsed.getChild(2));
+		Assertions.assertNotSame(parsed.getChild(3), parsed.getChild(4));
+		Assertions.assertFalse(parsed.getChild(0).isFrozen());
+		((JsonBoolean) parsed.getChild(1)).setValue(true);
+		((JsonNumber) parsed.getChild(5)).setValue(5);
+		Assertions.assertEquals("[true,true,null,1,1,5,{\"a\":true}]", parsed.toString());
+		((JsonBoolean) parsed.getChild(1)).setValue(false);
+
+		// Once frozen, they're the shared instances
+		parsed.freeze();
+
+		Assertions.assertSame(JsonBoolean.TRUE, parsed.getChild(0));
+		Assertions.assertSame(JsonBoolean.FALSE, parsed.getChild(1));
+		Assertions.assertSame(JsonNull.NULL, parsed.getChild(2));
+		Assertions.assertSame(parsed.getChild(3), parsed.getChild(4));
+		Assertions.assertSame(JsonNumber.valueOf(5), parsed.getChild(5));
+		Assertions.assertEquals((byte) 1, parsed.getChild(3).getValue());
+		Assertions.assertNotSame(JsonBoolean.TRUE, parsed.getChild(6).getChild("a"));
+		Assertions.assertEquals("[true,false,null,1,1,5,{\"a\":true}]", parsed.toString());
+		Assertions.assertNotSame(JsonBoolean.TRUE, Json.fromJson("true").freeze());
+		Assertions.assertThrows(UnsupportedOperationException.class,
+				() -> ((JsonBoolean) parsed.getChild(0)).setValue(false));
+
+		JsonNonBlockingDeserializerImpl deserializer = new JsonNonBlockingDeserializerImpl();
+		byte[] bytes = "[true,1]".getBytes(StandardCharsets.UTF_8);
+
+		deserializer.feed(bytes, 0, bytes.length);
+
+		JsonEntry<?> streamed = deserializer.endOfInput();
+
+		((JsonBoolean) streamed.getChild(0)).setValue(false);
+		Assertions.assertEquals("[false,1]", streamed.toString());
+
+		JsonEntry<?> numbers = Json.fromJson("[1,2]");
+
+		((JsonNumber) numbers.getChild(0)).setValue(3);
+		Assertions.assertEquals("[3,2]", numbers.toString());
+
+		JsonEntry<?> converted = Json.toJson(Arrays.asList(true, null, 7, 7L, 1000));
+
+		Assertions.assertNotSame(JsonBoolean.TRUE, converted.getChild(0));
+		Assertions.assertNotSame(JsonNull.NULL, converted.getChild(1));
+		Assertions.assertNotSame(JsonNumber.valueOf(7), converted.getChild(2));
+		Assertions.assertEquals(7L, converted.getChild(3).getValue());
+		Assertions.assertFalse(converted.getChild(4).isFrozen());
+		Assertions.assertEquals("[true,null,7,7,1000]", converted.toString());
+
+		((JsonNumber) Json.toJson(Arrays.asList(1, 2, 3)).getChild(0)).setValue(9);
+		((JsonNumber) converted.getChild(2)).setValue(9);
+		Assertions.assertEquals("[true,null,9,7,1000]", converted.toString());
+
+		converted.freeze();
+
+		Assertions.assertSame(JsonBoolean.TRUE, converted.getChild(0));
+		Assertions.assertSame(JsonNull.NULL, converted.getChild(1));
+		Assertions.assertSame(JsonNumber.valueOf(9), converted.getChild(2));
+		Assertions.assertSame(JsonNumber.valueOf(7L), converted.getChild(3));
+
+		// Only unnamed elements are shared, so that names are kept
+		JsonEntry<?> named = new JsonCollection().addChild(new JsonBoolean("flag", true)).freeze();
+
+		Assertions.assertNotSame(JsonBoolean.TRUE, named.getChild(0));
+		Assertions.assertEquals("flag", named.getChild(0).getName());
+
+		JsonEntry<?> copy = parsed.clone();
+
+		Assertions.assertNotSame(JsonBoolean.TRUE, copy.getChild(0));
+		Assertions.assertFalse(copy.getChild(3).isFrozen());
+		((JsonBoolean) copy.getChild(0)).setValue(false);
+		((JsonNumber) copy.getChild(3)).setValue(2);
+		Assertions.assertEquals("[false,false,null,2,1,5,{\"a\":true}]", copy.toString());
+		Assertions.assertEquals("[true,false,null,1,1,5,{\"a\":true}]", parsed.toString());
+
+		JsonEntry<?> frozenCopy = Json.fromJson("{\"a\":[1,true]}").freeze().clone();
+
+		((JsonBoolean) frozenCopy.getChild("a").getChild(1)).setValue(false);
+		Assertions.assertEquals("{\"a\":[1,false]}", frozenCopy.toString());
+
+		Assertions.assertSame(JsonNumber.valueOf((short) -128), JsonNumber.valueOf((short) -128));
+		Assertions.assertNotSame(JsonNumber.valueOf(128), JsonNumber.valueOf(128));
+		Assertions.assertEquals(0.5, JsonNumber.valueOf(0.5).getValue());
+	}
+
+	@Test
+	@Order(43)
+	public void testDuplicateKeys() throws JsonException {
+		String text = "{\"a\":1,\"b\":{\"x\":1},\"a\":2,\"b\":{\"y\":2}}";
+
+		Assertions.assertEquals("{\"a\":2,\"b\":{\"y\":2}}", Json.fromJson(text).toString());
+		Assertions.assertEquals((byte) 2, Json.fromJson(text).getChild("a").getValue());
+		Assertions.assertEquals("{\"a\":2,\"b\":{\"y\":2}}", Json.fromJsonLazy(text).toString());
+		Assertions.assertEquals((byte) 2, Json.fromJsonLazy(text).getChild("a").getValue());
+		Assertions.assertEquals("{\"a\":2}", Json.fromJsonPaths(text, "$.a").toString());
+
+		JsonNonBlockingDeserializerImpl deserializer = new JsonNonBlockingDeserializerImpl();
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		deserializer.feed(bytes, 0, bytes.length);
+		Assertions.assertEquals("{\"a\":2,\"b\":{\"y\":2}}", deserializer.endOfInput().toString());
+
+		StringBuilder many = new StringBuilder("{");
+		for (int i = 0; i < 10; i++) {
+			many.append("\"k").append(i).append("\":").append(i).append(',');
+		}
+		many.append("\"k0\":10}");
+
+		JsonEntry<?> indexed = Json.fromJson(many.toString());
+		Assertions.assertEquals(10, indexed.childrenSize());
+		Assertions.assertEquals((byte) 10, indexed.getChild("k0").getValue());
+		Assertions.assertEquals("k0", indexed.getChild(0).getName());
+
+		String address = "{\"name\":\"A\",\"number\":1,\"name\":\"B\",\"number\":2}";
+		Assertions.assertEquals("B", Json.toJavaObject(Json.fromJson(address), Address.class).getName());
+		Assertions.assertEquals(Integer.valueOf(2),
+				Json.toJavaObject(Json.fromJson(address), Address.class).getNumber());
+		Assertions.assertEquals("B", new JsonBindingDeserializerImpl<>(Address.class).convert(address).getName());
+		Assertions.assertEquals(Integer.valueOf(2),
+				new JsonBindingDeserializerImpl<>(Address.class).convert(address).getNumber());
+	}
+
+	@Test
+	@Order(44)
+	public void testParsedValues() {
+		JsonEntry<?> array = Json.fromJson("[5,600,\"x\",[true],{\"a\":null}]");
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("a", null);
+
+		Assertions.assertEquals(Arrays.asList((byte) 5, (short) 600, "x", Arrays.asList(true), nested),
+				array.getValue());
+		Assertions.assertEquals(Arrays.asList((short) 1000, (short) 2000), Json.fromJson("[1000,2000]").getValue());
+		Assertions.assertEquals(Arrays.asList(1, 2), Json.toJson(Arrays.asList(1, 2)).getValue());
+
+		JsonEntry<?> object = Json.fromJson("{\"a\":1,\"b\":[2]}");
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("a", (byte) 1);
+		expected.put("b", Arrays.asList((byte) 2));
+
+		Assertions.assertEquals(expected, object.getValue());
+		Assertions.assertEquals(expected, Json.fromJsonLazy("{\"a\":1,\"b\":[2]}").getValue());
+		Assertions.assertEquals(expected, object.freeze().getValue());
+
+		object = Json.fromJson("{\"a\":1}");
+		((JsonObject) object).putChild(new JsonString("a", "y"));
+		Assertions.assertEquals("y", ((Map<?, ?>) object.getValue()).get("a"));
+	}
+
+	@Test
+	@Order(45)
+	public void testMalformedMappedFile() throws IOException, JsonException {
+		Path path = Files.createTempFile("json-lite", ".json");
+		try {
+			for (String malformed : new String[] { "{\"a\":1x}", "[1,-]", "[1.5e]", "{\"a\":\"\\x\"}" }) {
+				Files.write(path, malformed.getBytes(StandardCharsets.UTF_8));
+
+				Assertions.assertNull(Json.fromJsonFile(path), malformed);
+				Assertions.assertThrows(JsonException.class,
+						() -> new JsonDeserializerImpl().convert(new MappedJsonFile(path, 64)), malformed);
+			}
+
+			Files.write(path, "{\"a\":-1.5e+3,\"b\":\"\\u0041\\n\"}".getBytes(StandardCharsets.UTF_8));
+
+			JsonEntry<?> json = Json.fromJsonFile(path);
+			Assertions.assertEquals(-1500f, json.getChild("a").getValue());
+			Assertions.assertEquals("A\n", json.getChild("b").getValue());
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	@Order(46)
+	public void testMalformedLazy() throws JsonException {
+		for (String malformed : new String[] { "{\"a\":1x}", "[1,-]", "[1.5e]", "{\"a\":\"\\x\"}", "[\"\\u12G4\"]",
+				"[\"a\\" }) {
+			Assertions.assertNull(Json.fromJsonLazy(malformed), malformed);
+			Assertions.assertThrows(JsonException.class,
+					() -> new JsonTape(malformed.toCharArray(), 0, malformed.length()), malformed);
+		}
+
+		JsonEntry<?> json = Json.fromJsonLazy("{\"a\":-1.5e+3,\"b\":\"\\u0041\\n\\/\"}");
+		Assertions.assertEquals(-1500f, json.getChild("a").getValue());
+		Assertions.assertEquals("A\n/", json.getChild("b").getValue());
+	}
+
+	@Test
+	@Order(47)
+	public void testHugeExponents() throws JsonException {
+		JsonEntry<?> json = Json.fromJson("[1e999999,-2.5E+400,1e-999999,1e308,1e999999999]");
+
+		Assertions.assertEquals(new BigDecimal("1e999999"), json.getChild(0).getValue());
+		Assertions.assertEquals(new BigDecimal("-2.5e400"), json.getChild(1).getValue());
+		Assertions.assertEquals(new BigDecimal("1e-999999"), json.getChild(2).getValue());
+		Assertions.assertEquals(1e308, json.getChild(3).getValue());
+		Assertions.assertEquals(new BigDecimal("1e999999999"), json.getChild(4).getValue());
+		Assertions.assertEquals("[1E+999999,-2.5E+400,1E-999999,1.0E308,1E+999999999]", json.toString());
+		Assertions.assertEquals(json.toString(), Json.fromJsonLazy(json.toString()).toString());
+
+		Assertions.assertEquals("[null]", Json.fromJson("[1e1000000000]").toString());
+		Assertions.assertNull(Json.fromJsonLazy("[1e-99999999999]"));
+		Assertions.assertThrows(JsonException.class,
+				() -> new JsonDeserializerImpl().convert(new JsonReader("1e1000000000".toCharArray(), 0, 12)));
+	}
+
+	@Test
+	@Order(48)
+	public void testArrayFields() throws JsonException {
+		String text = "{\"tags\":[\"a\",\"b\"],\"scores\":[1,300,70000],\"weights\":[0.5,2,-1e3]}";
+		String expected = "Profile [tags=[a, b], scores=[1, 300, 70000], weights=[0.5, 2.0, -1000.0]]";
+
+		Profile profile = Json.fromJson(text).toJavaObject(Profile.class);
+		Assertions.assertArrayEquals(new String[] { "a", "b" }, profile.getTags());
+		Assertions.assertArrayEquals(new int[] { 1, 300, 70000 }, profile.getScores());
+		Assertions.assertArrayEquals(new double[] { 0.5, 2, -1000 }, profile.getWeights());
+		Assertions.assertEquals(expected, profile.toString());
+
+		JsonEntry<?> inflated = Json.fromJson(text);
+		inflated.getChild("scores").getChildren();
+		inflated.getChild("weights").getChildren();
+		Assertions.assertEquals(expected, inflated.toJavaObject(Profile.class).toString());
+		Assertions.assertEquals(expected, Json.fromJsonLazy(text).toJavaObject(Profile.class).toString());
+
+		Profile bound = new JsonBindingDeserializerImpl<>(Profile.class).convert(text);
+		Assertions.assertArrayEquals(new String[] { "a", "b" }, bound.getTags());
+		Assertions.assertArrayEquals(new int[] { 1, 300, 70000 }, bound.getScores());
+		Assertions.assertArrayEquals(new double[] { 0.5, 2, -1000 }, bound.getWeights());
+		Assertions.assertEquals(expected, Json.toJavaObject(text, Profile.class).toString());
+
+		String mixed = "{\"tags\":[\"a\",null],\"scores\":[1,null,\"3\"]}";
+		Assertions.assertEquals("Profile [tags=[a, null], scores=[1, 0, 3], weights=null]",
+				Json.fromJson(mixed).toJavaObject(Profile.class).toString());
+		Assertions.assertEquals("Profile [tags=[a, null], scores=[1, 0, 3], weights=null]",
+				new JsonBindingDeserializerImpl<>(Profile.class).convert(mixed).toString());
+	}
+
+	@Test
+	@Order(49)
+	public void testPackedArrayMutation() {
+		JsonEntry<?> json = Json.fromJson("[1000,2000]");
+
+		Assertions.assertTrue(((JsonPackedArray) json).isPacked());
+		Assertions.assertSame(json.getChild(0), json.getChild(0));
+		Assertions.assertFalse(((JsonPackedArray) json).isPacked());
+
+		((JsonNumber) json.getChild(0)).setValue(5);
+		Assertions.assertEquals("[5,2000]", json.toString());
+
+		JsonEntry<?> small = Json.fromJson("[1,2,3]");
+		((JsonNumber) small.getChild(1)).setValue(20);
+		Assertions.assertEquals("[1,20,3]", small.toString());
+		Assertions.assertArrayEquals(new int[] { 1, 20, 3 }, small.toJavaObject(int[].class));
+
+		JsonEntry<?> frozen = Json.fromJson("[1,2000]").freeze();
+		Assertions.assertTrue(((JsonPackedArray) frozen).isPacked());
+		Assertions.assertTrue(frozen.getChild(1).isFrozen());
+		Assertions.assertThrows(UnsupportedOperationException.class,
+				() -> ((JsonNumber) frozen.getChild(1)).setValue(5));
+		Assertions.assertTrue(frozen.getChildren().stream().allMatch(JsonEntry::isFrozen));
+		Assertions.assertEquals("[1,2000]", frozen.toString());
+	}
+
+	@Test
+	@Order(50)
+	public void testTopLevelArrays() {
+		Assertions.assertArrayEquals(new int[] { 1, 2 }, Json.toJavaObject("[1,2]", int[].class));
+		Assertions.assertArrayEquals(new String[] { "a", "b" }, Json.toJavaObject("[\"a\",\"b\"]", String[].class));
+		Assertions.assertArrayEquals(new double[] { 0.5, 2 }, Json.toJavaObject("[0.5,2]", double[].class));
+		Assertions.assertArrayEquals(new int[][] { { 1, 2 }, { 3 } }, Json.toJavaObject("[[1,2],[3]]", int[][].class));
+
+		for (String json : new String[] { "[1,2]", "[1,null,\"3\"]", "[[1,2],[3]]", "[]", "[\"a\",1,true]" }) {
+			Assertions.assertArrayEquals(Json.toJavaObject(Json.fromJson(json), int[].class),
+					Json.toJavaObject(json, int[].class), json);
+			Assertions.assertArrayEquals(Json.toJavaObject(Json.fromJson(json), String[].class),
+					Json.toJavaObject(json, String[].class), json);
+			Assertions.assertArrayEquals(Json.toJavaObject(Json.fromJson(json), double[].class),
+					Json.toJavaObject(json, double[].class), json);
+			Assertions.assertArrayEquals(Json.toJavaObject(Json.fromJson(json), Integer[][].class),
+					Json.toJavaObject(json, Integer[][].class), json);
+		}
+
+		Assertions.assertArrayEquals(new int[] { 1 }, Json.toJavaObject("[[1,2]]", int[].class));
+	}
+
+	@Test
+	@Order(51)
+	public void testLenientFacade() throws JsonException {
+		Assertions.assertEquals("[1,2,3]", Json.fromJson("[1,2,3,]").toString());
+		Assertions.assertEquals("[1,2,3]", Json.fromJson("[1 2,,3]").toString());
+		Assertions.assertEquals("{\"a\":1,\"b\":2}", Json.fromJson("{\"a\":1 \"b\":2,}").toString());
+		Assertions.assertEquals("[\"abc\"]", Json.fromJson("[\"abc").toString());
+		Assertions.assertEquals("{\"a\":[1,{\"b\":true}]}", Json.fromJson("{\"a\":[1,{\"b\":true").toString());
+		Assertions.assertEquals("ab", Json.fromJson("{\"s\":\"a\\qb\"}").getChild("s").getValue());
+		Assertions.assertEquals("[null,null,null]", Json.fromJson("[.5,+1,foo]").toString());
+		Assertions.assertNull(Json.fromJson("{\"a\":foo}").getChild("a").getValue());
+		Assertions.assertEquals(1.5f, Json.fromJson("{\"a\":1.5f}").getChild("a").getValue());
+		Assertions.assertEquals("[1]", Json.fromJson("[1}").toString());
+		Assertions.assertEquals("[1,2]", Json.fromJson("[1,2] trailing").toString());
+		Assertions.assertEquals("{\"a\":1}", Json.fromJsonReader(new StringReader("{\"a\":1,}")).toString());
+		Assertions.assertEquals("{\"a\":1}", Json.fromJsonBytes("{\"a\":1,}".getBytes(StandardCharsets.UTF_8)).toString());
+		Assertions.assertEquals("{\"a\":1}", Json.fromJsonWithLimits("{\"a\":1,}", ParserLimits.DEFAULT).toString());
+		Assertions.assertEquals("Some Street", Json.toJavaObject("{\"name\":\"Some Street\",}", Address.class).getName());
+		Assertions.assertEquals("Some Street", Json.toJavaObject("{\"name\":\"Some Street\",}", new Address()).getName());
+
+		// Strict parsing stays the default of the deserializers and readers
+		for (String json : new String[] { "[1,2,3,]", "[1 2]", "{\"a\":1 \"b\":2}", "[\"abc", "[1",
+				"{\"s\":\"a\\qb\"}", "[.5]", "[+1]", "[foo]", "[1.5f]" }) {
+			Assertions.assertThrows(JsonException.class, () -> new JsonDeserializerImpl().convert(json), json);
+			Assertions.assertNotNull(Json.fromJson(json), json);
+		}
+
+		JsonReader reader = new JsonReader("[1,]".toCharArray(), 0, 4);
+
+		Assertions.assertFalse(reader.isLenient());
+		reader.setLenient(true);
+		reader.beginArray();
+		Assertions.assertEquals(1L, reader.nextLong());
+		Assertions.assertFalse(reader.hasNext());
+		reader.endArray();
+	}
+
+	@Test
+	@Order(52)
+	public void testFloatDecimals() throws JsonException {
+		JsonEntry<?> json = Json
+				.fromJson("{\"a\":1.5,\"b\":0.1,\"c\":1e3,\"d\":0.100000001490116119384765625,\"e\":1e39}");
+
+		// Decimals a float holds exactly come back as Float, as they always did
+		Assertions.assertEquals(1.5f, json.getChild("a").getValue());
+		Assertions.assertEquals(0.1, json.getChild("b").getValue());
+		Assertions.assertEquals(1000f, json.getChild("c").getValue());
+		Assertions.assertEquals(0.100000001490116119384765625, json.getChild("d").getValue());
+		Assertions.assertEquals(1e39, json.getChild("e").getValue());
+		Assertions.assertEquals("{\"a\":1.5,\"b\":0.1,\"c\":1000.0,\"d\":0.10000000149011612,\"e\":1.0E39}",
+				json.toString());
+
+		JsonEntry<?> packed = Json.fromJson("[0.25,0.1,-3.0]");
+
+		Assertions.assertTrue(packed instanceof JsonDoubleArray);
+		Assertions.assertEquals("[0.25,0.1,-3.0]", packed.toString());
+		Assertions.assertEquals(0.25f, packed.getChild(0).getValue());
+		Assertions.assertEquals(0.1, packed.getChild(1).getValue());
+		Assertions.assertEquals(-3f, packed.getChild(2).getValue());
+		Assertions.assertEquals(Double.valueOf(0.25), Json.toJson(new double[] { 0.25 }).getChild(0).getValue());
+
+		Assertions.assertEquals(2.5f, Json.fromJsonLazy("{\"a\":2.5}").getChild("a").getValue());
+
+		JsonNonBlockingDeserializerImpl deserializer = new JsonNonBlockingDeserializerImpl();
+
+		deserializer.feed("{\"a\":2.5}".getBytes(StandardCharsets.UTF_8), 0, 9);
+		Assertions.assertEquals(2.5f, deserializer.endOfInput().getChild("a").getValue());
+
+		JsonReader reader = new JsonReader("[2.0,2.5]".toCharArray(), 0, 9);
+
+		reader.beginArray();
+		Assertions.assertEquals(2L, reader.nextLong());
+		Assertions.assertEquals(2.5, reader.nextDouble());
+		reader.endArray();
+	}
+
+	@Test
+	@Order(53)
+	public void testDeepPathFilter() throws JsonException {
+		int depth = 50000;
+		StringBuilder nested = new StringBuilder();
+		StringBuilder path = new StringBuilder("$");
+
+		for (int i = 0; i < depth; i++) {
+			nested.append(i % 2 == 0 ? "[" : "{\"a\":");
+			path.append(i % 2 == 0 ? "[0]" : ".a");
+		}
+
+		nested.append("1");
+
+		for (int i = depth - 1; i >= 0; i--) {
+			nested.append(i % 2 == 0 ? "]" : "}");
+		}
+
+		ParserLimits limits = ParserLimits.DEFAULT.withMaxDepth(depth + 1);
+
+		Assertions.assertTrue(depth > ParserLimits.DEFAULT_MAX_DEPTH);
+		Assertions.assertNull(Json.fromJsonPaths(nested.toString(), path.toString()));
+
+		JsonEntry<?> json = Json.fromJsonWithLimits(nested.toString(), limits, path.toString());
+
+		Assertions.assertNotNull(json);
+
+		for (int i = 0; i < depth; i++) {
+			Assertions.assertEquals(1, json.childrenSize());
+
+			json = i % 2 == 0 ? json.getChild(0) : json.getChild("a");
+		}
+
+		Assertions.assertEquals((byte) 1, json.getValue());
+
+		// Values not selected are skipped, however deep
+		json = Json.fromJsonWithLimits("{\"b\":" + nested + ",\"c\":2}", limits, "$.c");
+
+		Assertions.assertEquals("{\"c\":2}", json.toString());
+	}
+
+	@Test
+	@Order(54)
+	public void testByteScannerMultiRelease() throws Exception {
+		String name = "io.github.gabrielgp0811.jsonlite.parser.ByteScanner";
+		Path classes = Paths.get(Json.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		Path entry = classes.resolve("META-INF/versions/17/" + name.replace('.', '/') + ".class");
+
+		// The tests run against the plain classes, so the JDK 17 entry is loaded by hand
+		Assumptions.assumeTrue(Files.exists(entry), "Multi-release entries are only built on JDK 17+");
+
+		byte[] code = Files.readAllBytes(entry);
+		Class<?> scalar = Class.forName(name);
+		Class<?> swar = new ClassLoader(null) {
+
+			@Override
+			protected Class<?> findClass(String className) throws ClassNotFoundException {
+				if (!className.equals(name)) {
+					throw new ClassNotFoundException(className);
+				}
+
+				return defineClass(className, code, 0, code.length);
+			}
+
+		}.loadClass(name);
+
+		Assertions.assertNotSame(scalar, swar);
+
+		Random random = new Random(42);
+
+		for (String method : new String[] { "indexOfQuoteOrBackslash", "indexOfQuoteBackslashOrNonAscii" }) {
+			Method expected = scalar.getDeclaredMethod(method, byte[].class, int.class, int.class);
+			Method actual = swar.getDeclaredMethod(method, byte[].class, int.class, int.class);
+
+			expected.setAccessible(true);
+			actual.setAccessible(true);
+
+			for (int i = 0; i < 5000; i++) {
+				byte[] bytes = new byte[random.nextInt(80)];
+
+				for (int j = 0; j < bytes.length; j++) {
+					bytes[j] = (byte) ('a' + random.nextInt(26));
+				}
+
+				// Up to two stop bytes, anywhere in the words or the tail
+				for (int k = random.nextInt(3); k > 0 && bytes.length > 0; k--) {
+					bytes[random.nextInt(bytes.length)] = new byte[] { '"', '\\', (byte) 0xC3 }[random.nextInt(3)];
+				}
+
+				int from = random.nextInt(bytes.length + 1);
+				int to = from + random.nextInt(bytes.length - from + 1);
+
+				Assertions.assertEquals(expected.invoke(null, bytes, from, to), actual.invoke(null, bytes, from, to),
+						method + " " + Arrays.toString(bytes) + " " + from + " " + to);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	@Order(55)
+	public void testGetValueCopies() throws JsonException {
+		JsonEntry<?> json = new JsonDeserializerImpl().convert("{\"name\":\"Gabriel\",\"tags\":[\"a\",\"b\"]}");
+		JsonEntry<?> tags = json.getChild("tags");
+
+		Map<String, Object> map = (Map<String, Object>) json.getValue();
+		Collection<Object> list = (Collection<Object>) tags.getValue();
+
+		// Each call builds a new copy of the children
+		Assertions.assertNotSame(map, json.getValue());
+		Assertions.assertEquals(map, json.getValue());
+		Assertions.assertNotSame(list, tags.getValue());
+		Assertions.assertEquals(list, tags.getValue());
+
+		// Changes to the children don't show in an earlier copy...
+		json.removeChild("name");
+		tags.addChild("c", "c", null);
+
+		Assertions.assertEquals("Gabriel", map.get("name"));
+		Assertions.assertEquals(Arrays.asList("a", "b"), list);
+		Assertions.assertFalse(((Map<String, Object>) json.getValue()).containsKey("name"));
+		Assertions.assertEquals(Arrays.asList("a", "b", "c"), tags.getValue());
+
+		// ...and changes to a copy don't reach the children
+		map.put("age", 35);
+		list.clear();
+
+		Assertions.assertNull(json.getChild("age"));
+		Assertions.assertEquals(3, tags.childrenSize());
+	}
+
+	@Test
+	@Order(56)
+	public void testIndexWhileIterating() {
+		JsonEntry<?> json = new JsonObject("object");
+
+		for (int i = 0; i < 20; i++) {
+			json.addChild("field" + i, i, null);
+		}
+
+		// Leaves holes behind, both by name and by index
+		json.removeChild("field0");
+		json.removeChild("field7");
+		json.removeChild(10);
+
+		Assertions.assertEquals(17, json.childrenSize());
+
+		int index = 0;
+
+		for (JsonEntry<?> child : json.getChildren()) {
+			// Looking up by index mustn't disturb the iteration
+			Assertions.assertSame(child, json.getChild(index));
+			Assertions.assertSame(json.getChild(json.childrenSize() - 1), json.getChild("field19"));
+			Assertions.assertSame(json.getChild(0), json.getChild("field1"));
+
+			index++;
+		}
+
+		Assertions.assertEquals(17, index);
+		Assertions.assertEquals("field13", json.getChild(10).getName());
+		Assertions.assertNull(json.getChild(17));
+
+		Assertions.assertSame(json, json.removeChild(10));
+		Assertions.assertEquals("field14", json.getChild(10).getName());
+		Assertions.assertEquals("field9", json.getChild(7).getName());
+	}
+
 }
\ No newline at end of file
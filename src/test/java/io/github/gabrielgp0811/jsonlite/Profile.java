@@ -0,0 +1,52 @@
+/**
+ * 
+ */
+package io.github.gabrielgp0811.jsonlite;
+
+import java.util.Arrays;
+
+/**
+ * @author gabrielgp0811
+ */
+public class Profile {
+
+	private String[] tags = null;
+
+	private int[] scores = null;
+
+	private double[] weights = null;
+
+	public Profile() {
+	}
+
+	public String[] getTags() {
+		return tags;
+	}
+
+	public void setTags(String[] tags) {
+		this.tags = tags;
+	}
+
+	public int[] getScores() {
+		return scores;
+	}
+
+	public void setScores(int[] scores) {
+		this.scores = scores;
+	}
+
+	public double[] getWeights() {
+		return weights;
+	}
+
+	public void setWeights(double[] weights) {
+		this.weights = weights;
+	}
+
+	@Override
+	public String toString() {
+		return "Profile [tags=" + Arrays.toString(tags) + ", scores=" + Arrays.toString(scores) + ", weights="
+				+ Arrays.toString(weights) + "]";
+	}
+
+}
\ No newline at end of file